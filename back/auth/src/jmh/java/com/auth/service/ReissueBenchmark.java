@@ -0,0 +1,141 @@
+package com.auth.service;
+
+import com.auth.config.JwtTokenProvider;
+import com.auth.config.TokenDigest;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import org.openjdk.jmh.annotations.*;
+
+import javax.crypto.SecretKey;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Refresh Token 재발급 처리량 (DB 없이 auth_token 테이블을 ConcurrentHashMap으로 대체)
+ * – legacy: 요청마다 파서 생성 + 행 조회 + 토큰 원문 비교 + 갱신
+ * – current: 공유 파서 + digest + 캐시 확인 + 조건부 교체(replace) 한 번
+ * – *Replay: 이미 교체된 토큰을 다시 제출한 경우 (거절 비용)
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 3, time = 3)
+@Fork(1)
+@Threads(8)
+public class ReissueBenchmark {
+
+    private static final String SECRET = "benchmark-secret-key-benchmark-secret-key-0123456789";
+    private static final long AT_VALIDITY = 900_000L;
+    private static final long RT_VALIDITY = 604_800_000L;
+
+    @State(Scope.Benchmark)
+    public static class Shared {
+        final JwtTokenProvider jwt = new JwtTokenProvider(SECRET, AT_VALIDITY, RT_VALIDITY);
+        final SecretKey key = Keys.hmacShaKeyFor(SECRET.getBytes(StandardCharsets.UTF_8));
+        final RefreshTokenCache cache = new RefreshTokenCache(Duration.ofSeconds(10), 100_000, Duration.ofHours(1));
+        // user_id -> refresh_token (legacy) / refresh_token_digest (current)
+        final Map<UUID, String> legacyTable = new ConcurrentHashMap<>();
+        final Map<UUID, String> digestTable = new ConcurrentHashMap<>();
+    }
+
+    @State(Scope.Thread)
+    public static class Session {
+        UUID userId;
+        String legacyRt;
+        String currentRt;
+        String replayedRt;
+
+        @Setup(Level.Trial)
+        public void setUp(Shared shared) {
+            userId = UUID.randomUUID();
+            legacyRt = shared.jwt.refresh(userId);
+            shared.legacyTable.put(userId, legacyRt);
+            currentRt = shared.jwt.refresh(userId);
+            shared.digestTable.put(userId, TokenDigest.sha256Hex(currentRt));
+
+            replayedRt = shared.jwt.refresh(userId);
+            shared.cache.revoke(TokenDigest.sha256Hex(replayedRt), Instant.now().plus(Duration.ofDays(7)));
+        }
+    }
+
+    @Benchmark
+    public Map<String, String> legacy(Shared shared, Session session) {
+        Map<String, String> tokens = legacyReissue(shared, session.legacyRt);
+        session.legacyRt = tokens.get("refreshToken");
+        return tokens;
+    }
+
+    @Benchmark
+    public Map<String, String> current(Shared shared, Session session) {
+        Map<String, String> tokens = currentReissue(shared, session.currentRt);
+        session.currentRt = tokens.get("refreshToken");
+        return tokens;
+    }
+
+    @Benchmark
+    public Object legacyReplay(Shared shared, Session session) {
+        try {
+            return legacyReissue(shared, session.replayedRt);
+        } catch (RuntimeException e) {
+            return e;
+        }
+    }
+
+    @Benchmark
+    public Object currentReplay(Shared shared, Session session) {
+        try {
+            return currentReissue(shared, session.replayedRt);
+        } catch (RuntimeException e) {
+            return e;
+        }
+    }
+
+    // 변경 전 AuthService.reissue + JwtTokenProvider.parse 흐름
+    private static Map<String, String> legacyReissue(Shared shared, String oldRt) {
+        Claims claims = Jwts.parserBuilder()
+                .setSigningKey(shared.key)
+                .build()
+                .parseClaimsJws(oldRt)
+                .getBody();
+        UUID uid = UUID.fromString(claims.getSubject());
+
+        String stored = shared.legacyTable.get(uid);
+        if (stored == null || !stored.equals(oldRt)) {
+            throw new RuntimeException("RT mismatch");
+        }
+        String newAt = shared.jwt.access(uid);
+        String newRt = shared.jwt.refresh(uid);
+        shared.legacyTable.put(uid, newRt);
+        return Map.of("accessToken", newAt, "refreshToken", newRt);
+    }
+
+    // 현재 AuthService.reissue 흐름 (조건부 UPDATE -> Map.replace)
+    private static Map<String, String> currentReissue(Shared shared, String oldRt) {
+        String oldDigest = TokenDigest.sha256Hex(oldRt);
+        Map<String, String> recentlyRotated = shared.cache.recentlyRotated(oldDigest);
+        if (recentlyRotated != null) {
+            return recentlyRotated;
+        }
+        if (shared.cache.isRevoked(oldDigest)) {
+            throw new RuntimeException("RT mismatch");
+        }
+        JwtTokenProvider.ParsedToken parsed = shared.jwt.parseToken(oldRt);
+        return shared.cache.rotateOnce(oldDigest, () -> {
+            UUID uid = parsed.userId();
+            String newAt = shared.jwt.access(uid);
+            JwtTokenProvider.RefreshToken newRt = shared.jwt.issueRefresh(uid);
+            boolean updated = shared.digestTable.replace(uid, oldDigest, TokenDigest.sha256Hex(newRt.token()));
+            shared.cache.revoke(oldDigest, parsed.expiresAt());
+            if (!updated) {
+                throw new RuntimeException("RT mismatch");
+            }
+            return Map.of("accessToken", newAt, "refreshToken", newRt.token());
+        });
+    }
+}
@@ -0,0 +1,54 @@
+package com.auth.client;
+
+import io.netty.channel.ChannelOption;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Mono;
+import reactor.netty.http.client.HttpClient;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * backend-service 사용자 등록 API 클라이언트
+ * – 이미 등록된 사용자(409)는 성공으로 처리 (outbox 재전송에 대해 멱등)
+ */
+@Component
+public class BackendUserClient {
+
+    private final WebClient web;
+    private final Duration timeout;
+
+    public BackendUserClient(
+            @Value("${backend.base-url:http://backend-service:8083}") String baseUrl,
+            @Value("${backend.connect-timeout:2s}") Duration connectTimeout,
+            @Value("${backend.timeout:3s}") Duration timeout) {
+        HttpClient httpClient = HttpClient.create()
+                .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, (int) connectTimeout.toMillis())
+                .responseTimeout(timeout);
+        this.web = WebClient.builder()
+                .baseUrl(baseUrl)
+                .clientConnector(new ReactorClientHttpConnector(httpClient))
+                .build();
+        this.timeout = timeout;
+    }
+
+    public Mono<Void> createUser(UUID userId) {
+        return web.post()
+                .uri("/api/v1/users")
+                .bodyValue(Map.of(
+                        "userId", userId.toString(),
+                        "infoCount", 0
+                ))
+                .retrieve()
+                .bodyToMono(Void.class)
+                .timeout(timeout)
+                .onErrorResume(WebClientResponseException.class, e ->
+                        e.getStatusCode().isSameCodeAs(HttpStatus.CONFLICT) ? Mono.empty() : Mono.error(e));
+    }
+}
@@ -2,7 +2,9 @@ package com.auth.config;
 
 import com.auth.domain.UserInfo;
 import com.auth.repository.UserInfoRepository;
-import lombok.RequiredArgsConstructor;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.GrantedAuthority;
@@ -15,17 +17,34 @@ import org.springframework.web.filter.OncePerRequestFilter;
 import jakarta.servlet.*;
 import jakarta.servlet.http.*;
 import java.io.IOException;
+import java.time.Duration;
 import java.util.Collections;
 import java.util.List;
 import java.util.UUID;
 
 @Component
-@RequiredArgsConstructor
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
     private final JwtTokenProvider jwt;
     private final UserInfoRepository userRepo;
 
+    // 검증이 끝난 Access Token -> 파싱 결과 (토큰 만료 시각 또는 최대 TTL 중 먼저 오는 시점까지 보관)
+    private final Cache<String, JwtTokenProvider.ParsedToken> verifiedTokens;
+
+    public JwtAuthenticationFilter(
+            JwtTokenProvider jwt,
+            UserInfoRepository userRepo,
+            @Value("${jwt.verified-cache.max-size:10000}") long cacheMaxSize,
+            @Value("${jwt.verified-cache.max-ttl:5m}") Duration cacheMaxTtl) {
+        this.jwt = jwt;
+        this.userRepo = userRepo;
+        this.verifiedTokens = Caffeine.newBuilder()
+                .maximumSize(cacheMaxSize)
+                .expireAfter(new TokenExpiry<String, JwtTokenProvider.ParsedToken>(
+                        JwtTokenProvider.ParsedToken::expiresAt, cacheMaxTtl))
+                .build();
+    }
+
     @Override
     protected void doFilterInternal(HttpServletRequest req, HttpServletResponse res,
                                     FilterChain chain) throws ServletException, IOException {
@@ -45,7 +64,8 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
             try {
                 // 1. 토큰 파싱 및 검증 -> 사용자 ID (Long) 획득
                 // jwt.parse() 내부에서 만료, 서명 등 기본 검증도 수행한다고 가정
-                UUID userId = jwt.parse(token); // 반환 타입이 Long인지 확인
+                // 캐시에 있으면 서명 검증 생략 (실패한 토큰은 캐시하지 않음)
+                UUID userId = verifiedTokens.get(token, jwt::parseToken).userId();
 
 
                 // 2. Authentication 객체 생성 (Principal로 Long 타입 userId 사용)
@@ -9,6 +9,7 @@ import org.springframework.stereotype.Component;
 
 import javax.crypto.SecretKey;
 import java.nio.charset.StandardCharsets;
+import java.time.Instant;
 import java.util.Date;
 import java.util.UUID;
 
@@ -18,6 +19,8 @@ public class JwtTokenProvider {
     private static final Logger logger = LoggerFactory.getLogger(JwtTokenProvider.class);
 
     private final SecretKey secretKey;
+    // 키와 파서는 불변/스레드 안전하므로 한 번만 생성
+    private final JwtParser parser;
     private final long at;
     private final long rt;
 
@@ -26,46 +29,77 @@ public class JwtTokenProvider {
             @Value("${jwt.access-token-validity}") long at,
             @Value("${jwt.refresh-token-validity}") long rt) {
         this.secretKey = Keys.hmacShaKeyFor(secret.getBytes(StandardCharsets.UTF_8));
+        this.parser = Jwts.parserBuilder()
+                .setSigningKey(secretKey)
+                .build();
         this.at = at;
         this.rt = rt;
     }
 
-    private String create(UUID uid, long ms) {
-        Date now = new Date();
-        return Jwts.builder()
+    private String create(UUID uid, UUID jti, Date now, Date expiration) {
+        JwtBuilder builder = Jwts.builder()
                 .setSubject(uid.toString())
                 .setIssuedAt(now)
-                .setExpiration(new Date(now.getTime() + ms))
-                .signWith(secretKey, SignatureAlgorithm.HS256)
-                .compact();
+                .setExpiration(expiration)
+                .signWith(secretKey, SignatureAlgorithm.HS256);
+        if (jti != null) {
+            builder.setId(jti.toString());
+        }
+        return builder.compact();
     }
 
     public String access(UUID id) {
-        return create(id, at);
+        Date now = new Date();
+        return create(id, null, now, new Date(now.getTime() + at));
     }
 
     public String refresh(UUID id) {
-        return create(id, rt);
+        return issueRefresh(id).token();
+    }
+
+    /**
+     * Refresh Token 발급 (jti 포함)
+     * – DB에는 토큰 원문 대신 SHA-256 digest와 jti, 만료 시각만 저장
+     */
+    public RefreshToken issueRefresh(UUID id) {
+        Date now = new Date();
+        Date expiration = new Date(now.getTime() + rt);
+        UUID jti = UUID.randomUUID();
+        return new RefreshToken(create(id, jti, now, expiration), jti, expiration.toInstant());
     }
 
     public UUID parse(String token) {
+        return parseToken(token).userId();
+    }
+
+    /**
+     * 서명/만료 검증 후 subject, jti, 만료 시각 반환
+     * – jti는 Refresh Token에만 있음 (Access Token은 null)
+     */
+    public ParsedToken parseToken(String token) {
         try {
-            Claims claims = Jwts.parserBuilder()
-                    .setSigningKey(secretKey)
-                    .build()
-                    .parseClaimsJws(token)
-                    .getBody();
+            Claims claims = parser.parseClaimsJws(token).getBody();
 
             String subject = claims.getSubject();
             if (subject == null) {
                 throw new JwtException("토큰에 사용자 ID(subject)가 없습니다.");
             }
 
-            return UUID.fromString(subject);
+            Date expiration = claims.getExpiration();
+            return new ParsedToken(
+                    UUID.fromString(subject),
+                    claims.getId() != null ? UUID.fromString(claims.getId()) : null,
+                    expiration != null ? expiration.toInstant() : Instant.MAX);
 
         } catch (JwtException | IllegalArgumentException e) {
             logger.error("❌ JWT 파싱 또는 검증 실패: {}", e.getMessage());
             throw new RuntimeException("유효하지 않은 토큰이거나 사용자 ID 파싱에 실패했습니다.", e);
         }
     }
+
+    public record RefreshToken(String token, UUID jti, Instant expiresAt) {
+    }
+
+    public record ParsedToken(UUID userId, UUID jti, Instant expiresAt) {
+    }
 }
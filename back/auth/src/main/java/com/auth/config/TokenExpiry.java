@@ -0,0 +1,42 @@
+package com.auth.config;
+
+import com.github.benmanes.caffeine.cache.Expiry;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.function.Function;
+
+/**
+ * 토큰 캐시 만료 정책: 토큰 만료 시각까지만 보관 (최대 maxTtl), 조회해도 연장하지 않음
+ */
+public class TokenExpiry<K, V> implements Expiry<K, V> {
+
+    private final Function<V, Instant> expiresAt;
+    private final Duration maxTtl;
+
+    public TokenExpiry(Function<V, Instant> expiresAt, Duration maxTtl) {
+        this.expiresAt = expiresAt;
+        this.maxTtl = maxTtl;
+    }
+
+    @Override
+    public long expireAfterCreate(K key, V value, long currentTime) {
+        Instant now = Instant.now();
+        Instant expiry = expiresAt.apply(value);
+        if (!expiry.isAfter(now)) {
+            return 0;
+        }
+        Duration untilExpiry = Duration.between(now, expiry);
+        return (untilExpiry.compareTo(maxTtl) > 0 ? maxTtl : untilExpiry).toNanos();
+    }
+
+    @Override
+    public long expireAfterUpdate(K key, V value, long currentTime, long currentDuration) {
+        return expireAfterCreate(key, value, currentTime);
+    }
+
+    @Override
+    public long expireAfterRead(K key, V value, long currentTime, long currentDuration) {
+        return currentDuration;
+    }
+}
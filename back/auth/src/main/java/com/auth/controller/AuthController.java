@@ -7,14 +7,17 @@ import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Mono;
 
 import java.util.Map;
 
+@Slf4j
 @RestController
 @RequestMapping("/auth")
 @RequiredArgsConstructor
@@ -35,23 +38,22 @@ public class AuthController {
                     @ApiResponse(responseCode = "401", description = "로그인 실패")
             }
     )
-    public ResponseEntity<Map<String, Object>> kakaoLoginWithSdkToken(@RequestBody Map<String, String> payload) {
+    public Mono<ResponseEntity<Map<String, Object>>> kakaoLoginWithSdkToken(@RequestBody Map<String, String> payload) {
         String kakaoAccessToken = payload.get("kakaoAccessToken");
-        System.out.println("카카오 SDK Access Token (모바일): " + kakaoAccessToken);
 
         if (kakaoAccessToken == null || kakaoAccessToken.trim().isEmpty()) {
-            return ResponseEntity.badRequest().body(Map.of("error", "Kakao Access Token is missing or empty."));
+            return Mono.just(ResponseEntity.badRequest().body(Map.of("error", "Kakao Access Token is missing or empty.")));
         }
 
-        try {
-            Map<String, Object> tokensAndUserId = authService.loginWithKakaoAccessToken(kakaoAccessToken); // AuthService의 새 메소드 호출
-            return ResponseEntity.ok(tokensAndUserId);
-        } catch (Exception e) {
-            e.printStackTrace(); // 서버 로그
-            // 실제로는 예외 유형에 따라 다른 메시지나 상태 코드 반환
-            return ResponseEntity.status(HttpStatus.UNAUTHORIZED) // 예: 토큰이 유효하지 않거나 사용자 정보 조회 실패 시
-                    .body(Map.of("error", "Login failed with Kakao Access Token: " + e.getMessage()));
-        }
+        // 카카오 호출 동안 서블릿 스레드를 잡지 않도록 Mono 반환 (비동기 응답)
+        return authService.loginWithKakaoAccessToken(kakaoAccessToken)
+                .map(ResponseEntity::ok)
+                .onErrorResume(e -> {
+                    log.warn("🔒 카카오 로그인 실패: {}", e.getMessage(), e);
+                    // 예: 토큰이 유효하지 않거나 사용자 정보 조회 실패 시
+                    return Mono.just(ResponseEntity.status(HttpStatus.UNAUTHORIZED)
+                            .body(Map.of("error", "Login failed with Kakao Access Token: " + e.getMessage())));
+                });
     }
 
     /**
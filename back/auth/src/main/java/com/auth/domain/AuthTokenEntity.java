@@ -3,6 +3,7 @@ package com.auth.domain;
 import jakarta.persistence.*;
 import lombok.*;
 
+import java.time.Instant;
 import java.util.UUID;
 
 @Entity @Table(name = "auth_token")
@@ -19,9 +20,20 @@ public class AuthTokenEntity {
     @JoinColumn(name = "user_id")
     private UserInfo user;
 
-    @Column(name="refresh_token", columnDefinition = "TEXT", nullable = false)
-    private String refreshToken;
+    // Refresh Token 원문 대신 SHA-256 digest (hex 64자)만 저장
+    @Column(name = "refresh_token_digest", length = 64, nullable = false)
+    private String refreshTokenDigest;
 
+    @Column(name = "jti")
+    private UUID jti;
 
-    public void updateRefreshToken(String token) { this.refreshToken = token; }
+    @Column(name = "expires_at")
+    private Instant expiresAt;
+
+
+    public void updateRefreshToken(String digest, UUID jti, Instant expiresAt) {
+        this.refreshTokenDigest = digest;
+        this.jti = jti;
+        this.expiresAt = expiresAt;
+    }
 }
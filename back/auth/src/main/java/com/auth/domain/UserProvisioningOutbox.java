@@ -0,0 +1,60 @@
+package com.auth.domain;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * 신규 사용자 backend-service 등록 대기열 (transactional outbox)
+ * – user_info 저장과 같은 트랜잭션에서 기록, UserProvisioningPoller가 비동기로 전송
+ * – 전송에 성공하면 행을 삭제, 실패하면 next_attempt_at을 늦춰 재시도
+ */
+@Entity
+@Table(name = "user_provisioning_outbox")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Builder
+public class UserProvisioningOutbox {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "user_id", nullable = false)
+    private UUID userId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", nullable = false, length = 16)
+    private Status status;
+
+    @Column(name = "attempts", nullable = false)
+    private int attempts;
+
+    @Column(name = "next_attempt_at", nullable = false)
+    private Instant nextAttemptAt;
+
+    @Column(name = "last_error", columnDefinition = "TEXT")
+    private String lastError;
+
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private Instant createdAt;
+
+    public static UserProvisioningOutbox pending(UUID userId) {
+        Instant now = Instant.now();
+        return UserProvisioningOutbox.builder()
+                .userId(userId)
+                .status(Status.PENDING)
+                .attempts(0)
+                .nextAttemptAt(now)
+                .createdAt(now)
+                .build();
+    }
+
+    public enum Status {
+        PENDING, // 전송 대기 (재시도 포함)
+        FAILED   // 최대 시도 횟수 초과, 수동 확인 필요
+    }
+}
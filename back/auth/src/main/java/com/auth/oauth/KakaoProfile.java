@@ -0,0 +1,9 @@
+package com.auth.oauth;
+
+/**
+ * 카카오 /v2/user/me 응답 중 로그인에 필요한 값만 보관
+ * @param id    카카오 사용자 고유 ID
+ * @param email 카카오 계정 이메일 (동의하지 않았으면 null)
+ */
+public record KakaoProfile(Long id, String email) {
+}
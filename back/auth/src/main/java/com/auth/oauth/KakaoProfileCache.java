@@ -0,0 +1,41 @@
+package com.auth.oauth;
+
+import com.auth.config.TokenDigest;
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+
+/**
+ * 카카오 Access Token -> 프로필 캐시
+ * – 같은 토큰으로 다시 로그인하면 카카오 API를 호출하지 않음
+ *   (카카오 토큰 유효 시간보다 짧은 kakao.profile-cache.ttl 동안만 보관)
+ * – 키는 토큰 원문 대신 SHA-256 해시
+ * – 동시에 들어온 같은 토큰 요청은 진행 중인 호출 하나를 공유, 실패한 호출은 캐시하지 않음
+ */
+@Component
+public class KakaoProfileCache {
+
+    private final KakaoAuthClient kakao;
+    private final AsyncCache<String, KakaoProfile> profiles;
+
+    public KakaoProfileCache(
+            KakaoAuthClient kakao,
+            @Value("${kakao.profile-cache.ttl:30m}") Duration ttl,
+            @Value("${kakao.profile-cache.max-size:10000}") long maxSize) {
+        this.kakao = kakao;
+        this.profiles = Caffeine.newBuilder()
+                .expireAfterWrite(ttl)
+                .maximumSize(maxSize)
+                .buildAsync();
+    }
+
+    public Mono<KakaoProfile> get(String kakaoAccessToken) {
+        return Mono.fromFuture(() -> profiles.get(TokenDigest.sha256Hex(kakaoAccessToken),
+                (key, executor) -> kakao.getKakaoUserProfile(kakaoAccessToken).toFuture()),
+                true); // 한 요청이 취소돼도 공유 중인 호출은 취소하지 않음
+    }
+}
@@ -2,7 +2,28 @@ package com.auth.repository;
 
 import com.auth.domain.AuthTokenEntity;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.time.Instant;
 import java.util.UUID;
 
-public interface AuthTokenRepository extends JpaRepository<AuthTokenEntity, UUID> {}
\ No newline at end of file
+public interface AuthTokenRepository extends JpaRepository<AuthTokenEntity, UUID> {
+
+    /**
+     * Refresh Token 교체 (조건부 UPDATE 한 번)
+     * – 저장된 digest가 제출된 토큰과 같을 때만 바꾸므로 동시 재발급 중 하나만 1을 반환
+     */
+    @Modifying
+    @Query("""
+            UPDATE AuthTokenEntity t
+               SET t.refreshTokenDigest = :newDigest, t.jti = :newJti, t.expiresAt = :expiresAt
+             WHERE t.userId = :userId AND t.refreshTokenDigest = :oldDigest
+            """)
+    int rotate(@Param("userId") UUID userId,
+               @Param("oldDigest") String oldDigest,
+               @Param("newDigest") String newDigest,
+               @Param("newJti") UUID newJti,
+               @Param("expiresAt") Instant expiresAt);
+}
\ No newline at end of file
@@ -0,0 +1,8 @@
+package com.auth.repository;
+
+import com.auth.domain.UserProvisioningOutbox;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface UserProvisioningOutboxRepository
+        extends JpaRepository<UserProvisioningOutbox, Long>, UserProvisioningOutboxRepositoryCustom {
+}
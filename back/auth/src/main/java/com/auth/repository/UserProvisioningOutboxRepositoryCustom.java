@@ -0,0 +1,26 @@
+package com.auth.repository;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+public interface UserProvisioningOutboxRepositoryCustom {
+
+    /**
+     * 전송할 차례인 PENDING 행을 최대 batchSize개 가져오면서 lease만큼 next_attempt_at을 미룸
+     * – FOR UPDATE SKIP LOCKED로 여러 인스턴스가 같은 행을 동시에 가져가지 않음
+     * – 전송 결과를 반영하기 전에 죽어도 lease가 지나면 다시 전송
+     */
+    List<ClaimedProvisioning> claimDue(int batchSize, Duration lease);
+
+    void deleteAllSent(Collection<Long> ids);
+
+    void retryLater(long id, Instant nextAttemptAt, String lastError);
+
+    void markFailed(long id, String lastError);
+
+    record ClaimedProvisioning(long id, UUID userId, int attempts) {
+    }
+}
@@ -0,0 +1,77 @@
+package com.auth.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+@RequiredArgsConstructor
+public class UserProvisioningOutboxRepositoryImpl implements UserProvisioningOutboxRepositoryCustom {
+
+    private static final String CLAIM_DUE_SQL = """
+            UPDATE user_provisioning_outbox
+               SET attempts = attempts + 1,
+                   next_attempt_at = now() + make_interval(secs => ?)
+             WHERE id IN (SELECT id
+                            FROM user_provisioning_outbox
+                           WHERE status = 'PENDING'
+                             AND next_attempt_at <= now()
+                           ORDER BY next_attempt_at
+                           LIMIT ?
+                           FOR UPDATE SKIP LOCKED)
+            RETURNING id, user_id, attempts
+            """;
+
+    private static final String DELETE_SQL = "DELETE FROM user_provisioning_outbox WHERE id = ANY (?)";
+
+    private static final String RETRY_LATER_SQL = """
+            UPDATE user_provisioning_outbox
+               SET next_attempt_at = ?, last_error = ?
+             WHERE id = ?
+            """;
+
+    private static final String MARK_FAILED_SQL = """
+            UPDATE user_provisioning_outbox
+               SET status = 'FAILED', last_error = ?
+             WHERE id = ?
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public List<ClaimedProvisioning> claimDue(int batchSize, Duration lease) {
+        return jdbcTemplate.query(CLAIM_DUE_SQL,
+                (rs, rowNum) -> new ClaimedProvisioning(
+                        rs.getLong("id"),
+                        rs.getObject("user_id", UUID.class),
+                        rs.getInt("attempts")),
+                lease.toMillis() / 1000.0, batchSize);
+    }
+
+    @Override
+    public void deleteAllSent(Collection<Long> ids) {
+        if (ids.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.update(con -> {
+            var ps = con.prepareStatement(DELETE_SQL);
+            ps.setArray(1, con.createArrayOf("bigint", ids.toArray()));
+            return ps;
+        });
+    }
+
+    @Override
+    public void retryLater(long id, Instant nextAttemptAt, String lastError) {
+        jdbcTemplate.update(RETRY_LATER_SQL, Timestamp.from(nextAttemptAt), lastError, id);
+    }
+
+    @Override
+    public void markFailed(long id, String lastError) {
+        jdbcTemplate.update(MARK_FAILED_SQL, lastError, id);
+    }
+}
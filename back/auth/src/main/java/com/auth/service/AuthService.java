@@ -1,13 +1,17 @@
 package com.auth.service;
 
 import com.auth.config.JwtTokenProvider;
+import com.auth.config.TokenDigest;
 import com.auth.domain.*;
-import com.auth.oauth.KakaoAuthClient;
+import com.auth.oauth.KakaoProfileCache;
 import com.auth.repository.*;
 import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
-import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.transaction.support.TransactionTemplate;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
 
 import java.util.HashMap;
 import java.util.Map;
@@ -17,106 +21,111 @@ import java.util.UUID;
 @RequiredArgsConstructor
 public class AuthService {
 
-    private final KakaoAuthClient kakao;
+    private final KakaoProfileCache kakaoProfiles;
     private final UserInfoRepository userRepo;
     private final AuthTokenRepository tokenRepo;
+    private final UserProvisioningOutboxRepository outboxRepo;
     private final JwtTokenProvider jwt;
-    private final WebClient webClient = WebClient.create(); // 기본 WebClient
+    private final RefreshTokenCache refreshTokens;
+    private final TransactionTemplate tx;
 
-    @Transactional // 트랜잭션 처리를 위해 추가
-    public Map<String, Object> loginWithKakaoAccessToken(String kakaoAccessToken) {
-        // 1. 카카오 Access Token으로 카카오 사용자 정보 조회
-        Map<String, Object> kakaoUserProfile = kakao.getKakaoUserProfile(kakaoAccessToken);
-
-        String email = (String) kakaoUserProfile.get("email");
-
-        // DB 스키마상 kakao_email은 NOT NULL UNIQUE 이므로, 이메일이 없으면 진행 불가
-        if (email == null || email.trim().isEmpty()) {
-            throw new RuntimeException("카카오 계정에서 이메일 정보를 가져올 수 없습니다. 이메일 제공에 동의했는지 확인해주세요.");
-        }
+    /**
+     * 카카오 로그인
+     * – 카카오 프로필 조회는 트랜잭션 밖에서 논블로킹으로 (토큰별 캐시, 타임아웃 적용)
+     * – DB 작업(사용자 조회/생성, outbox 기록, Refresh Token 저장)만 짧은 트랜잭션으로 묶음
+     * – backend-service 사용자 등록은 UserProvisioningPoller가 비동기로 처리
+     */
+    public Mono<Map<String, Object>> loginWithKakaoAccessToken(String kakaoAccessToken) {
+        return kakaoProfiles.get(kakaoAccessToken)
+                .publishOn(Schedulers.boundedElastic()) // 이후 JPA 호출은 블로킹이므로 네트워크 스레드 밖에서 실행
+                .map(profile -> {
+                    String email = profile.email();
+
+                    // DB 스키마상 kakao_email은 NOT NULL UNIQUE 이므로, 이메일이 없으면 진행 불가
+                    if (email == null || email.trim().isEmpty()) {
+                        throw new RuntimeException("카카오 계정에서 이메일 정보를 가져올 수 없습니다. 이메일 제공에 동의했는지 확인해주세요.");
+                    }
+                    try {
+                        return tx.execute(status -> issueTokens(email));
+                    } catch (DataIntegrityViolationException e) {
+                        // 같은 이메일로 동시에 가입한 경우: 먼저 커밋된 사용자로 다시 로그인
+                        return tx.execute(status -> issueTokens(email));
+                    }
+                });
+    }
 
-        // 2. DB에서 kakao_email을 기준으로 사용자 조회 또는 신규 생성
+    private Map<String, Object> issueTokens(String email) {
+        // 1. DB에서 kakao_email을 기준으로 사용자 조회 또는 신규 생성
         UserInfo user = userRepo.findByKakaoEmail(email)
                 .orElseGet(() -> {
-                    UserInfo newUser = UserInfo.builder()
+                    UserInfo savedUser = userRepo.saveAndFlush(UserInfo.builder()
                             .id(UUID.randomUUID()) // 앱 내부용 새 UUID 생성
                             .kakaoEmail(email)     // 카카오 이메일 저장
-                            .build();
-                    UserInfo savedUser = userRepo.save(newUser);
-
-                    try {
-                        String uri = "http://backend-service:8083/api/v1/users";
-
-                        // WebClient 비동기 호출 후 block()으로 동기 전환
-                        webClient.post()
-                                .uri(uri)
-                                .bodyValue(Map.of(
-                                        "userId", savedUser.getId().toString(),
-                                        "infoCount", 0
-                                ))
-                                .retrieve()
-                                .bodyToMono(Void.class)
-                                .block(); // block()을 써야 트랜잭션 중 동기 실행 가능
-
-                    } catch (Exception e) {
-                        System.err.println("신규 사용자 백엔드 등록 실패: " + e.getMessage());
-                        // throw new RuntimeException("User creation failed in backend-service");
-                    }
-
+                            .build());
+                    // backend-service 등록은 같은 트랜잭션에 outbox로만 기록 (원격 호출 없음)
+                    outboxRepo.save(UserProvisioningOutbox.pending(savedUser.getId()));
                     return savedUser;
                 });
 
-        // 3. 자체 서비스 JWT (Access Token, Refresh Token) 생성
-        //    user.getId()는 UUID 타입이므로, JwtTokenProvider가 UUID를 받거나 String으로 변환 필요
-        String appAccessToken = jwt.access(user.getId()); // JwtTokenProvider 구현에 따라 달라질 수 있음
-        String appRefreshToken = jwt.refresh(user.getId()); // JwtTokenProvider 구현에 따라 달라질 수 있음
+        // 2. 자체 서비스 JWT (Access Token, Refresh Token) 생성
+        String appAccessToken = jwt.access(user.getId());
+        JwtTokenProvider.RefreshToken appRefreshToken = jwt.issueRefresh(user.getId());
+        String digest = TokenDigest.sha256Hex(appRefreshToken.token());
 
-
-        // 4. 자체 Refresh Token을 DB에 저장 또는 업데이트
+        // 3. 자체 Refresh Token의 digest를 DB에 저장 또는 업데이트
         //    AuthTokenEntity의 ID는 UserInfo의 ID와 동일 (공유 PK)
-        final String finalAppRefreshToken = appRefreshToken; // 람다 표현식 내에서 사용하기 위해 final 또는 effectively final로 선언
         tokenRepo.findById(user.getId())
                 .ifPresentOrElse(
-                        authTokenEntity -> {
-                            authTokenEntity.updateRefreshToken(finalAppRefreshToken);
-                            // @Transactional 어노테이션으로 인해 변경 감지(dirty checking)로 업데이트될 수 있으나,
-                            // 명시적으로 save를 호출하는 것이 더 안전할 수도 있습니다 (JPA 구현체 및 설정에 따라 다름).
-                            // tokenRepo.save(authTokenEntity); // 필요하다면 추가
-                        },
-                        () -> {
-                            AuthTokenEntity newAuthTokenEntity = AuthTokenEntity.builder()
-                                    // .id(user.getId()) // @MapsId를 사용하면 user 객체 설정 시 id 자동 매핑
-                                    .user(user)
-                                    .refreshToken(finalAppRefreshToken)
-                                    .build();
-                            tokenRepo.save(newAuthTokenEntity);
-                        });
+                        authTokenEntity -> authTokenEntity.updateRefreshToken( // 변경 감지로 업데이트
+                                digest, appRefreshToken.jti(), appRefreshToken.expiresAt()),
+                        () -> tokenRepo.save(AuthTokenEntity.builder()
+                                .user(user)
+                                .refreshTokenDigest(digest)
+                                .jti(appRefreshToken.jti())
+                                .expiresAt(appRefreshToken.expiresAt())
+                                .build()));
+
         // 반환할 맵 생성 및 데이터 추가
         Map<String, Object> response = new HashMap<>();
-        response.put("userId", user.getId()); // Long 타입의 userId 추가
+        response.put("userId", user.getId());
         response.put("accessToken", appAccessToken);
-        response.put("refreshToken", appRefreshToken);
-
+        response.put("refreshToken", appRefreshToken.token());
         return response;
-//        return Map.of("accessToken", appAccessToken, "refreshToken", appRefreshToken);
     }
 
-    @Transactional
+    /**
+     * Refresh Token 재발급 (rotation)
+     * – 서명/만료 검증 후 digest로만 비교, 조건부 UPDATE 한 번으로 교체
+     * – 이미 교체됐거나 거절된 토큰은 RefreshTokenCache에서 DB 조회 없이 거절
+     * – 같은 토큰으로 동시에 들어온 재발급은 한 번만 교체하고 같은 결과 반환
+     */
     public Map<String,String> reissue(String oldRt) {
-        // jwt.parse(oldRt)가 UUID 객체를 직접 반환하므로, 변수 타입을 UUID로 변경합니다.
-        UUID uid = jwt.parse(oldRt); // 수정된 부분
+        String oldDigest = TokenDigest.sha256Hex(oldRt);
 
-        AuthTokenEntity token = tokenRepo.findById(uid)
-                .orElseThrow(() -> new RuntimeException("Invalid RT: Refresh token not found in DB."));
-        if (!token.getRefreshToken().equals(oldRt)) {
+        Map<String, String> recentlyRotated = refreshTokens.recentlyRotated(oldDigest);
+        if (recentlyRotated != null) {
+            return recentlyRotated;
+        }
+        if (refreshTokens.isRevoked(oldDigest)) {
             throw new RuntimeException("RT mismatch: Provided refresh token does not match stored token.");
         }
 
-        String newAt = jwt.access(uid);
-        String newRt = jwt.refresh(uid);
-
-        token.updateRefreshToken(newRt);
-        return Map.of("accessToken", newAt, "refreshToken", newRt);
+        JwtTokenProvider.ParsedToken parsed = jwt.parseToken(oldRt);
+
+        return refreshTokens.rotateOnce(oldDigest, () -> {
+            UUID uid = parsed.userId();
+            String newAt = jwt.access(uid);
+            JwtTokenProvider.RefreshToken newRt = jwt.issueRefresh(uid);
+
+            Integer updated = tx.execute(status -> tokenRepo.rotate(
+                    uid, oldDigest, TokenDigest.sha256Hex(newRt.token()), newRt.jti(), newRt.expiresAt()));
+            // 교체에 성공했든 실패했든 이전 토큰은 더 이상 쓸 수 없음
+            refreshTokens.revoke(oldDigest, parsed.expiresAt());
+            if (updated == null || updated == 0) {
+                throw new RuntimeException("RT mismatch: Provided refresh token does not match stored token.");
+            }
+            return Map.of("accessToken", newAt, "refreshToken", newRt.token());
+        });
     }
 
     /**
@@ -0,0 +1,98 @@
+package com.auth.service;
+
+import com.auth.config.TokenExpiry;
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Supplier;
+
+/**
+ * auth_token 테이블 앞의 Refresh Token 캐시 (키: 토큰 SHA-256 digest)
+ * – rotated: 방금 교체된 토큰 -> 발급한 새 토큰 쌍 (grace 동안만)
+ *   키보드/앱 프로세스가 같은 토큰으로 동시에 재발급하면 한 번만 교체하고 같은 결과를 돌려줌
+ *   진행 중인 교체는 미완료 future로 먼저 등록하고 DB 교체는 캐시 맵 밖(호출 스레드)에서 실행
+ *   (Cache.get 의 compute 안에서 JDBC를 돌리면 같은 해시 구간의 다른 토큰까지 막힘)
+ * – revoked: 교체됐거나 거절된 토큰 (토큰 만료 시각 또는 max-ttl까지)
+ *   재사용된 토큰은 DB 조회 없이 바로 거절
+ */
+@Component
+public class RefreshTokenCache {
+
+    private final AsyncCache<String, Map<String, String>> rotated;
+    private final Cache<String, Instant> revoked;
+
+    public RefreshTokenCache(
+            @Value("${jwt.refresh-cache.rotation-grace:10s}") Duration rotationGrace,
+            @Value("${jwt.refresh-cache.max-size:100000}") long maxSize,
+            @Value("${jwt.refresh-cache.max-ttl:1h}") Duration maxTtl) {
+        this.rotated = Caffeine.newBuilder()
+                .expireAfterWrite(rotationGrace) // 미완료 future는 완료된 시점부터 grace 계산
+                .maximumSize(maxSize)
+                .buildAsync();
+        this.revoked = Caffeine.newBuilder()
+                .expireAfter(new TokenExpiry<String, Instant>(expiresAt -> expiresAt, maxTtl))
+                .maximumSize(maxSize)
+                .build();
+    }
+
+    /**
+     * 최근 교체 결과 (교체가 진행 중이면 끝날 때까지 기다림, 실패했으면 null)
+     */
+    public Map<String, String> recentlyRotated(String digest) {
+        CompletableFuture<Map<String, String>> rotation = rotated.getIfPresent(digest);
+        if (rotation == null) {
+            return null;
+        }
+        try {
+            return rotation.join();
+        } catch (CompletionException e) {
+            return null;
+        }
+    }
+
+    public boolean isRevoked(String digest) {
+        return revoked.getIfPresent(digest) != null;
+    }
+
+    public void revoke(String digest, Instant expiresAt) {
+        revoked.put(digest, expiresAt);
+    }
+
+    /**
+     * 같은 digest에 대한 동시 교체는 한 번만 실행 (실패하면 캐시하지 않음)
+     */
+    public Map<String, String> rotateOnce(String digest, Supplier<Map<String, String>> rotation) {
+        CompletableFuture<Map<String, String>> mine = new CompletableFuture<>();
+        CompletableFuture<Map<String, String>> running = rotated.asMap().putIfAbsent(digest, mine);
+        if (running != null) {
+            return join(running);
+        }
+        try {
+            Map<String, String> result = rotation.get();
+            mine.complete(result);
+            return result;
+        } catch (RuntimeException | Error e) {
+            mine.completeExceptionally(e); // 실패한 future는 캐시에서 자동으로 제거됨
+            throw e;
+        }
+    }
+
+    private static Map<String, String> join(CompletableFuture<Map<String, String>> rotation) {
+        try {
+            return rotation.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+}
@@ -0,0 +1,112 @@
+package com.auth.service;
+
+import com.auth.client.BackendUserClient;
+import com.auth.repository.UserProvisioningOutboxRepository;
+import com.auth.repository.UserProvisioningOutboxRepositoryCustom.ClaimedProvisioning;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * user_provisioning_outbox를 주기적으로 읽어 backend-service에 신규 사용자를 등록
+ * – 행을 가져오는 트랜잭션과 결과를 반영하는 트랜잭션 사이에 원격 호출 (DB 커넥션을 잡고 기다리지 않음)
+ * – 실패하면 지수 백오프(최대 max-backoff)로 재시도, max-attempts를 넘으면 FAILED
+ */
+@Component
+public class UserProvisioningPoller {
+
+    private static final Logger logger = LoggerFactory.getLogger(UserProvisioningPoller.class);
+    private static final Duration BASE_BACKOFF = Duration.ofSeconds(1);
+    private static final int MAX_ERROR_LENGTH = 1000;
+
+    private final UserProvisioningOutboxRepository outboxRepo;
+    private final BackendUserClient backendUserClient;
+    private final TransactionTemplate tx;
+    private final int batchSize;
+    private final int concurrency;
+    private final int maxAttempts;
+    private final Duration lease;
+    private final Duration maxBackoff;
+
+    public UserProvisioningPoller(
+            UserProvisioningOutboxRepository outboxRepo,
+            BackendUserClient backendUserClient,
+            TransactionTemplate tx,
+            @Value("${outbox.user-provisioning.batch-size:50}") int batchSize,
+            @Value("${outbox.user-provisioning.concurrency:8}") int concurrency,
+            @Value("${outbox.user-provisioning.max-attempts:10}") int maxAttempts,
+            @Value("${outbox.user-provisioning.lease:30s}") Duration lease,
+            @Value("${outbox.user-provisioning.max-backoff:5m}") Duration maxBackoff) {
+        this.outboxRepo = outboxRepo;
+        this.backendUserClient = backendUserClient;
+        this.tx = tx;
+        this.batchSize = batchSize;
+        this.concurrency = concurrency;
+        this.maxAttempts = maxAttempts;
+        this.lease = lease;
+        this.maxBackoff = maxBackoff;
+    }
+
+    @Scheduled(fixedDelayString = "${outbox.user-provisioning.poll-interval:1s}")
+    public void poll() {
+        List<ClaimedProvisioning> claimed = tx.execute(status -> outboxRepo.claimDue(batchSize, lease));
+        if (claimed == null || claimed.isEmpty()) {
+            return;
+        }
+
+        List<Result> results = Flux.fromIterable(claimed)
+                .flatMap(item -> backendUserClient.createUser(item.userId())
+                        .thenReturn(new Result(item, null))
+                        .onErrorResume(e -> Mono.just(new Result(item, e))), concurrency)
+                .collectList()
+                .block();
+
+        List<Long> sent = new ArrayList<>();
+        tx.executeWithoutResult(status -> {
+            for (Result result : results) {
+                if (result.error() == null) {
+                    sent.add(result.item().id());
+                } else {
+                    handleFailure(result.item(), result.error());
+                }
+            }
+            outboxRepo.deleteAllSent(sent);
+        });
+        logger.info("📤 신규 사용자 backend 등록: 성공 {}건, 실패 {}건", sent.size(), results.size() - sent.size());
+    }
+
+    private void handleFailure(ClaimedProvisioning item, Throwable error) {
+        String message = truncate(String.valueOf(error.getMessage()));
+        if (item.attempts() >= maxAttempts) {
+            logger.error("❌ 신규 사용자 backend 등록 포기 (시도 {}회): userId={}, error={}", item.attempts(), item.userId(), message);
+            outboxRepo.markFailed(item.id(), message);
+            return;
+        }
+        logger.warn("⚠️ 신규 사용자 backend 등록 실패 (시도 {}회), 재시도 예정: userId={}, error={}", item.attempts(), item.userId(), message);
+        outboxRepo.retryLater(item.id(), Instant.now().plus(backoff(item.attempts())), message);
+    }
+
+    // 1s, 2s, 4s ... 최대 maxBackoff
+    Duration backoff(int attempts) {
+        int exponent = Math.min(Math.max(attempts - 1, 0), 20);
+        Duration delay = BASE_BACKOFF.multipliedBy(1L << exponent);
+        return delay.compareTo(maxBackoff) > 0 ? maxBackoff : delay;
+    }
+
+    private static String truncate(String message) {
+        return message.length() > MAX_ERROR_LENGTH ? message.substring(0, MAX_ERROR_LENGTH) : message;
+    }
+
+    private record Result(ClaimedProvisioning item, Throwable error) {
+    }
+}
@@ -0,0 +1,12 @@
+-- auth_token: Refresh Token 원문 대신 SHA-256 digest + jti + 만료 시각 저장
+-- (ddl-auto: none 이므로 배포 전에 직접 적용, 기존 토큰은 digest로 옮겨서 그대로 사용 가능)
+ALTER TABLE auth_token ADD COLUMN IF NOT EXISTS refresh_token_digest VARCHAR(64);
+ALTER TABLE auth_token ADD COLUMN IF NOT EXISTS jti UUID;
+ALTER TABLE auth_token ADD COLUMN IF NOT EXISTS expires_at TIMESTAMPTZ;
+
+UPDATE auth_token
+   SET refresh_token_digest = encode(sha256(convert_to(refresh_token, 'UTF8')), 'hex')
+ WHERE refresh_token_digest IS NULL;
+
+ALTER TABLE auth_token ALTER COLUMN refresh_token_digest SET NOT NULL;
+ALTER TABLE auth_token DROP COLUMN IF EXISTS refresh_token;
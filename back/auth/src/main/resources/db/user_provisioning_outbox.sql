@@ -0,0 +1,15 @@
+-- 신규 사용자 backend-service 등록 outbox (ddl-auto: none 이므로 배포 전에 직접 적용)
+CREATE TABLE IF NOT EXISTS user_provisioning_outbox (
+    id              BIGSERIAL PRIMARY KEY,
+    user_id         UUID        NOT NULL REFERENCES user_info (user_id) ON DELETE CASCADE,
+    status          VARCHAR(16) NOT NULL DEFAULT 'PENDING',
+    attempts        INT         NOT NULL DEFAULT 0,
+    next_attempt_at TIMESTAMPTZ NOT NULL DEFAULT now(),
+    last_error      TEXT,
+    created_at      TIMESTAMPTZ NOT NULL DEFAULT now()
+);
+
+-- 폴러가 전송할 차례인 PENDING 행만 빠르게 찾도록
+CREATE INDEX IF NOT EXISTS idx_user_provisioning_outbox_due
+    ON user_provisioning_outbox (next_attempt_at)
+    WHERE status = 'PENDING';
@@ -0,0 +1,48 @@
+package com.auth.oauth;
+
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class KakaoProfileCacheTest {
+
+    private final KakaoAuthClient kakao = mock(KakaoAuthClient.class);
+    private final KakaoProfileCache cache = new KakaoProfileCache(kakao, Duration.ofMinutes(30), 100);
+
+    @Test
+    void 같은_토큰의_동시_요청은_카카오를_한_번만_호출한다() {
+        AtomicInteger calls = new AtomicInteger();
+        when(kakao.getKakaoUserProfile(anyString())).thenAnswer(invocation -> Mono.delay(Duration.ofMillis(100))
+                .doOnSubscribe(s -> calls.incrementAndGet())
+                .thenReturn(new KakaoProfile(1L, "user@kakao.com")));
+
+        var profiles = Flux.range(0, 20)
+                .flatMap(i -> cache.get("kakao-token"))
+                .collectList()
+                .block();
+
+        assertThat(profiles).hasSize(20).allMatch(p -> "user@kakao.com".equals(p.email()));
+        assertThat(calls).hasValue(1);
+        assertThat(cache.get("kakao-token").block().id()).isEqualTo(1L);
+        assertThat(calls).hasValue(1);
+    }
+
+    @Test
+    void 실패한_조회는_캐시하지_않는다() {
+        when(kakao.getKakaoUserProfile(anyString()))
+                .thenReturn(Mono.error(new RuntimeException("카카오 사용자 정보 요청 실패")))
+                .thenReturn(Mono.just(new KakaoProfile(2L, "retry@kakao.com")));
+
+        assertThatThrownBy(() -> cache.get("expired-token").block()).hasMessageContaining("카카오");
+        assertThat(cache.get("expired-token").block().email()).isEqualTo("retry@kakao.com");
+    }
+}
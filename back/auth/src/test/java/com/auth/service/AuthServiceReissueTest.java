@@ -0,0 +1,110 @@
+package com.auth.service;
+
+import com.auth.config.JwtTokenProvider;
+import com.auth.config.TokenDigest;
+import com.auth.oauth.KakaoProfileCache;
+import com.auth.repository.AuthTokenRepository;
+import com.auth.repository.UserInfoRepository;
+import com.auth.repository.UserProvisioningOutboxRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class AuthServiceReissueTest {
+
+    private final JwtTokenProvider jwt = new JwtTokenProvider(
+            "reissue-test-secret-key-reissue-test-secret-key", 900_000L, 604_800_000L);
+    private final AuthTokenRepository tokenRepo = mock(AuthTokenRepository.class);
+    private final TransactionTemplate tx = mock(TransactionTemplate.class);
+
+    private AuthService authService;
+
+    @BeforeEach
+    void setUp() {
+        when(tx.execute(any())).thenAnswer(invocation ->
+                invocation.<TransactionCallback<?>>getArgument(0).doInTransaction(null));
+        RefreshTokenCache refreshTokens = new RefreshTokenCache(Duration.ofSeconds(10), 1000, Duration.ofHours(1));
+        authService = new AuthService(mock(KakaoProfileCache.class), mock(UserInfoRepository.class), tokenRepo,
+                mock(UserProvisioningOutboxRepository.class), jwt, refreshTokens, tx);
+    }
+
+    @Test
+    void 같은_토큰으로_동시에_재발급하면_한_번만_교체하고_같은_결과를_준다() {
+        UUID userId = UUID.randomUUID();
+        String refreshToken = jwt.refresh(userId);
+        CountDownLatch inRotation = new CountDownLatch(1);
+        when(tokenRepo.rotate(eq(userId), eq(TokenDigest.sha256Hex(refreshToken)), anyString(), any(), any()))
+                .thenAnswer(invocation -> {
+                    inRotation.await();
+                    return 1;
+                });
+
+        List<CompletableFuture<Map<String, String>>> calls = IntStream.range(0, 4)
+                .mapToObj(i -> CompletableFuture.supplyAsync(() -> authService.reissue(refreshToken)))
+                .toList();
+        inRotation.countDown();
+
+        List<Map<String, String>> results = calls.stream().map(CompletableFuture::join).toList();
+        assertThat(results).allMatch(result -> result.equals(results.get(0)));
+        verify(tokenRepo, times(1)).rotate(any(), anyString(), anyString(), any(), any());
+    }
+
+    @Test
+    void 다른_토큰의_재발급은_진행_중인_교체를_기다리지_않는다() throws Exception {
+        UUID slowUser = UUID.randomUUID();
+        UUID otherUser = UUID.randomUUID();
+        String slowToken = jwt.refresh(slowUser);
+        String otherToken = jwt.refresh(otherUser);
+        CountDownLatch slowStarted = new CountDownLatch(1);
+        CountDownLatch releaseSlow = new CountDownLatch(1);
+        when(tokenRepo.rotate(eq(slowUser), anyString(), anyString(), any(), any()))
+                .thenAnswer(invocation -> {
+                    slowStarted.countDown();
+                    releaseSlow.await();
+                    return 1;
+                });
+        when(tokenRepo.rotate(eq(otherUser), anyString(), anyString(), any(), any())).thenReturn(1);
+
+        CompletableFuture<Map<String, String>> slow = CompletableFuture.supplyAsync(() -> authService.reissue(slowToken));
+        slowStarted.await();
+        try {
+            assertThat(CompletableFuture.supplyAsync(() -> authService.reissue(otherToken))
+                    .get(5, TimeUnit.SECONDS)).containsKeys("accessToken", "refreshToken");
+        } finally {
+            releaseSlow.countDown();
+        }
+        assertThat(slow.join()).containsKeys("accessToken", "refreshToken");
+    }
+
+    @Test
+    void 교체되지_않은_토큰은_거절하고_재사용하면_DB를_다시_조회하지_않는다() {
+        UUID userId = UUID.randomUUID();
+        String staleToken = jwt.refresh(userId);
+        when(tokenRepo.rotate(any(), anyString(), anyString(), any(), any())).thenReturn(0);
+
+        assertThatThrownBy(() -> authService.reissue(staleToken)).hasMessageContaining("RT mismatch");
+        assertThatThrownBy(() -> authService.reissue(staleToken)).hasMessageContaining("RT mismatch");
+
+        verify(tokenRepo, times(1)).rotate(any(), anyString(), anyString(), any(), any());
+    }
+}
@@ -0,0 +1,127 @@
+package com.backend.global.common.id;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * image 테이블 PK 종류별 대량 INSERT 비교 (random UUIDv4 vs UUIDv7)
+ * - 반복마다 image 와 같은 구조(PK + 보조 인덱스 2개)의 벤치 전용 테이블을 새로 만들고 10만 건을 배치 INSERT
+ * - 반복이 끝나면 PK 인덱스 크기를 출력 (랜덤 키는 페이지 분할로 인덱스가 부풀어 오름)
+ * - PostgreSQL 이 필요하며 BENCH_JDBC_URL / BENCH_JDBC_USER / BENCH_JDBC_PASSWORD 환경변수로 접속
+ *
+ * 실행: BENCH_JDBC_URL=jdbc:postgresql://localhost:5432/bench ./gradlew jmh -Pjmh.includes=UuidInsertBenchmark
+ */
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 1)
+@Measurement(iterations = 3)
+@State(Scope.Benchmark)
+public class UuidInsertBenchmark {
+
+    private static final String TABLE = "image_id_bench";
+
+    @Param({"random", "v7"})
+    private String idType;
+
+    @Param({"100000"})
+    private int rows;
+
+    @Param({"500"})
+    private int batchSize;
+
+    private Connection connection;
+
+    @Setup(Level.Trial)
+    public void connect() throws SQLException {
+        String url = System.getenv("BENCH_JDBC_URL");
+        if (url == null || url.isBlank()) {
+            throw new IllegalStateException("BENCH_JDBC_URL 환경변수가 없습니다 (예: jdbc:postgresql://localhost:5432/bench)");
+        }
+        String sep = url.contains("?") ? "&" : "?";
+        connection = DriverManager.getConnection(url + sep + "reWriteBatchedInserts=true",
+                System.getenv().getOrDefault("BENCH_JDBC_USER", "postgres"),
+                System.getenv().getOrDefault("BENCH_JDBC_PASSWORD", "postgres"));
+        connection.setAutoCommit(false);
+    }
+
+    @Setup(Level.Iteration)
+    public void createTable() throws SQLException {
+        try (Statement st = connection.createStatement()) {
+            st.execute("DROP TABLE IF EXISTS " + TABLE);
+            st.execute("CREATE TABLE " + TABLE + " ("
+                    + "image_id uuid PRIMARY KEY, user_id uuid NOT NULL, access_id varchar(255) NOT NULL, "
+                    + "image_time timestamp NOT NULL, type varchar(20), content text, star boolean NOT NULL)");
+            st.execute("CREATE INDEX ON " + TABLE + " (user_id, access_id)");
+            st.execute("CREATE INDEX ON " + TABLE + " (user_id, star, image_time DESC, image_id DESC)");
+        }
+        connection.commit();
+    }
+
+    @Benchmark
+    public int insert() throws SQLException {
+        boolean v7 = "v7".equals(idType);
+        UUID userId = UUID.randomUUID();
+        LocalDateTime base = LocalDateTime.now();
+        int inserted = 0;
+
+        try (PreparedStatement ps = connection.prepareStatement("INSERT INTO " + TABLE
+                + " (image_id, user_id, access_id, image_time, type, content, star) VALUES (?, ?, ?, ?, ?, ?, ?)")) {
+            for (int i = 0; i < rows; i++) {
+                ps.setObject(1, v7 ? UuidV7.generate() : UUID.randomUUID());
+                ps.setObject(2, userId);
+                ps.setString(3, "access-" + i);
+                ps.setTimestamp(4, Timestamp.valueOf(base.plusSeconds(i)));
+                ps.setString(5, "OTHER");
+                ps.setString(6, "bench");
+                ps.setBoolean(7, false);
+                ps.addBatch();
+                if ((i + 1) % batchSize == 0) {
+                    inserted += ps.executeBatch().length;
+                    connection.commit();
+                }
+            }
+            inserted += ps.executeBatch().length;
+            connection.commit();
+        }
+        return inserted;
+    }
+
+    @TearDown(Level.Iteration)
+    public void reportIndexSize() throws SQLException {
+        try (Statement st = connection.createStatement();
+             ResultSet rs = st.executeQuery("SELECT pg_relation_size('" + TABLE + "_pkey'), pg_relation_size('" + TABLE + "')")) {
+            rs.next();
+            System.out.printf("%n[%s] pkey=%d KiB, heap=%d KiB%n", idType, rs.getLong(1) / 1024, rs.getLong(2) / 1024);
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void close() throws SQLException {
+        try (Statement st = connection.createStatement()) {
+            st.execute("DROP TABLE IF EXISTS " + TABLE);
+        }
+        connection.commit();
+        connection.close();
+    }
+}
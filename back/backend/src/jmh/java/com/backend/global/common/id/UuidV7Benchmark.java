@@ -0,0 +1,33 @@
+package com.backend.global.common.id;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Threads;
+
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * UUID 생성 비용 비교 (randomUUID vs UuidV7)
+ * - randomUUID 는 SecureRandom 을 거치고, UuidV7 은 CAS + ThreadLocalRandom 만 사용
+ * - 8개 스레드가 동시에 생성해 CAS 경합 비용까지 포함
+ *
+ * 실행: ./gradlew jmh -Pjmh.includes=UuidV7Benchmark
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Threads(8)
+public class UuidV7Benchmark {
+
+    @Benchmark
+    public UUID random() {
+        return UUID.randomUUID();
+    }
+
+    @Benchmark
+    public UUID v7() {
+        return UuidV7.generate();
+    }
+}
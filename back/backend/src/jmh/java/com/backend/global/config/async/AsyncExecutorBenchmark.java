@@ -0,0 +1,96 @@
+package com.backend.global.config.async;
+
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * @Async 실행기 모드별 부하 테스트 (platform vs virtual)
+ * - 64개 클라이언트 스레드가 동시에 블로킹 서비스 호출(JPA 호출 흉내)을 제출하고 완료까지 대기
+ * - DB 커넥션 풀은 크기 10의 세마포어 + 고정 지연으로 흉내냄
+ * - SampleTime 모드라 결과에 p0.99 지연 시간이 함께 출력되고, 거절된 요청 수는 rejected 카운터로 출력
+ *
+ * 실행: ./gradlew jmh -Pjmh.includes=AsyncExecutorBenchmark
+ */
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Threads(64)
+@State(Scope.Benchmark)
+public class AsyncExecutorBenchmark {
+
+    private static final int DB_POOL_SIZE = 10;
+
+    @Param({"platform", "virtual"})
+    private String mode;
+
+    @Param({"5"})
+    private long dbLatencyMillis;
+
+    private AsyncTaskExecutor executor;
+    private Semaphore connections;
+
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    @State(Scope.Thread)
+    public static class Outcome {
+        public long rejected;
+    }
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        connections = new Semaphore(DB_POOL_SIZE, true);
+        executor = "virtual".equals(mode)
+                ? AsyncConfig.virtualExecutor(DB_POOL_SIZE)
+                : AsyncConfig.platformExecutor();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        if (executor instanceof ThreadPoolTaskExecutor pool) {
+            pool.shutdown();
+        } else if (executor instanceof SimpleAsyncTaskExecutor simple) {
+            simple.close();
+        }
+    }
+
+    @Benchmark
+    public void blockingServiceCall(Outcome outcome) throws Exception {
+        try {
+            CompletableFuture.supplyAsync(this::simulateRepositoryCall, executor).get();
+        } catch (RejectedExecutionException e) {
+            // platform 모드에서 큐(50)가 가득 차면 요청이 거절됨
+            outcome.rejected++;
+        }
+    }
+
+    private Integer simulateRepositoryCall() {
+        try {
+            connections.acquire();
+            try {
+                Thread.sleep(dbLatencyMillis);
+                return 1;
+            } finally {
+                connections.release();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return 0;
+        }
+    }
+}
@@ -0,0 +1,146 @@
+package com.backend.image.application.mapper;
+
+import com.backend.chat.application.mapper.ChatMapper;
+import com.backend.chat.application.out.ChatOutDto;
+import com.backend.chat.domain.entity.Chat;
+import com.backend.chat.domain.entity.Response;
+import com.backend.chat.domain.type.Sender;
+import com.backend.image.application.out.ImageThumbnailOutDto;
+import com.backend.image.domain.entity.Image;
+import com.backend.image.domain.type.ImageType;
+import com.backend.plan.application.mapper.PlanMapper;
+import com.backend.plan.application.out.PlanThumbnailOutDto;
+import com.backend.plan.domain.entity.Plan;
+import org.modelmapper.ModelMapper;
+import org.modelmapper.TypeToken;
+import org.modelmapper.convention.MatchingStrategies;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.lang.reflect.Type;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 목록 API 한 페이지(30건) 기준 ModelMapper vs 정적 매퍼 처리량 비교
+ * - modelMapper* : 기존 ModelMapperConfig와 같은 설정 (STRICT, private 필드 접근)
+ * - static*      : ImageMapper / PlanMapper / ChatMapper
+ *
+ * 실행: ./gradlew jmh -Pjmh.includes=MapperBenchmark
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+public class MapperBenchmark {
+
+    private static final int PAGE_SIZE = 30;
+    private static final Type THUMBNAIL_LIST_TYPE = new TypeToken<List<ImageThumbnailOutDto>>() {}.getType();
+
+    private ModelMapper modelMapper;
+    private List<Image> images;
+    private List<Plan> plans;
+    private List<Chat> chats;
+
+    @Setup
+    public void setUp() {
+        modelMapper = new ModelMapper();
+        modelMapper.getConfiguration()
+                .setFieldAccessLevel(org.modelmapper.config.Configuration.AccessLevel.PRIVATE)
+                .setMatchingStrategy(MatchingStrategies.STRICT)
+                .setFieldMatchingEnabled(true);
+
+        images = new ArrayList<>();
+        plans = new ArrayList<>();
+        chats = new ArrayList<>();
+        LocalDateTime now = LocalDateTime.now();
+
+        for (int i = 0; i < PAGE_SIZE; i++) {
+            Image image = Image.builder()
+                    .imageId(UUID.randomUUID())
+                    .accessId("access-" + i)
+                    .imageTime(now.minusMinutes(i))
+                    .type(ImageType.INFO)
+                    .content("content-" + i)
+                    .star(i % 3 == 0)
+                    .build();
+            images.add(image);
+
+            plans.add(Plan.builder()
+                    .planId(UUID.randomUUID())
+                    .planTime(now.plusHours(i))
+                    .planContent("plan-" + i)
+                    .image(image)
+                    .alarmTf(true)
+                    .build());
+
+            Chat chat = Chat.builder()
+                    .chatId(UUID.randomUUID())
+                    .sender(i % 2 == 0 ? Sender.USER : Sender.BOT)
+                    .message("message-" + i)
+                    .chatTime(now.minusSeconds(i))
+                    .build();
+            for (int j = 0; j < 3; j++) {
+                chat.addResponse(Response.builder()
+                        .responseId(UUID.randomUUID())
+                        .accessId("access-" + j)
+                        .text("text-" + j)
+                        .build());
+            }
+            chats.add(chat);
+        }
+    }
+
+    @Benchmark
+    public List<ImageThumbnailOutDto> modelMapperImageThumbnails() {
+        return images.stream()
+                .map(image -> modelMapper.map(image, ImageThumbnailOutDto.class))
+                .toList();
+    }
+
+    // 기존 getStarPreview 방식 (TypeToken 리스트 매핑)
+    @Benchmark
+    public List<ImageThumbnailOutDto> modelMapperImageThumbnailList() {
+        return modelMapper.map(images, THUMBNAIL_LIST_TYPE);
+    }
+
+    @Benchmark
+    public List<ImageThumbnailOutDto> staticImageThumbnails() {
+        return ImageMapper.toThumbnails(images);
+    }
+
+    @Benchmark
+    public List<PlanThumbnailOutDto> modelMapperPlanThumbnails() {
+        return plans.stream()
+                .map(plan -> modelMapper.map(plan, PlanThumbnailOutDto.class))
+                .toList();
+    }
+
+    @Benchmark
+    public List<PlanThumbnailOutDto> staticPlanThumbnails() {
+        return plans.stream()
+                .map(PlanMapper::toThumbnail)
+                .toList();
+    }
+
+    @Benchmark
+    public List<ChatOutDto> modelMapperChats() {
+        return chats.stream()
+                .map(chat -> modelMapper.map(chat, ChatOutDto.class))
+                .toList();
+    }
+
+    @Benchmark
+    public List<ChatOutDto> staticChats() {
+        return chats.stream()
+                .map(ChatMapper::toOutDto)
+                .toList();
+    }
+}
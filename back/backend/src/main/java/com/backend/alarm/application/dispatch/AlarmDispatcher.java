@@ -0,0 +1,159 @@
+package com.backend.alarm.application.dispatch;
+
+import com.backend.alarm.repository.FcmTokenRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * 알림 일괄 발송 파이프라인
+ * - 메시지를 PushSender.MAX_BATCH_SIZE 단위 배치로 나눠 alarmDispatchExecutor에서 동시에 전송
+ * - 배치마다 재시도 가능한 실패만 지수 백오프로 재전송
+ * - UNREGISTERED 토큰은 발송이 끝난 뒤 한 번에 삭제
+ * - 지연 시간/처리량은 alarm.dispatch.* 메트릭으로 노출
+ */
+@Slf4j
+@Component
+public class AlarmDispatcher {
+
+    private final PushSender pushSender;
+    private final FcmTokenRepository fcmTokenRepository;
+    private final ThreadPoolTaskExecutor executor;
+
+    private final Timer batchTimer;
+    private final Timer dispatchTimer;
+    private final Counter successCounter;
+    private final Counter failureCounter;
+    private final Counter unregisteredCounter;
+    private final Counter retryCounter;
+
+    @Value("${alarm.dispatch.max-attempts:3}")
+    private int maxAttempts;
+
+    @Value("${alarm.dispatch.backoff:500ms}")
+    private Duration backoff;
+
+    @Value("${alarm.dispatch.timeout:50s}")
+    private Duration timeout;
+
+    public AlarmDispatcher(PushSender pushSender,
+                           FcmTokenRepository fcmTokenRepository,
+                           @Qualifier("alarmDispatchExecutor") ThreadPoolTaskExecutor executor,
+                           MeterRegistry meterRegistry) {
+        this.pushSender = pushSender;
+        this.fcmTokenRepository = fcmTokenRepository;
+        this.executor = executor;
+
+        this.batchTimer = Timer.builder("alarm.dispatch.batch")
+                .description("FCM 배치 한 건 전송 시간 (재시도 포함)")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+        this.dispatchTimer = Timer.builder("alarm.dispatch")
+                .description("스케줄러 1회분 전체 발송 시간")
+                .register(meterRegistry);
+        this.successCounter = meterRegistry.counter("alarm.dispatch.messages", "result", "success");
+        this.failureCounter = meterRegistry.counter("alarm.dispatch.messages", "result", "failure");
+        this.unregisteredCounter = meterRegistry.counter("alarm.dispatch.messages", "result", "unregistered");
+        this.retryCounter = meterRegistry.counter("alarm.dispatch.retries");
+    }
+
+    public void dispatch(List<PushMessage> messages) {
+        if (messages.isEmpty()) {
+            return;
+        }
+
+        Timer.Sample sample = Timer.start();
+
+        List<CompletableFuture<List<PushSendResult>>> futures = new ArrayList<>();
+        for (int from = 0; from < messages.size(); from += PushSender.MAX_BATCH_SIZE) {
+            List<PushMessage> batch = messages.subList(from, Math.min(from + PushSender.MAX_BATCH_SIZE, messages.size()));
+            futures.add(CompletableFuture.supplyAsync(() -> sendWithRetry(batch), executor));
+        }
+
+        List<String> unregisteredTokens = new ArrayList<>();
+        try {
+            CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new))
+                    .get(timeout.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            log.warn("알림 발송 시간 초과 - 전체: {}건, timeout: {}", messages.size(), timeout);
+        } catch (Exception e) {
+            log.error("알림 발송 중 예외 발생 - message: {}", e.getMessage(), e);
+        }
+
+        for (CompletableFuture<List<PushSendResult>> future : futures) {
+            if (!future.isDone() || future.isCompletedExceptionally()) {
+                continue;
+            }
+            future.join().stream()
+                    .filter(PushSendResult::isUnregistered)
+                    .forEach(result -> unregisteredTokens.add(result.getMessage().getToken()));
+        }
+
+        if (!unregisteredTokens.isEmpty()) {
+            int deleted = fcmTokenRepository.deleteAllByTokenIn(unregisteredTokens);
+            log.info("만료된 FCM 토큰 정리 - {}건", deleted);
+        }
+
+        sample.stop(dispatchTimer);
+    }
+
+    private List<PushSendResult> sendWithRetry(List<PushMessage> batch) {
+        return batchTimer.record(() -> {
+            List<PushSendResult> done = new ArrayList<>(batch.size());
+            List<PushMessage> pending = batch;
+
+            for (int attempt = 1; attempt <= maxAttempts && !pending.isEmpty(); attempt++) {
+                if (attempt > 1) {
+                    retryCounter.increment(pending.size());
+                    if (!sleep(backoff.multipliedBy(1L << (attempt - 2)))) {
+                        break;
+                    }
+                }
+
+                List<PushMessage> retry = new ArrayList<>();
+                for (PushSendResult result : pushSender.sendBatch(pending)) {
+                    if (result.isRetryable() && attempt < maxAttempts) {
+                        retry.add(result.getMessage());
+                    } else {
+                        done.add(record(result));
+                    }
+                }
+                pending = retry;
+            }
+            return done;
+        });
+    }
+
+    private PushSendResult record(PushSendResult result) {
+        if (result.isSuccess()) {
+            successCounter.increment();
+        } else if (result.isUnregistered()) {
+            unregisteredCounter.increment();
+        } else {
+            failureCounter.increment();
+        }
+        return result;
+    }
+
+    private boolean sleep(Duration duration) {
+        try {
+            Thread.sleep(duration.toMillis());
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+}
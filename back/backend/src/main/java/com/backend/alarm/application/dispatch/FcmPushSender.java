@@ -0,0 +1,72 @@
+package com.backend.alarm.application.dispatch;
+
+import com.google.firebase.messaging.BatchResponse;
+import com.google.firebase.messaging.FirebaseMessaging;
+import com.google.firebase.messaging.FirebaseMessagingException;
+import com.google.firebase.messaging.Message;
+import com.google.firebase.messaging.MessagingErrorCode;
+import com.google.firebase.messaging.Notification;
+import com.google.firebase.messaging.SendResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "alarm.push.sender", havingValue = "fcm", matchIfMissing = true)
+public class FcmPushSender implements PushSender {
+
+    private static final Set<MessagingErrorCode> RETRYABLE_ERRORS = EnumSet.of(
+            MessagingErrorCode.UNAVAILABLE,
+            MessagingErrorCode.INTERNAL,
+            MessagingErrorCode.QUOTA_EXCEEDED
+    );
+
+    @Override
+    public List<PushSendResult> sendBatch(List<PushMessage> messages) {
+        List<Message> fcmMessages = messages.stream()
+                .map(message -> Message.builder()
+                        .setToken(message.getToken())
+                        .setNotification(Notification.builder()
+                                .setTitle(message.getTitle())
+                                .setBody(message.getBody())
+                                .build())
+                        .build())
+                .toList();
+
+        try {
+            // 메시지별로 개별 요청을 보내되 HTTP/2 커넥션을 공유 (sendAll 배치 API 대체)
+            BatchResponse batch = FirebaseMessaging.getInstance().sendEach(fcmMessages);
+
+            List<PushSendResult> results = new ArrayList<>(messages.size());
+            List<SendResponse> responses = batch.getResponses();
+            for (int i = 0; i < responses.size(); i++) {
+                results.add(toResult(messages.get(i), responses.get(i)));
+            }
+            return results;
+        } catch (FirebaseMessagingException e) {
+            // 배치 전체 실패 -> 전부 재시도 대상
+            log.warn("FCM 배치 전송 실패 - size: {}, message: {}", messages.size(), e.getMessage());
+            return messages.stream()
+                    .map(message -> PushSendResult.failure(message, true))
+                    .toList();
+        }
+    }
+
+    private PushSendResult toResult(PushMessage message, SendResponse response) {
+        if (response.isSuccessful()) {
+            return PushSendResult.success(message);
+        }
+
+        MessagingErrorCode errorCode = response.getException().getMessagingErrorCode();
+        if (errorCode == MessagingErrorCode.UNREGISTERED) {
+            return PushSendResult.unregistered(message);
+        }
+        return PushSendResult.failure(message, errorCode == null || RETRYABLE_ERRORS.contains(errorCode));
+    }
+}
@@ -0,0 +1,12 @@
+package com.backend.alarm.application.dispatch;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class PushMessage {
+    private String token;
+    private String title;
+    private String body;
+}
@@ -0,0 +1,25 @@
+package com.backend.alarm.application.dispatch;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class PushSendResult {
+    private PushMessage message;
+    private boolean success;
+    private boolean unregistered; // 토큰이 더 이상 유효하지 않음 -> 삭제 대상
+    private boolean retryable;    // 일시적인 오류 -> 재시도 대상
+
+    public static PushSendResult success(PushMessage message) {
+        return new PushSendResult(message, true, false, false);
+    }
+
+    public static PushSendResult unregistered(PushMessage message) {
+        return new PushSendResult(message, false, true, false);
+    }
+
+    public static PushSendResult failure(PushMessage message, boolean retryable) {
+        return new PushSendResult(message, false, false, retryable);
+    }
+}
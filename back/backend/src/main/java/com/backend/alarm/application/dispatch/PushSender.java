@@ -0,0 +1,14 @@
+package com.backend.alarm.application.dispatch;
+
+import java.util.List;
+
+/**
+ * 푸시 일괄 전송 인터페이스
+ * - 구현체는 한 번에 최대 MAX_BATCH_SIZE 건을 받아 메시지별 결과를 같은 순서로 반환
+ * - alarm.push.sender 설정으로 FCM(fcm, 기본값) / 로컬 스텁(stub) 중 선택
+ */
+public interface PushSender {
+    int MAX_BATCH_SIZE = 500;
+
+    List<PushSendResult> sendBatch(List<PushMessage> messages);
+}
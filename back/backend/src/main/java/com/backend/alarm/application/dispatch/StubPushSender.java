@@ -0,0 +1,81 @@
+package com.backend.alarm.application.dispatch;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 로컬/테스트용 스텁 (alarm.push.sender=stub)
+ * - 실제로 전송하지 않고 보낸 메시지를 기록
+ * - markUnregistered로 등록한 토큰은 UNREGISTERED 응답을 흉내냄
+ * - failTransiently로 등록한 토큰은 지정한 횟수만큼 재시도 가능한 실패, failPermanently는 항상 재시도 불가 실패
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "alarm.push.sender", havingValue = "stub")
+public class StubPushSender implements PushSender {
+
+    private final List<PushMessage> sent = new CopyOnWriteArrayList<>();
+    private final List<Integer> batchSizes = new CopyOnWriteArrayList<>();
+    private final Set<String> unregisteredTokens = ConcurrentHashMap.newKeySet();
+    private final Set<String> permanentFailureTokens = ConcurrentHashMap.newKeySet();
+    private final Map<String, AtomicInteger> transientFailures = new ConcurrentHashMap<>();
+
+    @Override
+    public List<PushSendResult> sendBatch(List<PushMessage> messages) {
+        log.debug("[stub] 푸시 {}건 전송", messages.size());
+        batchSizes.add(messages.size());
+        return messages.stream()
+                .map(message -> {
+                    if (unregisteredTokens.contains(message.getToken())) {
+                        return PushSendResult.unregistered(message);
+                    }
+                    if (permanentFailureTokens.contains(message.getToken())) {
+                        return PushSendResult.failure(message, false);
+                    }
+                    AtomicInteger remaining = transientFailures.get(message.getToken());
+                    if (remaining != null && remaining.getAndDecrement() > 0) {
+                        return PushSendResult.failure(message, true);
+                    }
+                    sent.add(message);
+                    return PushSendResult.success(message);
+                })
+                .toList();
+    }
+
+    public void markUnregistered(String token) {
+        unregisteredTokens.add(token);
+    }
+
+    public void failTransiently(String token, int times) {
+        transientFailures.put(token, new AtomicInteger(times));
+    }
+
+    public void failPermanently(String token) {
+        permanentFailureTokens.add(token);
+    }
+
+    public List<PushMessage> getSent() {
+        return List.copyOf(sent);
+    }
+
+    // sendBatch 호출마다 받은 메시지 수 (재시도 호출 포함)
+    public List<Integer> getBatchSizes() {
+        return List.copyOf(batchSizes);
+    }
+
+    public void clear() {
+        sent.clear();
+        batchSizes.clear();
+        unregisteredTokens.clear();
+        permanentFailureTokens.clear();
+        transientFailures.clear();
+    }
+}
@@ -1,22 +1,27 @@
 package com.backend.alarm.application.service;
 
+import com.backend.alarm.application.dispatch.AlarmDispatcher;
+import com.backend.alarm.application.dispatch.PushMessage;
 import com.backend.alarm.application.in.FcmTokenInDto;
+import com.backend.alarm.domain.entity.AlarmDispatchState;
 import com.backend.alarm.domain.entity.FcmToken;
+import com.backend.alarm.domain.type.AlarmWindow;
+import com.backend.alarm.repository.AlarmDispatchStateRepository;
 import com.backend.alarm.repository.FcmTokenRepository;
-import com.backend.plan.domain.entity.Plan;
 import com.backend.plan.repository.PlanRepository;
+import com.backend.plan.repository.projection.DueAlarmRow;
 import com.backend.user.domain.entity.User;
 import com.backend.user.repository.UserRepository;
-import com.google.firebase.messaging.FirebaseMessaging;
-import com.google.firebase.messaging.FirebaseMessagingException;
-import com.google.firebase.messaging.Message;
-import com.google.firebase.messaging.Notification;
+import com.backend.global.common.id.UuidV7;
+import com.backend.global.config.cache.CacheEvictor;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 
 import java.time.Duration;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -27,6 +32,15 @@ public class AlarmService {
     private final FcmTokenRepository fcmTokenRepository;
     private final UserRepository userRepository;
     private final PlanRepository planRepository;
+    private final AlarmDispatchStateRepository alarmDispatchStateRepository;
+    private final AlarmDispatcher alarmDispatcher;
+    private final CacheEvictor cacheEvictor;
+
+    private static final String DISPATCH_STATE_NAME = "plan-alarm";
+
+    // 서버가 내려가 있던 동안 놓친 알림을 최대 얼마 전까지 보내줄지
+    @Value("${alarm.max-catch-up:30m}")
+    private Duration maxCatchUp;
 
     public FcmToken saveFcmToken(FcmTokenInDto inDto){
 
@@ -60,7 +74,7 @@ public class AlarmService {
 
         // 기존의 없는 유저, 없는 토큰일 때만 새로 추가
         FcmToken newToken = FcmToken.builder()
-                .fcmTokenId(UUID.randomUUID())
+                .fcmTokenId(UuidV7.generate())
                 .user(user)
                 .token(token)
                 .build();
@@ -69,65 +83,56 @@ public class AlarmService {
     }
 
 
-    @Scheduled(fixedRate = 60000) // 1분마다 실행
+    /**
+     * 1분마다 실행
+     * - 마지막 처리 시각(lastFiredAt) ~ 현재 사이에 알림 시점(일정 24시간 전, 1시간 전)이 들어온 일정만 조회
+     * - 재시작 등으로 실행이 빠져도 저장된 lastFiredAt부터 이어서 처리 (최대 maxCatchUp 만큼만 거슬러 올라감)
+     * - 지난 일정은 UPDATE 한 번으로 알림 해제하고, 해당 사용자들의 일정 미리보기 캐시를 무효화
+     */
+    @Scheduled(fixedRate = 60000)
     public void sendScheduledAlarms() {
-        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime now = LocalDateTime.now().withNano(0);
 
-        List<Plan> plans = planRepository.findAllByAlarmTfTrue();
+        AlarmDispatchState state = alarmDispatchStateRepository.findById(DISPATCH_STATE_NAME)
+                .orElseGet(() -> new AlarmDispatchState(DISPATCH_STATE_NAME, now.minusMinutes(1)));
 
-        for (Plan plan : plans) {
-            LocalDateTime planTime = plan.getPlanTime();
-
-            if (planTime.isBefore(now)) {
-                // 이미 지난 일정
-                plan.setAlarmTf(false);
-                planRepository.save(plan);
-                continue;
-            }
-
-            long minutesDiff = Duration.between(now, planTime).toMinutes();
+        LocalDateTime from = state.getLastFiredAt();
+        if (from.isBefore(now.minus(maxCatchUp))) {
+            from = now.minus(maxCatchUp);
+        }
 
-            //1시간 전, 24시간 전에 알림 전송
-            if (minutesDiff == 60 || minutesDiff == 24 * 60) {
-                sendPush(plan);
+        if (from.isBefore(now)) {
+            List<PushMessage> messages = new ArrayList<>();
+            for (AlarmWindow window : AlarmWindow.values()) {
+                List<DueAlarmRow> dueAlarms = planRepository.findDueAlarms(
+                        from.plus(window.getOffset()), now.plus(window.getOffset()));
+                dueAlarms.forEach(alarm -> messages.add(toPushMessage(alarm, window)));
             }
+            alarmDispatcher.dispatch(messages);
         }
-    }
 
-    public void sendPush(Plan plan) {
-        User user = plan.getUser();
-        Optional<FcmToken> fcmTokenOpt = fcmTokenRepository.findByUser_UserId(user.getUserId());
+        disableExpiredAlarms(now);
 
-        if (fcmTokenOpt.isEmpty()) return;
-
-        String token = fcmTokenOpt.get().getToken();
-
-        LocalDateTime now = LocalDateTime.now();
-        LocalDateTime planTime = plan.getPlanTime();
-        long minutesDiff = Duration.between(now, planTime).toMinutes();
+        // 발송 후에 처리 시각을 갱신 (중간에 죽으면 다음 실행에서 다시 처리)
+        state.updateLastFiredAt(now);
+        alarmDispatchStateRepository.save(state);
+    }
 
-        String title = "일정 알림";
-        String body;
-
-        if (minutesDiff >= 1439 && minutesDiff <= 1441) {
-            body = String.format("'%s' 내일 이 시간에 일정이 있어요!", plan.getPlanContent());
-        } else if (minutesDiff >= 59 && minutesDiff <= 61) {
-            body = String.format("'%s' 일정이 한 시간 후에 시작돼요!", plan.getPlanContent());
-        } else {
-            return; // 조건에 맞지 않으면 전송하지 않음
+    // 지난 일정 알림 해제 후 해당 사용자들의 일정 미리보기 캐시(alarmTf 포함) 무효화
+    private void disableExpiredAlarms(LocalDateTime now) {
+        List<UUID> userIds = planRepository.findUserIdsWithExpiredAlarms(now);
+        if (userIds.isEmpty()) {
+            return;
         }
+        planRepository.disableExpiredAlarms(now);
+        userIds.forEach(cacheEvictor::evictPlanPreview);
+    }
 
-        try {
-            Message message = Message.builder()
-                    .setToken(token)
-                    .setNotification(Notification.builder().setTitle(title).setBody(body).build())
-                    .build();
+    private PushMessage toPushMessage(DueAlarmRow alarm, AlarmWindow window) {
+        String title = "일정 알림";
+        String body = window.body(alarm.getPlanContent());
 
-            String response = FirebaseMessaging.getInstance().send(message);
-            System.out.println("FCM 전송 성공: " + response);
-        } catch (FirebaseMessagingException e) {
-            System.err.println("FCM 전송 실패: " + e.getMessage());
-        }
+        return new PushMessage(alarm.getToken(), title, body);
     }
 
 
@@ -0,0 +1,30 @@
+package com.backend.alarm.domain.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+// 알림 스케줄러가 어디까지 처리했는지 기록 (재시작/누락된 실행 이후 이어서 처리하기 위함)
+@Entity
+@Table(name = "alarm_dispatch_state")
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class AlarmDispatchState {
+    @Id
+    @Column(name = "name", nullable = false, length = 50)
+    private String name;
+
+    @Column(name = "last_fired_at", nullable = false)
+    private LocalDateTime lastFiredAt;
+
+    public void updateLastFiredAt(LocalDateTime lastFiredAt) {
+        this.lastFiredAt = lastFiredAt;
+    }
+}
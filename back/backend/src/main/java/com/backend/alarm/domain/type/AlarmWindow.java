@@ -0,0 +1,25 @@
+package com.backend.alarm.domain.type;
+
+import java.time.Duration;
+
+// 일정 시작 몇 분 전에 알림을 보낼지와 그때의 알림 문구
+public enum AlarmWindow {
+    DAY_BEFORE(Duration.ofHours(24), "'%s' 내일 이 시간에 일정이 있어요!"),
+    HOUR_BEFORE(Duration.ofHours(1), "'%s' 일정이 한 시간 후에 시작돼요!");
+
+    private final Duration offset;
+    private final String bodyFormat;
+
+    AlarmWindow(Duration offset, String bodyFormat) {
+        this.offset = offset;
+        this.bodyFormat = bodyFormat;
+    }
+
+    public Duration getOffset() {
+        return offset;
+    }
+
+    public String body(String planContent) {
+        return String.format(bodyFormat, planContent);
+    }
+}
@@ -6,7 +6,6 @@ import com.backend.alarm.presentation.request.FcmTokenRequest;
 import com.backend.global.common.response.BaseResponse;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
-import org.modelmapper.ModelMapper;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
@@ -17,12 +16,11 @@ import org.springframework.web.bind.annotation.RestController;
 @RequestMapping("/api/v1/alarms")
 public class AlarmController {
     private final AlarmService alarmService;
-    private final ModelMapper modelMapper;
 
     @PostMapping("/token")
     public BaseResponse<Void> saveFcmToken(@Valid @RequestBody FcmTokenRequest request) {
 
-        FcmTokenInDto inDto = modelMapper.map(request, FcmTokenInDto.class);
+        FcmTokenInDto inDto = new FcmTokenInDto(request.getUserId(), request.getToken());
 
         alarmService.saveFcmToken(inDto);
 
@@ -0,0 +1,9 @@
+package com.backend.alarm.repository;
+
+import com.backend.alarm.domain.entity.AlarmDispatchState;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface AlarmDispatchStateRepository extends JpaRepository<AlarmDispatchState, String> {
+}
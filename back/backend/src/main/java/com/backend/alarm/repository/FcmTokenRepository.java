@@ -2,8 +2,13 @@ package com.backend.alarm.repository;
 
 import com.backend.alarm.domain.entity.FcmToken;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -12,4 +17,10 @@ public interface FcmTokenRepository extends JpaRepository<FcmToken, UUID> {
     Optional<FcmToken> findByUser_UserId(UUID userId);
     Optional<FcmToken> findByToken(String token);
 
+    // FCM이 UNREGISTERED로 응답한 토큰 일괄 삭제
+    @Transactional
+    @Modifying
+    @Query("DELETE FROM FcmToken t WHERE t.token IN :tokens")
+    int deleteAllByTokenIn(@Param("tokens") Collection<String> tokens);
+
 }
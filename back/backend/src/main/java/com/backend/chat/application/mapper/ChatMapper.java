@@ -0,0 +1,49 @@
+package com.backend.chat.application.mapper;
+
+import com.backend.chat.application.out.ChatOutDto;
+import com.backend.chat.application.out.ResponseOutDto;
+import com.backend.chat.domain.entity.Chat;
+import com.backend.chat.domain.entity.Response;
+import com.backend.chat.repository.projection.ChatRow;
+import com.backend.chat.repository.projection.ResponseRow;
+
+import java.util.List;
+
+/**
+ * Chat 엔티티/프로젝션 -> OutDto 변환 (ModelMapper 대신 생성자로 직접 변환)
+ */
+public final class ChatMapper {
+
+    private ChatMapper() {
+    }
+
+    public static ChatOutDto toOutDto(Chat chat) {
+        return new ChatOutDto(
+                chat.getChatId(),
+                chat.getSender(),
+                chat.getMessage(),
+                chat.getChatTime(),
+                chat.getResponses().stream()
+                        .map(ChatMapper::toResponseOutDto)
+                        .toList()
+        );
+    }
+
+    public static ChatOutDto toOutDto(ChatRow row, List<ResponseOutDto> items) {
+        return new ChatOutDto(
+                row.getChatId(),
+                row.getSender(),
+                row.getMessage(),
+                row.getChatTime(),
+                items
+        );
+    }
+
+    public static ResponseOutDto toResponseOutDto(Response response) {
+        return new ResponseOutDto(response.getResponseId(), response.getAccessId(), response.getText());
+    }
+
+    public static ResponseOutDto toResponseOutDto(ResponseRow row) {
+        return new ResponseOutDto(row.getResponseId(), row.getAccessId(), row.getText());
+    }
+}
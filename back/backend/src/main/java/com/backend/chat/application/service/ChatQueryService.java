@@ -0,0 +1,71 @@
+package com.backend.chat.application.service;
+
+import com.backend.chat.application.mapper.ChatMapper;
+import com.backend.chat.application.out.ChatOutDto;
+import com.backend.chat.application.out.ResponseOutDto;
+import com.backend.chat.repository.ChatRepository;
+import com.backend.chat.repository.ResponseRepository;
+import com.backend.chat.repository.projection.ChatRow;
+import com.backend.chat.repository.projection.ResponseRow;
+import com.backend.global.common.cursor.KeysetCursor;
+import com.backend.global.common.response.CursorResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+/**
+ * 채팅 내역 조회 전용 경로
+ * - 채팅 한 페이지 조회 1회 + 해당 채팅들의 응답 조회 1회, 총 2개의 쿼리로 처리 (Page는 count 쿼리 별도)
+ * - 쓰기용 엔티티 그래프(Chat.responses EAGER 등)는 건드리지 않음
+ */
+@Service
+@RequiredArgsConstructor
+public class ChatQueryService {
+    private final ChatRepository chatRepository;
+    private final ResponseRepository responseRepository;
+
+    public Page<ChatOutDto> getRecentChats(UUID userId, Pageable pageable) {
+        Page<ChatRow> rows = chatRepository.findChatRows(userId, pageable);
+
+        return new PageImpl<>(assemble(rows.getContent()), rows.getPageable(), rows.getTotalElements());
+    }
+
+    public CursorResponse<ChatOutDto> getRecentChatsByCursor(UUID userId, String cursor, int size) {
+        KeysetCursor.Key key = KeysetCursor.parse(cursor);
+
+        // 다음 페이지 존재 여부 확인을 위해 한 건 더 조회
+        List<ChatRow> rows = key == null
+                ? chatRepository.findFirstChatRows(userId, Limit.of(size + 1))
+                : chatRepository.findChatRowsBefore(userId, key.time(), key.id(), Limit.of(size + 1));
+
+        boolean hasNext = rows.size() > size;
+        List<ChatRow> page = hasNext ? rows.subList(0, size) : rows;
+        String nextCursor = hasNext ? KeysetCursor.next(page, ChatRow::getChatTime, ChatRow::getChatId) : null;
+
+        return new CursorResponse<>(assemble(page), nextCursor, hasNext);
+    }
+
+    private List<ChatOutDto> assemble(List<ChatRow> rows) {
+        if (rows.isEmpty()) {
+            return List.of();
+        }
+
+        List<UUID> chatIds = rows.stream().map(ChatRow::getChatId).toList();
+        Map<UUID, List<ResponseOutDto>> responses = responseRepository.findRowsByChatIdIn(chatIds).stream()
+                .collect(Collectors.groupingBy(
+                        ResponseRow::getChatId,
+                        Collectors.mapping(ChatMapper::toResponseOutDto, Collectors.toList())));
+
+        return rows.stream()
+                .map(row -> ChatMapper.toOutDto(row, responses.getOrDefault(row.getChatId(), List.of())))
+                .toList();
+    }
+}
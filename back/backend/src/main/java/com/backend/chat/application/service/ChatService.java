@@ -3,83 +3,75 @@ package com.backend.chat.application.service;
 import com.backend.chat.application.in.SaveChatInDto;
 import com.backend.chat.application.out.ChatOutDto;
 import com.backend.chat.application.in.ResponseItem;
-import com.backend.chat.application.out.ResponseOutDto;
 import com.backend.chat.domain.entity.Chat;
 import com.backend.chat.domain.entity.Response;
-import com.backend.chat.repository.ChatRepository;
-import com.backend.chat.repository.ResponseRepository;
-import com.backend.global.common.exception.BaseException;
-import com.backend.global.common.response.BaseResponseStatus;
+import com.backend.chat.application.write.ChatWriter;
+import com.backend.global.common.response.CursorResponse;
 import com.backend.user.domain.entity.User;
-import com.backend.user.repository.UserRepository;
-import jakarta.transaction.Transactional;
+import com.backend.global.common.id.UuidV7;
 import lombok.RequiredArgsConstructor;
-import org.modelmapper.ModelMapper;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Service;
 
 import java.time.LocalDateTime;
-import java.time.format.DateTimeFormatter;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
 import java.util.List;
 import java.util.UUID;
 import java.util.concurrent.CompletableFuture;
-import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
 public class ChatService {
-    private final ChatRepository chatRepository;
-    private final UserRepository userRepository;
+    private final ChatWriter chatWriter;
+    private final ChatQueryService chatQueryService;
 
-    @Transactional
-    @Async
+    // 저장 방식(sync / write-behind)은 ChatWriter 구현체가 결정, 사용자 확인은 INSERT 시점에 함께 처리
     public CompletableFuture<Void> saveChat(SaveChatInDto inDto) {
-        User user = userRepository.findById(inDto.getUserId())
-                .orElseThrow(() -> new BaseException(BaseResponseStatus.NO_EXIST_USER));
+        return saveChats(List.of(inDto));
+    }
 
+    public CompletableFuture<Void> saveChats(List<SaveChatInDto> inDtos) {
+        // 기존 @PrePersist와 같이 서울 시간, 나노초 제거
+        LocalDateTime chatTime = ZonedDateTime.now(ZoneId.of("Asia/Seoul")).withNano(0).toLocalDateTime();
+        List<Chat> chats = inDtos.stream()
+                .map(inDto -> toChat(inDto, chatTime))
+                .toList();
+        return chatWriter.write(chats);
+    }
+
+    private Chat toChat(SaveChatInDto inDto, LocalDateTime chatTime) {
         Chat chat = Chat.builder()
-                .chatId(UUID.randomUUID())
-                .user(user)
+                .chatId(UuidV7.generate())
+                .user(User.builder().userId(inDto.getUserId()).build())
                 .sender(inDto.getSender())
                 .message(inDto.getMessage())
-                .chatTime(LocalDateTime.now())
+                .chatTime(chatTime)
                 .build();
 
         if (inDto.getItems() != null) {
             for (ResponseItem res : inDto.getItems()) {
                 Response response = Response.builder()
-                        .responseId(UUID.randomUUID())
+                        .responseId(UuidV7.generate())
                         .accessId(res.getAccessId())
                         .text(res.getText())
                         .build();
                 chat.addResponse(response); // 양방향 관계 설정
             }
         }
-
-        chatRepository.save(chat); // cascade로 인해 responses도 저장됨
-        return CompletableFuture.completedFuture(null); // 비동기 작업이 끝났음을 반환
+        return chat;
     }
 
+    // 조회는 N+1 없는 전용 경로(ChatQueryService)로 위임
     @Async
     public CompletableFuture<Page<ChatOutDto>> getRecentChats(UUID userId, Pageable pageable) {
-        Page<Chat> chats = chatRepository.findByUser_UserIdOrderByChatTimeDesc(userId, pageable);
-
-        Page<ChatOutDto> result = chats.map(chat -> {
-            List<ResponseOutDto> responseItems = chat.getResponses().stream()
-                    .map(res -> new ResponseOutDto(res.getResponseId(), res.getAccessId(), res.getText()))
-                    .collect(Collectors.toList());
-
-            return new ChatOutDto(
-                    chat.getChatId(),
-                    chat.getSender(),
-                    chat.getMessage(),
-                    chat.getChatTime(),
-                    responseItems
-            );
-        });
+        return CompletableFuture.completedFuture(chatQueryService.getRecentChats(userId, pageable));
+    }
 
-        return CompletableFuture.completedFuture(result);
+    @Async
+    public CompletableFuture<CursorResponse<ChatOutDto>> getRecentChatsByCursor(UUID userId, String cursor, int size) {
+        return CompletableFuture.completedFuture(chatQueryService.getRecentChatsByCursor(userId, cursor, size));
     }
 }
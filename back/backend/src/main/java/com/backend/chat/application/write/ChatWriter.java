@@ -0,0 +1,19 @@
+package com.backend.chat.application.write;
+
+import com.backend.chat.domain.entity.Chat;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * 채팅 저장 경로
+ * - chat.write.mode 설정으로 선택
+ *   sync(기본값): 요청마다 바로 INSERT, 응답 시점에 커밋 완료
+ *   write-behind: 메모리 큐에 넣고 바로 응답, 크기/시간 기준으로 모아서 배치 INSERT
+ *                 (큐에 있는 동안 프로세스가 비정상 종료되면 유실될 수 있음)
+ * - 전달받는 Chat은 chatId, chatTime, responses가 채워진 상태여야 함
+ */
+public interface ChatWriter {
+
+    CompletableFuture<Void> write(List<Chat> chats);
+}
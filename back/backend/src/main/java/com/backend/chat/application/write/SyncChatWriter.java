@@ -0,0 +1,32 @@
+package com.backend.chat.application.write;
+
+import com.backend.chat.domain.entity.Chat;
+import com.backend.chat.repository.ChatRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * 동기 저장 (chat.write.mode=sync)
+ * - @Async 스레드에서 바로 배치 INSERT, 커밋 후 완료
+ */
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "chat.write.mode", havingValue = "sync", matchIfMissing = true)
+public class SyncChatWriter implements ChatWriter {
+
+    private final ChatRepository chatRepository;
+
+    @Async
+    @Transactional
+    @Override
+    public CompletableFuture<Void> write(List<Chat> chats) {
+        chatRepository.batchInsert(chats);
+        return CompletableFuture.completedFuture(null);
+    }
+}
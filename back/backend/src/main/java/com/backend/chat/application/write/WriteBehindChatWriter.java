@@ -0,0 +1,214 @@
+package com.backend.chat.application.write;
+
+import com.backend.chat.domain.entity.Chat;
+import com.backend.chat.repository.ChatRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.TransactionException;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * write-behind 저장 (chat.write.mode=write-behind)
+ * - 요청 스레드는 큐에 넣고 바로 반환, 전용 스레드가 batch-size개가 모이거나
+ *   가장 오래된 메시지가 flush-interval만큼 기다리면 한 트랜잭션으로 배치 INSERT
+ * - 큐가 가득 차면 해당 메시지는 요청 스레드에서 바로 저장 (유실 대신 지연)
+ * - 종료 시 웹 서버가 요청 수신을 멈춘 뒤 큐에 남은 메시지를 모두 저장하고 멈춤
+ * - 일시적 DB 오류는 max-attempts까지 재시도, 그래도 실패하면 해당 배치는 로그를 남기고 버림
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "chat.write.mode", havingValue = "write-behind")
+public class WriteBehindChatWriter implements ChatWriter, SmartLifecycle {
+
+    // 웹 서버 종료(graceful shutdown 포함) 이후에 멈추도록 더 낮은 phase
+    private static final int PHASE = SmartLifecycle.DEFAULT_PHASE - 4096;
+    // 종료 시 대기 중인 poll을 깨워 바로 flush하게 하는 표식 (저장하지 않음)
+    private static final Chat FLUSH_NOW = new Chat();
+
+    private final ChatRepository chatRepository;
+    private final TransactionTemplate tx;
+    private final BlockingQueue<Chat> queue;
+    private final int batchSize;
+    private final Duration flushInterval;
+    private final int maxAttempts;
+    private final Duration backoff;
+    private final Duration shutdownTimeout;
+
+    private final Counter flushedCounter;
+    private final Counter droppedCounter;
+    private final Counter overflowCounter;
+
+    private volatile boolean running;
+    private Thread flusher;
+
+    public WriteBehindChatWriter(ChatRepository chatRepository,
+                                 TransactionTemplate tx,
+                                 MeterRegistry meterRegistry,
+                                 @Value("${chat.write.queue-capacity:10000}") int queueCapacity,
+                                 @Value("${chat.write.batch-size:200}") int batchSize,
+                                 @Value("${chat.write.flush-interval:200ms}") Duration flushInterval,
+                                 @Value("${chat.write.max-attempts:3}") int maxAttempts,
+                                 @Value("${chat.write.backoff:500ms}") Duration backoff,
+                                 @Value("${chat.write.shutdown-timeout:30s}") Duration shutdownTimeout) {
+        this.chatRepository = chatRepository;
+        this.tx = tx;
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+        this.batchSize = batchSize;
+        this.flushInterval = flushInterval;
+        this.maxAttempts = maxAttempts;
+        this.backoff = backoff;
+        this.shutdownTimeout = shutdownTimeout;
+
+        meterRegistry.gauge("chat.write.queue.size", queue, BlockingQueue::size);
+        this.flushedCounter = meterRegistry.counter("chat.write.flushed");
+        this.droppedCounter = meterRegistry.counter("chat.write.dropped");
+        this.overflowCounter = meterRegistry.counter("chat.write.overflow");
+    }
+
+    @Override
+    public CompletableFuture<Void> write(List<Chat> chats) {
+        if (!running) {
+            insert(chats);
+            return CompletableFuture.completedFuture(null);
+        }
+        for (Chat chat : chats) {
+            if (!queue.offer(chat)) {
+                overflowCounter.increment();
+                insert(List.of(chat));
+            }
+        }
+        return CompletableFuture.completedFuture(null);
+    }
+
+    @Override
+    public synchronized void start() {
+        if (running) {
+            return;
+        }
+        running = true;
+        flusher = new Thread(this::runFlushLoop, "chat-write-behind");
+        flusher.setDaemon(true);
+        flusher.start();
+        log.info("📝 채팅 write-behind 시작: batchSize={}, flushInterval={}", batchSize, flushInterval);
+    }
+
+    @Override
+    public synchronized void stop() {
+        if (!running) {
+            return;
+        }
+        running = false;
+        queue.offer(FLUSH_NOW);
+        try {
+            flusher.join(shutdownTimeout.toMillis());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        // 루프가 끝난 뒤 들어온 메시지까지 저장
+        List<Chat> remaining = new ArrayList<>();
+        queue.drainTo(remaining);
+        remaining.remove(FLUSH_NOW);
+        if (!remaining.isEmpty()) {
+            flush(remaining);
+        }
+        log.info("📝 채팅 write-behind 종료: 남은 메시지 저장 완료");
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    @Override
+    public int getPhase() {
+        return PHASE;
+    }
+
+    private void runFlushLoop() {
+        List<Chat> batch = new ArrayList<>(batchSize);
+        while (running || !queue.isEmpty()) {
+            try {
+                Chat first = queue.poll(flushInterval.toMillis(), TimeUnit.MILLISECONDS);
+                if (first == null || first == FLUSH_NOW) {
+                    continue;
+                }
+                batch.add(first);
+                // 첫 메시지 기준 flushInterval 안에서 batchSize까지 모음 (종료 중이면 바로 flush)
+                long deadline = System.nanoTime() + flushInterval.toNanos();
+                while (batch.size() < batchSize && running) {
+                    queue.drainTo(batch, batchSize - batch.size());
+                    if (batch.remove(FLUSH_NOW)) {
+                        break;
+                    }
+                    long remainingNanos = deadline - System.nanoTime();
+                    if (batch.size() >= batchSize || remainingNanos <= 0) {
+                        break;
+                    }
+                    Chat next = queue.poll(remainingNanos, TimeUnit.NANOSECONDS);
+                    if (next == null || next == FLUSH_NOW) {
+                        break;
+                    }
+                    batch.add(next);
+                }
+                if (!running) {
+                    // 종료 중: 기다리지 않고 큐에 남은 만큼 batchSize까지 채워 한 트랜잭션으로 저장
+                    queue.drainTo(batch, batchSize - batch.size());
+                    batch.removeIf(chat -> chat == FLUSH_NOW);
+                }
+                flush(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            } catch (RuntimeException e) {
+                log.error("❌ 채팅 write-behind 처리 중 예외", e);
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    private void flush(List<Chat> batch) {
+        for (int attempt = 1; ; attempt++) {
+            try {
+                insert(batch);
+                flushedCounter.increment(batch.size());
+                return;
+            } catch (DataAccessException | TransactionException e) {
+                // 커넥션 획득 실패(CannotCreateTransactionException), 커밋 실패(TransactionSystemException)도 재시도 대상
+                if (attempt >= maxAttempts) {
+                    droppedCounter.increment(batch.size());
+                    log.error("❌ 채팅 {}건 저장 실패 (시도 {}회), 버림: {}", batch.size(), attempt, e.getMessage());
+                    return;
+                }
+                log.warn("⚠️ 채팅 {}건 저장 실패 (시도 {}회), 재시도: {}", batch.size(), attempt, e.getMessage());
+                sleep(backoff.multipliedBy(1L << (attempt - 1)));
+            }
+        }
+    }
+
+    private void insert(List<Chat> chats) {
+        tx.executeWithoutResult(status -> chatRepository.batchInsert(chats));
+    }
+
+    private static void sleep(Duration duration) {
+        try {
+            Thread.sleep(duration.toMillis());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -17,7 +17,9 @@ import java.util.List;
 import java.util.UUID;
 
 @Entity
-@Table(name = "chat")
+@Table(name = "chat", indexes = {
+        @Index(name = "idx_chat_user_time", columnList = "user_id, chat_time DESC, chat_id DESC")
+})
 @Getter
 @NoArgsConstructor
 @AllArgsConstructor
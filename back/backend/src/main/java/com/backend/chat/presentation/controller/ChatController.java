@@ -3,13 +3,14 @@ package com.backend.chat.presentation.controller;
 import com.backend.chat.application.in.SaveChatInDto;
 import com.backend.chat.application.out.ChatOutDto;
 import com.backend.chat.application.service.ChatService;
+import com.backend.chat.presentation.request.SaveChatBatchRequest;
 import com.backend.chat.presentation.request.SaveChatRequest;
 import com.backend.chat.presentation.response.ChatResponse;
 import com.backend.global.common.response.BaseResponse;
+import com.backend.global.common.response.CursorResponse;
 import com.backend.image.application.service.ImageService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
-import org.modelmapper.ModelMapper;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.data.domain.Page;
@@ -17,6 +18,7 @@ import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.List;
 import java.util.UUID;
 import java.util.concurrent.CompletableFuture;
 
@@ -25,13 +27,13 @@ import java.util.concurrent.CompletableFuture;
 @RequiredArgsConstructor
 public class ChatController {
     private final ChatService chatService;
-    private final ModelMapper modelMapper;
 
     private static final Logger log = LoggerFactory.getLogger(ImageService.class);
 
     @PostMapping
     public CompletableFuture<BaseResponse<Void>> saveChat(@Valid @RequestBody SaveChatRequest request) {
-        SaveChatInDto inDto = modelMapper.map(request, SaveChatInDto.class);
+        SaveChatInDto inDto = new SaveChatInDto(
+                request.getUserId(), request.getSender(), request.getMessage(), request.getItems());
 
         // 비동기적으로 saveChat을 호출하고 예외 처리 추가
         return chatService.saveChat(inDto)
@@ -43,6 +45,20 @@ public class ChatController {
                 .thenApply(aVoid -> new BaseResponse<Void>());  // 성공 시 응답 처리
     }
 
+    @PostMapping("/batch")
+    public CompletableFuture<BaseResponse<Void>> saveChats(@Valid @RequestBody SaveChatBatchRequest request) {
+        List<SaveChatInDto> inDtos = request.getChats().stream()
+                .map(chat -> new SaveChatInDto(chat.getUserId(), chat.getSender(), chat.getMessage(), chat.getItems()))
+                .toList();
+
+        return chatService.saveChats(inDtos)
+                .exceptionally(ex -> {
+                    log.error("채팅 일괄 저장 중 예외 발생: {}", ex.getMessage());
+                    return null;
+                })
+                .thenApply(aVoid -> new BaseResponse<Void>());
+    }
+
     @GetMapping
     public CompletableFuture<BaseResponse<ChatResponse>> getRecentChats(
             @RequestParam UUID userId,
@@ -69,4 +85,16 @@ public class ChatController {
                     return new BaseResponse<>(response);
                 });
     }
+
+    // ?cursor= 가 있으면 키셋 방식 (빈 값이면 첫 페이지), 예외는 BaseExceptionHandler에서 처리
+    @GetMapping(params = "cursor")
+    public CompletableFuture<BaseResponse<CursorResponse<ChatOutDto>>> getRecentChatsByCursor(
+            @RequestParam UUID userId,
+            @RequestParam String cursor
+    ) {
+        int pageSize = 20;
+
+        return chatService.getRecentChatsByCursor(userId, cursor, pageSize)
+                .thenApply(BaseResponse::new);
+    }
 }
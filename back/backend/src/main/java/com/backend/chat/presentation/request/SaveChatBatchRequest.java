@@ -0,0 +1,20 @@
+package com.backend.chat.presentation.request;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+// 검색 1회분(사용자 메시지 + 봇 응답)처럼 여러 메시지를 한 번에 저장
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class SaveChatBatchRequest {
+    @NotEmpty
+    @Size(max = 100)
+    private List<@Valid SaveChatRequest> chats;
+}
@@ -2,15 +2,38 @@ package com.backend.chat.repository;
 
 
 import com.backend.chat.domain.entity.Chat;
+import com.backend.chat.repository.projection.ChatRow;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.List;
 import java.util.UUID;
 
 @Repository
-public interface ChatRepository extends JpaRepository<Chat, UUID> {
+public interface ChatRepository extends JpaRepository<Chat, UUID>, ChatRepositoryCustom {
 
-    Page<Chat> findByUser_UserIdOrderByChatTimeDesc(UUID userId, Pageable pageable);
+    // 조회 전용: 엔티티 대신 프로젝션으로 받아 EAGER 연관관계(User, responses) 로딩을 피함
+    @Query(value = "SELECT new com.backend.chat.repository.projection.ChatRow(c.chatId, c.sender, c.message, c.chatTime) " +
+                   "FROM Chat c WHERE c.user.userId = :userId ORDER BY c.chatTime DESC, c.chatId DESC",
+           countQuery = "SELECT count(c) FROM Chat c WHERE c.user.userId = :userId")
+    Page<ChatRow> findChatRows(@Param("userId") UUID userId, Pageable pageable);
+
+    @Query("SELECT new com.backend.chat.repository.projection.ChatRow(c.chatId, c.sender, c.message, c.chatTime) " +
+           "FROM Chat c WHERE c.user.userId = :userId ORDER BY c.chatTime DESC, c.chatId DESC")
+    List<ChatRow> findFirstChatRows(@Param("userId") UUID userId, Limit limit);
+
+    @Query("SELECT new com.backend.chat.repository.projection.ChatRow(c.chatId, c.sender, c.message, c.chatTime) " +
+           "FROM Chat c WHERE c.user.userId = :userId " +
+           "AND (c.chatTime < :chatTime OR (c.chatTime = :chatTime AND c.chatId < :chatId)) " +
+           "ORDER BY c.chatTime DESC, c.chatId DESC")
+    List<ChatRow> findChatRowsBefore(@Param("userId") UUID userId,
+                                     @Param("chatTime") LocalDateTime chatTime,
+                                     @Param("chatId") UUID chatId,
+                                     Limit limit);
 }
@@ -0,0 +1,14 @@
+package com.backend.chat.repository;
+
+import com.backend.chat.domain.entity.Chat;
+
+import java.util.List;
+
+public interface ChatRepositoryCustom {
+
+    /**
+     * chat, response를 JDBC 배치 INSERT로 저장 (엔티티 영속화/cascade를 거치지 않음)
+     * - 존재하지 않는 사용자의 채팅은 배치를 실패시키지 않고 건너뜀
+     */
+    void batchInsert(List<Chat> chats);
+}
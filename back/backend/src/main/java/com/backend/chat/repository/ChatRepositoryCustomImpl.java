@@ -0,0 +1,58 @@
+package com.backend.chat.repository;
+
+import com.backend.chat.domain.converter.SenderConverter;
+import com.backend.chat.domain.entity.Chat;
+import com.backend.chat.domain.entity.Response;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Timestamp;
+import java.util.List;
+
+@RequiredArgsConstructor
+public class ChatRepositoryCustomImpl implements ChatRepositoryCustom {
+
+    private static final int BATCH_SIZE = 500;
+
+    // 탈퇴 등으로 사용자가 없으면 FK 오류로 배치 전체가 실패하지 않도록 해당 행만 건너뜀
+    private static final String INSERT_CHAT_SQL =
+            "INSERT INTO chat (chat_id, user_id, sender, chat_time, message) " +
+            "SELECT ?, ?, ?, ?, ? WHERE EXISTS (SELECT 1 FROM \"user\" u WHERE u.user_id = ?)";
+
+    private static final String INSERT_RESPONSE_SQL =
+            "INSERT INTO response (response_id, chat_id, access_id, text) " +
+            "SELECT ?, ?, ?, ? WHERE EXISTS (SELECT 1 FROM chat c WHERE c.chat_id = ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final SenderConverter senderConverter = new SenderConverter();
+
+    @Override
+    public void batchInsert(List<Chat> chats) {
+        if (chats.isEmpty()) {
+            return;
+        }
+        // 엔티티를 거치지 않으므로 @PrePersist 대신 chatTime을 호출 측에서 채워서 넘겨야 함
+        jdbcTemplate.batchUpdate(INSERT_CHAT_SQL, chats, BATCH_SIZE, (ps, chat) -> {
+            ps.setObject(1, chat.getChatId());
+            ps.setObject(2, chat.getUser().getUserId());
+            ps.setString(3, senderConverter.convertToDatabaseColumn(chat.getSender()));
+            ps.setTimestamp(4, Timestamp.valueOf(chat.getChatTime()));
+            ps.setString(5, chat.getMessage());
+            ps.setObject(6, chat.getUser().getUserId());
+        });
+
+        List<Response> responses = chats.stream()
+                .flatMap(chat -> chat.getResponses().stream())
+                .toList();
+        if (responses.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.batchUpdate(INSERT_RESPONSE_SQL, responses, BATCH_SIZE, (ps, response) -> {
+            ps.setObject(1, response.getResponseId());
+            ps.setObject(2, response.getChat().getChatId());
+            ps.setString(3, response.getAccessId());
+            ps.setString(4, response.getText());
+            ps.setObject(5, response.getChat().getChatId());
+        });
+    }
+}
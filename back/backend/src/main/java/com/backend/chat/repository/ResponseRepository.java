@@ -1,11 +1,21 @@
 package com.backend.chat.repository;
 
 import com.backend.chat.domain.entity.Response;
+import com.backend.chat.repository.projection.ResponseRow;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.UUID;
 
 @Repository
 public interface ResponseRepository extends JpaRepository<Response, UUID> {
+
+    // 채팅 한 페이지 분량의 응답을 chat_id IN (...) 한 번으로 조회
+    @Query("SELECT new com.backend.chat.repository.projection.ResponseRow(r.chat.chatId, r.responseId, r.accessId, r.text) " +
+           "FROM Response r WHERE r.chat.chatId IN :chatIds")
+    List<ResponseRow> findRowsByChatIdIn(@Param("chatIds") Collection<UUID> chatIds);
 }
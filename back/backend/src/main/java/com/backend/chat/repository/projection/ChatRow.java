@@ -0,0 +1,18 @@
+package com.backend.chat.repository.projection;
+
+import com.backend.chat.domain.type.Sender;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+// 채팅 목록 조회 전용 프로젝션 (User / responses 연관관계를 로딩하지 않음)
+@Getter
+@AllArgsConstructor
+public class ChatRow {
+    private UUID chatId;
+    private Sender sender;
+    private String message;
+    private LocalDateTime chatTime;
+}
@@ -0,0 +1,16 @@
+package com.backend.chat.repository.projection;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.UUID;
+
+// 채팅 목록 조회 전용 프로젝션 (chat_id IN (...) 한 번으로 묶어서 조회)
+@Getter
+@AllArgsConstructor
+public class ResponseRow {
+    private UUID chatId;
+    private UUID responseId;
+    private String accessId;
+    private String text;
+}
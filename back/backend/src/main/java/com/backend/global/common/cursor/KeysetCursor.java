@@ -0,0 +1,76 @@
+package com.backend.global.common.cursor;
+
+import com.backend.global.common.exception.BaseException;
+import com.backend.global.common.response.BaseResponseStatus;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Window;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Function;
+
+/**
+ * (시간, 아이디) 기반 키셋 페이지네이션 커서
+ * - 클라이언트에는 Base64(URL-safe)로 인코딩된 불투명 문자열로만 노출
+ * - 빈 커서는 첫 페이지를 의미
+ */
+public final class KeysetCursor {
+
+    private static final String SEPARATOR = "|";
+
+    // 커서가 가리키는 마지막 행의 (시간, 아이디)
+    public record Key(LocalDateTime time, UUID id) {
+    }
+
+    private KeysetCursor() {
+    }
+
+    // 커서 문자열 -> (시간, 아이디), 첫 페이지면 null
+    public static Key parse(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+        try {
+            String decoded = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int idx = decoded.indexOf(SEPARATOR);
+            return new Key(LocalDateTime.parse(decoded.substring(0, idx)), UUID.fromString(decoded.substring(idx + 1)));
+        } catch (RuntimeException e) {
+            throw new BaseException(BaseResponseStatus.INVALID_CURSOR);
+        }
+    }
+
+    // 커서 문자열 -> Spring Data 키셋 위치 (timeKey, idKey는 엔티티 필드명)
+    public static ScrollPosition decode(String cursor, String timeKey, String idKey) {
+        Key key = parse(cursor);
+        if (key == null) {
+            return ScrollPosition.keyset();
+        }
+        return ScrollPosition.forward(Map.of(timeKey, key.time(), idKey, key.id()));
+    }
+
+    public static String encode(LocalDateTime time, UUID id) {
+        String raw = time + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    // 다음 페이지가 없으면 null
+    public static <T> String next(Window<T> window, Function<T, LocalDateTime> time, Function<T, UUID> id) {
+        if (!window.hasNext() || window.isEmpty()) {
+            return null;
+        }
+        return next(window.getContent(), time, id);
+    }
+
+    // size + 1 건을 조회한 경우 등, 다음 페이지 존재 여부를 호출 측에서 판단한 뒤 사용
+    public static <T> String next(List<T> content, Function<T, LocalDateTime> time, Function<T, UUID> id) {
+        if (content.isEmpty()) {
+            return null;
+        }
+        T last = content.get(content.size() - 1);
+        return encode(time.apply(last), id.apply(last));
+    }
+}
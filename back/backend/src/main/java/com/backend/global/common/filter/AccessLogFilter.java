@@ -0,0 +1,126 @@
+package com.backend.global.common.filter;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.servlet.AsyncEvent;
+import jakarta.servlet.AsyncListener;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 접근 로그 (요청당 한 줄, key=value 형식)
+ * - 2xx/3xx는 access-log.success-sample-rate 비율만 기록, 4xx/5xx/예외는 항상 기록
+ * - 지연 시간은 텍스트 대신 URI 패턴별 Micrometer 타이머(access.latency, 히스토그램)로 기록
+ * - CompletableFuture 컨트롤러(비동기 요청)는 응답이 끝난 시점에 기록
+ * - ACCESS 로거는 logback-spring.xml의 비동기 appender로 출력
+ */
+@Component
+public class AccessLogFilter extends OncePerRequestFilter {
+    private static final Logger accessLog = LoggerFactory.getLogger("ACCESS");
+
+    private final MeterRegistry meterRegistry;
+    private final double successSampleRate;
+
+    public AccessLogFilter(MeterRegistry meterRegistry,
+                           @Value("${access-log.success-sample-rate:0.05}") double successSampleRate) {
+        this.meterRegistry = meterRegistry;
+        this.successSampleRate = successSampleRate;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request,
+                                    HttpServletResponse response,
+                                    FilterChain filterChain)
+            throws ServletException, IOException {
+
+        long start = System.nanoTime();
+        try {
+            // 필터 체인 진행
+            filterChain.doFilter(request, response);
+        } catch (IOException | ServletException | RuntimeException e) {
+            record(request, 500, System.nanoTime() - start, e);
+            throw e;
+        }
+
+        if (request.isAsyncStarted()) {
+            // onTimeout/onError 뒤에도 onComplete 는 항상 불리므로 상태만 남겨 두고 기록은 onComplete 에서 한 번만
+            request.getAsyncContext().addListener(new AsyncListener() {
+                private volatile int failedStatus;
+                private volatile Throwable error;
+
+                @Override
+                public void onComplete(AsyncEvent event) {
+                    int status = failedStatus != 0 ? failedStatus : response.getStatus();
+                    record(request, status, System.nanoTime() - start, error);
+                }
+
+                @Override
+                public void onTimeout(AsyncEvent event) {
+                    failedStatus = 503;
+                    error = event.getThrowable();
+                }
+
+                @Override
+                public void onError(AsyncEvent event) {
+                    failedStatus = 500;
+                    error = event.getThrowable();
+                }
+
+                @Override
+                public void onStartAsync(AsyncEvent event) {
+                }
+            });
+            return;
+        }
+        record(request, response.getStatus(), System.nanoTime() - start, null);
+    }
+
+    private void record(HttpServletRequest request, int status, long elapsedNanos, Throwable error) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        String route = pattern != null ? pattern.toString() : "UNKNOWN";
+        String method = request.getMethod();
+
+        Timer.builder("access.latency")
+                .description("URI 패턴별 요청 처리 시간")
+                .tag("route", route)
+                .tag("method", method)
+                .tag("outcome", outcome(status, error))
+                .publishPercentileHistogram()
+                .register(meterRegistry)
+                .record(elapsedNanos, TimeUnit.NANOSECONDS);
+
+        long latencyMs = TimeUnit.NANOSECONDS.toMillis(elapsedNanos);
+        String uri = request.getRequestURI();
+        if (error != null || status >= 500) {
+            accessLog.error("method={} uri={} status={} route={} latencyMs={} clientIp={} error=\"{}\"",
+                    method, uri, status, route, latencyMs, request.getRemoteAddr(),
+                    error != null ? error.getMessage() : "");
+        } else if (status >= 400) {
+            accessLog.warn("method={} uri={} status={} route={} latencyMs={} clientIp={}",
+                    method, uri, status, route, latencyMs, request.getRemoteAddr());
+        } else if (ThreadLocalRandom.current().nextDouble() < successSampleRate) {
+            accessLog.info("method={} uri={} status={} route={} latencyMs={} clientIp={}",
+                    method, uri, status, route, latencyMs, request.getRemoteAddr());
+        }
+    }
+
+    private static String outcome(int status, Throwable error) {
+        if (error != null || status >= 500) return "SERVER_ERROR";
+        if (status >= 400) return "CLIENT_ERROR";
+        if (status >= 300) return "REDIRECTION";
+        if (status >= 200) return "SUCCESS";
+        return "UNKNOWN";
+    }
+}
@@ -1,39 +0,0 @@
-package com.backend.global.common.filter;
-
-import jakarta.servlet.FilterChain;
-import jakarta.servlet.ServletException;
-import jakarta.servlet.http.HttpServletRequest;
-import jakarta.servlet.http.HttpServletResponse;
-import org.slf4j.Logger;
-import org.slf4j.LoggerFactory;
-import org.springframework.stereotype.Component;
-import org.springframework.web.filter.OncePerRequestFilter;
-
-import java.io.IOException;
-
-@Component
-public class LoggingFilter extends OncePerRequestFilter {
-    private static final Logger logger = LoggerFactory.getLogger(LoggingFilter.class);
-
-    @Override
-    protected void doFilterInternal(HttpServletRequest request,
-                                    HttpServletResponse response,
-                                    FilterChain filterChain)
-            throws ServletException, IOException {
-
-        String method = request.getMethod();
-        String uri = request.getRequestURI();
-        String query = request.getQueryString();
-        String clientIp = request.getRemoteAddr();
-
-        logger.info("[🌐 REQUEST] {} {}{} from {}", method, uri,
-                (query != null ? "?" + query : ""), clientIp);
-
-        // 필터 체인 진행
-        filterChain.doFilter(request, response);
-
-        int status = response.getStatus();
-        logger.info("[📤 RESPONSE] {} {} → {}", method, uri, status);
-    }
-
-}
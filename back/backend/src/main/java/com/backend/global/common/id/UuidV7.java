@@ -0,0 +1,49 @@
+package com.backend.global.common.id;
+
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 시간 순서 UUID (RFC 9562 version 7) 생성기
+ * - 상위 48비트: Unix epoch 밀리초, 다음 12비트(rand_a): 같은 밀리초 안에서 증가하는 카운터, 나머지 62비트: 난수
+ * - 한 JVM 안에서는 항상 증가 (같은 밀리초에 4096개를 넘거나 시계가 뒤로 가면 다음 밀리초 값을 빌려 씀)
+ * - 새로 만든 PK가 B-tree 인덱스 오른쪽 끝에 붙으므로 UUID.randomUUID() 대비 페이지 분할이 적고 삽입 지역성이 좋음
+ * - 엔티티 PK를 애플리케이션에서 채우는 경로(JPA save, JDBC 배치 INSERT) 모두 이 생성기를 사용
+ */
+public final class UuidV7 {
+
+    private static final long VERSION_7 = 0x7000L;
+    private static final long VARIANT_RFC4122 = 0x8000_0000_0000_0000L;
+    private static final long RAND_B_MASK = 0x3FFF_FFFF_FFFF_FFFFL;
+    private static final int COUNTER_BITS = 12;
+    private static final long COUNTER_MASK = (1L << COUNTER_BITS) - 1;
+
+    // (epoch 밀리초 << 12) | 카운터 — 마지막으로 발급한 값
+    private static final AtomicLong LAST = new AtomicLong();
+
+    private UuidV7() {
+    }
+
+    public static UUID generate() {
+        long candidate = System.currentTimeMillis() << COUNTER_BITS;
+        long next;
+        long prev;
+        do {
+            prev = LAST.get();
+            next = candidate > prev ? candidate : prev + 1;
+        } while (!LAST.compareAndSet(prev, next));
+
+        long msb = (next >>> COUNTER_BITS) << 16 | VERSION_7 | (next & COUNTER_MASK);
+        long lsb = ThreadLocalRandom.current().nextLong() & RAND_B_MASK | VARIANT_RFC4122;
+        return new UUID(msb, lsb);
+    }
+
+    // UUIDv7에 들어 있는 생성 시각 (epoch 밀리초)
+    public static long timestamp(UUID uuid) {
+        if (uuid.version() != 7) {
+            throw new IllegalArgumentException("UUIDv7이 아닙니다: " + uuid);
+        }
+        return uuid.getMostSignificantBits() >>> 16;
+    }
+}
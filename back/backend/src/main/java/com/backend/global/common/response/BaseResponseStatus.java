@@ -18,11 +18,14 @@ public enum BaseResponseStatus {
      * 400: 클라이언트 오류
      */
     INVALID_INPUT_VALUE(HttpStatus.BAD_REQUEST, false, 400, "잘못된 입력값입니다. 다시 확인해주세요."),
+    INVALID_CURSOR(HttpStatus.BAD_REQUEST, false, 400, "잘못된 커서입니다."),
     NO_EXIST_USER(HttpStatus.NOT_FOUND, false, 404, "존재하지 않는 사용자입니다."),
     DUPLICATE_USER(HttpStatus.CONFLICT, false, 409, "이미 존재하는 사용자입니다."),
 
     NO_EXIST_IMAGE(HttpStatus.NOT_FOUND, false, 404, "존재하지 않는 사진입니다."),
+    DUPLICATE_IMAGE(HttpStatus.CONFLICT, false, 409, "이미 등록된 이미지입니다."),
     NO_IMAGE_DELETED(HttpStatus.BAD_REQUEST, false, 400, "요청한 이미지가 전부 삭제되지 않았습니다."),
+    TOO_MANY_IMAGES(HttpStatus.BAD_REQUEST, false, 400, "한 번에 요청할 수 있는 이미지 수를 초과했습니다."),
 
     NO_EXIST_PLAN(HttpStatus.NOT_FOUND, false, 404, "존재하지 않는 일정입니다."),
 
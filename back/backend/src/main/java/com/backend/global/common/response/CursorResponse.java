@@ -0,0 +1,16 @@
+package com.backend.global.common.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Getter
+@AllArgsConstructor
+@NoArgsConstructor
+public class CursorResponse<T> {
+    private List<T> content;
+    private String nextCursor; // 마지막 페이지면 null
+    private boolean hasNext;
+}
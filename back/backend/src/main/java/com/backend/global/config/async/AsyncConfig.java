@@ -1,14 +1,57 @@
 package com.backend.global.config.async;
 
 
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
 import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * @Async 실행기 설정
+ * - async.executor.mode=platform (기본): 고정 크기 스레드 풀
+ * - async.executor.mode=virtual: 작업마다 가상 스레드, 동시 실행 수는 Hikari 커넥션 풀 크기로 제한
+ *   (제한에 걸리면 거절하지 않고 호출 측이 대기)
+ * - ThreadPoolTaskExecutor 빈은 actuator 가 executor.active / executor.queued / executor.pool.size 등을
+ *   name=빈 이름 태그로 자동 등록하므로 여기서는 가상 스레드 모드만 직접 계측
+ */
 @Configuration
 public class AsyncConfig {
-    @Bean
+    @Bean(name = "taskExecutor")
+    @ConditionalOnProperty(name = "async.executor.mode", havingValue = "platform", matchIfMissing = true)
     public ThreadPoolTaskExecutor taskExecutor() {
+        return platformExecutor();
+    }
+
+    @Bean(name = "taskExecutor")
+    @ConditionalOnProperty(name = "async.executor.mode", havingValue = "virtual")
+    public SimpleAsyncTaskExecutor virtualTaskExecutor(
+            @Value("${spring.datasource.hikari.maximum-pool-size:10}") int dbPoolSize,
+            MeterRegistry meterRegistry) {
+        SimpleAsyncTaskExecutor executor = virtualExecutor(dbPoolSize);
+        // 가상 스레드 모드는 ThreadPoolExecutor 가 없어 기본 지표가 없으므로 실행 중 작업 수를 같은 이름으로 노출
+        Tags tags = Tags.of("name", "taskExecutor");
+        AtomicInteger active = meterRegistry.gauge("executor.active", tags, new AtomicInteger());
+        Gauge.builder("executor.pool.max", () -> dbPoolSize).tags(tags).register(meterRegistry);
+        executor.setTaskDecorator(task -> () -> {
+            active.incrementAndGet();
+            try {
+                task.run();
+            } finally {
+                active.decrementAndGet();
+            }
+        });
+        return executor;
+    }
+
+    public static ThreadPoolTaskExecutor platformExecutor() {
         ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
         executor.setCorePoolSize(4);  // 최소 4개의 스레드
         executor.setMaxPoolSize(8);   // 최대 8개의 스레드 (CPU 코어 수의 2배)
@@ -17,4 +60,25 @@ public class AsyncConfig {
         executor.initialize();
         return executor;
     }
+
+    public static SimpleAsyncTaskExecutor virtualExecutor(int concurrencyLimit) {
+        SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor("AsyncVirtual-");
+        executor.setVirtualThreads(true);
+        executor.setConcurrencyLimit(concurrencyLimit); // DB 커넥션 수보다 많이 동시에 들어가지 않도록
+        executor.setTaskTerminationTimeout(10_000);     // 종료 시 실행 중인 작업 대기
+        return executor;
+    }
+
+    // 알림 FCM 배치 전송 전용 (스케줄러 스레드와 분리, 큐가 차면 호출 스레드에서 실행해 자연스럽게 속도 조절)
+    @Bean
+    public ThreadPoolTaskExecutor alarmDispatchExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(2);
+        executor.setMaxPoolSize(4);
+        executor.setQueueCapacity(20);
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        executor.setThreadNamePrefix("AlarmDispatch-");
+        executor.initialize();
+        return executor;
+    }
 }
@@ -0,0 +1,97 @@
+package com.backend.global.config.cache;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Tag;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.actuate.metrics.cache.CacheMeterBinderProvider;
+import org.springframework.boot.actuate.metrics.cache.RedisCacheMetrics;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.caffeine.CaffeineCache;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.cache.support.SimpleCacheManager;
+import org.springframework.cache.transaction.TransactionAwareCacheManagerProxy;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.cache.RedisCache;
+import org.springframework.data.redis.cache.RedisCacheConfiguration;
+import org.springframework.data.redis.cache.RedisCacheManager;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 홈 화면 조회용 캐시 설정 (즐겨찾기 미리보기, 일정 미리보기, 사용자 정보)
+ * - cache.redis.enabled=false (기본): 인스턴스 로컬 Caffeine 캐시
+ * - cache.redis.enabled=true: Caffeine + Redis 2단계 캐시 (TwoLevelCache)
+ * - 트랜잭션 안에서의 삭제는 커밋 이후에 반영 (커밋 전 다른 요청이 이전 값을 다시 캐시하는 것 방지)
+ * - hit/miss/eviction 통계는 actuator metrics의 cache.* 로 노출
+ */
+@Configuration
+@EnableCaching
+public class CacheConfig {
+
+    @Value("${cache.local.ttl:10m}")
+    private Duration localTtl;
+
+    @Value("${cache.local.max-size:10000}")
+    private long localMaxSize;
+
+    @Bean
+    @ConditionalOnProperty(name = "cache.redis.enabled", havingValue = "false", matchIfMissing = true)
+    public CacheManager cacheManager() {
+        CaffeineCacheManager manager = new CaffeineCacheManager();
+        manager.setCaffeine(caffeine());
+        manager.setAllowNullValues(false);
+        manager.setCacheNames(List.of(CacheNames.ALL)); // 이름을 고정해 두어야 시작 시 메트릭이 등록됨
+        return new TransactionAwareCacheManagerProxy(manager);
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "cache.redis.enabled", havingValue = "true")
+    public CacheManager twoLevelCacheManager(RedisConnectionFactory connectionFactory,
+                                             @Value("${cache.redis.ttl:30m}") Duration redisTtl) {
+        RedisCacheManager redisCacheManager = RedisCacheManager.builder(connectionFactory)
+                .cacheDefaults(RedisCacheConfiguration.defaultCacheConfig()
+                        .entryTtl(redisTtl)
+                        .disableCachingNullValues()
+                        .prefixCacheNameWith("backend:"))
+                .enableStatistics()
+                .build();
+
+        List<Cache> caches = new ArrayList<>();
+        for (String name : CacheNames.ALL) {
+            CaffeineCache local = new CaffeineCache(name, caffeine().build(), false);
+            RedisCache remote = (RedisCache) redisCacheManager.getCache(name);
+            caches.add(new TwoLevelCache(local, remote));
+        }
+
+        SimpleCacheManager manager = new SimpleCacheManager();
+        manager.setCaches(caches);
+        manager.initializeCaches();
+        return new TransactionAwareCacheManagerProxy(manager);
+    }
+
+    // TwoLevelCache도 actuator 캐시 메트릭에 포함되도록 단계(tier)별로 등록
+    @Bean
+    public CacheMeterBinderProvider<TwoLevelCache> twoLevelCacheMeterBinderProvider() {
+        return (cache, tags) -> registry -> {
+            new CaffeineCacheMetrics<>(cache.getLocal().getNativeCache(), cache.getName(),
+                    Tags.of(tags).and(Tag.of("tier", "local"))).bindTo(registry);
+            new RedisCacheMetrics(cache.getRemote(), Tags.of(tags).and(Tag.of("tier", "redis"))).bindTo(registry);
+        };
+    }
+
+    private Caffeine<Object, Object> caffeine() {
+        return Caffeine.newBuilder()
+                .expireAfterWrite(localTtl)
+                .maximumSize(localMaxSize)
+                .recordStats();
+    }
+}
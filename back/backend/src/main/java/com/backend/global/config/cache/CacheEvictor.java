@@ -0,0 +1,39 @@
+package com.backend.global.config.cache;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Component;
+
+import java.util.UUID;
+
+/**
+ * 쓰기 작업 후 사용자별 캐시 무효화
+ * - 키(userId)를 메서드 인자에서 바로 알 수 없는 경우(imageId, planId로 요청)가 많아 @CacheEvict 대신 직접 호출
+ * - CacheManager가 트랜잭션 인식 프록시이므로 트랜잭션 안에서 호출하면 커밋 후에 삭제됨
+ */
+@Component
+@RequiredArgsConstructor
+public class CacheEvictor {
+
+    private final CacheManager cacheManager;
+
+    public void evictStarPreview(UUID userId) {
+        evict(CacheNames.STAR_PREVIEW, userId);
+    }
+
+    public void evictPlanPreview(UUID userId) {
+        evict(CacheNames.PLAN_PREVIEW, userId);
+    }
+
+    public void evictUser(UUID userId) {
+        evict(CacheNames.USER, userId);
+    }
+
+    private void evict(String cacheName, UUID userId) {
+        Cache cache = cacheManager.getCache(cacheName);
+        if (cache != null && userId != null) {
+            cache.evict(userId);
+        }
+    }
+}
@@ -0,0 +1,16 @@
+package com.backend.global.config.cache;
+
+/**
+ * 캐시 이름 (모두 userId를 키로 사용)
+ */
+public final class CacheNames {
+
+    public static final String STAR_PREVIEW = "starPreview";
+    public static final String PLAN_PREVIEW = "planPreview";
+    public static final String USER = "user";
+
+    static final String[] ALL = {STAR_PREVIEW, PLAN_PREVIEW, USER};
+
+    private CacheNames() {
+    }
+}
@@ -0,0 +1,132 @@
+package com.backend.global.config.cache;
+
+import lombok.Getter;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.cache.Cache;
+import org.springframework.cache.caffeine.CaffeineCache;
+import org.springframework.cache.support.SimpleValueWrapper;
+import org.springframework.data.redis.cache.RedisCache;
+
+import java.util.concurrent.Callable;
+
+/**
+ * 로컬(Caffeine) + Redis 2단계 캐시
+ * - 조회: 로컬 -> Redis -> 원본 순서, Redis에서 찾으면 로컬에도 채움
+ * - 저장/삭제: 두 단계 모두 반영
+ * - Redis 오류는 캐시 미스로 처리하여 DB 조회로 넘어감 (캐시 장애가 API 장애로 번지지 않도록)
+ * - 다른 인스턴스의 로컬 캐시는 무효화되지 않으므로 cache.local.ttl을 짧게 유지해야 함
+ */
+@Getter
+public class TwoLevelCache implements Cache {
+
+    private static final Logger log = LoggerFactory.getLogger(TwoLevelCache.class);
+
+    private final CaffeineCache local;
+    private final RedisCache remote;
+
+    public TwoLevelCache(CaffeineCache local, RedisCache remote) {
+        this.local = local;
+        this.remote = remote;
+    }
+
+    @Override
+    public String getName() {
+        return local.getName();
+    }
+
+    @Override
+    public Object getNativeCache() {
+        return this;
+    }
+
+    @Override
+    public ValueWrapper get(Object key) {
+        ValueWrapper value = local.get(key);
+        if (value != null) {
+            return value;
+        }
+
+        value = getRemote(key);
+        if (value != null) {
+            local.put(key, value.get());
+        }
+        return value;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Class<T> type) {
+        ValueWrapper value = get(key);
+        if (value == null) {
+            return null;
+        }
+        Object stored = value.get();
+        if (type != null && !type.isInstance(stored)) {
+            throw new IllegalStateException("캐시 값 타입이 일치하지 않습니다: " + type.getName());
+        }
+        return (T) stored;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Callable<T> valueLoader) {
+        // 같은 키에 대한 동시 미스는 Caffeine이 한 번만 로딩하도록 묶어줌
+        return local.get(key, () -> {
+            ValueWrapper value = getRemote(key);
+            if (value != null) {
+                return (T) value.get();
+            }
+            T loaded = valueLoader.call();
+            putRemote(key, loaded);
+            return loaded;
+        });
+    }
+
+    @Override
+    public void put(Object key, Object value) {
+        local.put(key, value);
+        putRemote(key, value);
+    }
+
+    @Override
+    public void evict(Object key) {
+        local.evict(key);
+        try {
+            remote.evict(key);
+        } catch (RuntimeException e) {
+            log.error("❌ Redis 캐시 삭제 실패 - cache: {}, key: {}, message: {}", getName(), key, e.getMessage());
+        }
+    }
+
+    @Override
+    public void clear() {
+        local.clear();
+        try {
+            remote.clear();
+        } catch (RuntimeException e) {
+            log.error("❌ Redis 캐시 전체 삭제 실패 - cache: {}, message: {}", getName(), e.getMessage());
+        }
+    }
+
+    private ValueWrapper getRemote(Object key) {
+        try {
+            ValueWrapper value = remote.get(key);
+            return value == null ? null : new SimpleValueWrapper(value.get());
+        } catch (RuntimeException e) {
+            log.warn("Redis 캐시 조회 실패, DB 조회로 대체 - cache: {}, key: {}, message: {}", getName(), key, e.getMessage());
+            return null;
+        }
+    }
+
+    private void putRemote(Object key, Object value) {
+        if (value == null) {
+            return;
+        }
+        try {
+            remote.put(key, value);
+        } catch (RuntimeException e) {
+            log.warn("Redis 캐시 저장 실패 - cache: {}, key: {}, message: {}", getName(), key, e.getMessage());
+        }
+    }
+}
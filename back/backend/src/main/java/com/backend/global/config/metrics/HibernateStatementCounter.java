@@ -0,0 +1,36 @@
+package com.backend.global.config.metrics;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+/**
+ * Hibernate 가 실행하는 SQL 수를 스레드별로 세는 StatementInspector
+ * - hibernate.session_factory.statement_inspector 로 등록 (Hibernate 가 직접 생성)
+ * - ServiceMetricsAspect 가 서비스 메서드 단위로 start/stop 하여 호출당 쿼리 수(N+1 등)를 기록
+ * - JdbcTemplate 으로 직접 실행하는 배치 INSERT / 검색 쿼리는 세지 않음
+ */
+public class HibernateStatementCounter implements StatementInspector {
+
+    private static final ThreadLocal<int[]> COUNT = ThreadLocal.withInitial(() -> new int[1]);
+
+    @Override
+    public String inspect(String sql) {
+        COUNT.get()[0]++;
+        return sql;
+    }
+
+    // 새 구간 시작, 바깥 구간의 누적값을 반환 (서비스가 다른 서비스를 호출하는 중첩 구간 지원)
+    static int start() {
+        int[] count = COUNT.get();
+        int outer = count[0];
+        count[0] = 0;
+        return outer;
+    }
+
+    // 구간 종료, 이 구간에서 실행된 SQL 수를 반환하고 바깥 구간에 합산
+    static int stop(int outer) {
+        int[] count = COUNT.get();
+        int inner = count[0];
+        count[0] = outer + inner;
+        return inner;
+    }
+}
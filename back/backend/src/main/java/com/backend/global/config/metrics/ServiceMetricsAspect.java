@@ -0,0 +1,93 @@
+package com.backend.global.config.metrics;
+
+import com.backend.global.common.exception.BaseException;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 서비스 메서드 RED 지표 (요청 수 / 오류 수 / 소요 시간)
+ * - service.method (Timer): service, method, outcome(success|error), exception 태그
+ *   (BaseException 은 응답 상태 이름, 그 외는 예외 클래스 이름)
+ * - service.hibernate.statements (DistributionSummary): 호출 한 번에 Hibernate 가 실행한 SQL 수
+ * - @Async 메서드는 비동기 인터셉터가 가장 바깥에서 실행되므로 이 Aspect 는 실행기 스레드에서 실제 작업 시간만 잼
+ * - 트랜잭션 커밋 시점의 flush 까지 포함하도록 @Transactional 보다 바깥에서 실행
+ */
+@Aspect
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+@RequiredArgsConstructor
+public class ServiceMetricsAspect {
+
+    private final MeterRegistry meterRegistry;
+
+    @Around("execution(public * com.backend..application.service..*(..))")
+    public Object measure(ProceedingJoinPoint pjp) throws Throwable {
+        String service = pjp.getSignature().getDeclaringType().getSimpleName();
+        String method = pjp.getSignature().getName();
+
+        int outer = HibernateStatementCounter.start();
+        long start = System.nanoTime();
+        Object result;
+        try {
+            result = pjp.proceed();
+        } catch (Throwable t) {
+            record(service, method, start, HibernateStatementCounter.stop(outer), t);
+            throw t;
+        }
+        int statements = HibernateStatementCounter.stop(outer);
+
+        if (result instanceof CompletionStage<?> stage) {
+            // 아직 끝나지 않은 future 면 완료 시점에 기록
+            stage.whenComplete((r, ex) -> record(service, method, start, statements, unwrap(ex)));
+        } else {
+            record(service, method, start, statements, null);
+        }
+        return result;
+    }
+
+    private void record(String service, String method, long start, int statements, Throwable error) {
+        Timer.builder("service.method")
+                .tag("service", service)
+                .tag("method", method)
+                .tag("outcome", error == null ? "success" : "error")
+                .tag("exception", exceptionTag(error))
+                .register(meterRegistry)
+                .record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+
+        DistributionSummary.builder("service.hibernate.statements")
+                .tag("service", service)
+                .tag("method", method)
+                .register(meterRegistry)
+                .record(statements);
+    }
+
+    private static String exceptionTag(Throwable error) {
+        if (error == null) {
+            return "none";
+        }
+        if (error instanceof BaseException be) {
+            return be.getStatus().name();
+        }
+        return error.getClass().getSimpleName();
+    }
+
+    private static Throwable unwrap(Throwable error) {
+        if ((error instanceof CompletionException || error instanceof ExecutionException) && error.getCause() != null) {
+            return error.getCause();
+        }
+        return error;
+    }
+}
@@ -0,0 +1,16 @@
+package com.backend.image.application.in;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.UUID;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class CheckImagesInDto {
+    private UUID userId;
+    private List<String> accessIds;
+}
@@ -11,5 +11,6 @@ import java.util.UUID;
 @NoArgsConstructor
 @AllArgsConstructor
 public class DeleteImagesInDto {
+    UUID userId; // 선택값: 있으면 해당 사용자의 이미지만 삭제
     List<UUID> imageIds;
 }
@@ -0,0 +1,16 @@
+package com.backend.image.application.in;
+
+import com.backend.image.domain.type.ImageType;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class SaveImageItem {
+    private String accessId;
+    private String imageTime;
+    private ImageType type;
+    private String content;
+}
@@ -0,0 +1,16 @@
+package com.backend.image.application.in;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.UUID;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class SaveImagesInDto {
+    private UUID userId;
+    private List<SaveImageItem> images;
+}
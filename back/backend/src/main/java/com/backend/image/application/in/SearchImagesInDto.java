@@ -0,0 +1,21 @@
+package com.backend.image.application.in;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.util.UUID;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class SearchImagesInDto {
+    private UUID userId;
+    private String query;
+    private LocalDate from; // 포함
+    private LocalDate to;   // 포함 (해당 날짜 23:59:59 까지)
+    private Boolean star;
+    private String cursor;
+    private int size;
+}
@@ -0,0 +1,61 @@
+package com.backend.image.application.mapper;
+
+import com.backend.image.application.out.ImageOutDto;
+import com.backend.image.application.out.ImageThumbnailOutDto;
+import com.backend.image.application.out.SaveImageOutDto;
+import com.backend.image.domain.entity.Image;
+import com.backend.image.repository.projection.ImageSearchRow;
+
+import java.util.List;
+
+/**
+ * Image 엔티티 -> OutDto 변환
+ * - 목록 API에서 항목마다 호출되므로 리플렉션(ModelMapper) 없이 생성자로 직접 변환
+ */
+public final class ImageMapper {
+
+    private ImageMapper() {
+    }
+
+    public static ImageThumbnailOutDto toThumbnail(Image image) {
+        return new ImageThumbnailOutDto(
+                image.getImageId(),
+                image.getAccessId(),
+                image.isStar()
+        );
+    }
+
+    public static List<ImageThumbnailOutDto> toThumbnails(List<Image> images) {
+        return images.stream()
+                .map(ImageMapper::toThumbnail)
+                .toList();
+    }
+
+    public static ImageOutDto toOutDto(Image image) {
+        return new ImageOutDto(
+                image.getImageId(),
+                image.getAccessId(),
+                image.getImageTime(),
+                image.isStar(),
+                image.getContent()
+        );
+    }
+
+    public static ImageOutDto toOutDto(ImageSearchRow row) {
+        return new ImageOutDto(
+                row.getImageId(),
+                row.getAccessId(),
+                row.getImageTime(),
+                row.isStar(),
+                row.getContent()
+        );
+    }
+
+    public static SaveImageOutDto toSaveOutDto(Image image) {
+        return new SaveImageOutDto(
+                image.getImageId(),
+                image.getAccessId(),
+                image.getContent()
+        );
+    }
+}
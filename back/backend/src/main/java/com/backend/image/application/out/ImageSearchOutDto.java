@@ -0,0 +1,17 @@
+package com.backend.image.application.out;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class ImageSearchOutDto {
+    private List<ImageOutDto> content;
+    private String nextCursor; // 마지막 페이지면 null
+    private boolean hasNext;
+    private Long estimatedTotal; // 첫 페이지에서만 채움 (다음 페이지가 없으면 정확한 값)
+}
@@ -0,0 +1,17 @@
+package com.backend.image.application.out;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.UUID;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class SaveImageResultOutDto {
+    private String accessId;
+    private UUID imageId;   // 저장 실패 시 null
+    private Boolean success;
+    private String message;
+}
@@ -1,36 +1,58 @@
 package com.backend.image.application.service;
 
+import com.backend.global.common.cursor.KeysetCursor;
+import com.backend.global.config.cache.CacheEvictor;
+import com.backend.global.config.cache.CacheNames;
 import com.backend.global.common.exception.BaseException;
+import com.backend.global.common.response.CursorResponse;
 import com.backend.global.common.response.BaseResponseStatus;
+import com.backend.image.application.in.CheckImagesInDto;
 import com.backend.image.application.in.DeleteImagesInDto;
 import com.backend.image.application.in.SaveImageInDto;
+import com.backend.image.application.in.SaveImageItem;
+import com.backend.image.application.in.SaveImagesInDto;
+import com.backend.image.application.in.SearchImagesInDto;
+import com.backend.image.application.mapper.ImageMapper;
 import com.backend.image.application.out.ImageCheckOutDto;
 import com.backend.image.application.out.ImageOutDto;
+import com.backend.image.application.out.ImageSearchOutDto;
 import com.backend.image.application.out.ImageThumbnailOutDto;
 import com.backend.image.application.out.SaveImageOutDto;
+import com.backend.image.application.out.SaveImageResultOutDto;
 import com.backend.image.domain.entity.Image;
 import com.backend.image.repository.ImageRepository;
+import com.backend.image.repository.ImageSearchFilter;
+import com.backend.image.repository.projection.DeletedImageRow;
+import com.backend.image.repository.projection.ImageSearchRow;
 import com.backend.user.domain.entity.User;
 import com.backend.user.repository.UserRepository;
+import com.backend.global.common.id.UuidV7;
 import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
-import org.modelmapper.ModelMapper;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Window;
 import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Service;
 
-import java.lang.reflect.Type;
-import org.modelmapper.TypeToken;
-
 import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
 import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
 import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 import java.util.UUID;
 import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
 
 @Service
 @RequiredArgsConstructor
@@ -38,10 +60,21 @@ public class ImageService {
 
     private final UserRepository userRepository;
     private final ImageRepository imageRepository;
-    private final ModelMapper modelMapper;
+    private final CacheEvictor cacheEvictor;
 
     private static final Logger log = LoggerFactory.getLogger(ImageService.class);
 
+    // 일괄 저장 한 번에 받을 수 있는 최대 이미지 수
+    private static final int MAX_BATCH_SIZE = 1000;
+    // 일괄 존재 여부 확인 한 번에 받을 수 있는 최대 accessId 수 (스트리밍 모드는 제한 없음)
+    private static final int MAX_CHECK_SIZE = 5000;
+    // 스트리밍 모드에서 한 번에 조회/전송하는 accessId 수
+    private static final int CHECK_CHUNK_SIZE = 1000;
+    // 검색 한 페이지 최대 크기 / 검색어 최대 길이
+    private static final int MAX_SEARCH_SIZE = 100;
+    private static final int MAX_QUERY_LENGTH = 100;
+    private static final DateTimeFormatter IMAGE_TIME_FORMATTER = DateTimeFormatter.ofPattern("yyyy:MM:dd HH:mm:ss");
+
     @Transactional
     @Async
     public CompletableFuture<SaveImageOutDto> saveImage(SaveImageInDto inDto) {
@@ -56,7 +89,7 @@ public class ImageService {
 
             // 이미지 객체 생성 및 저장
             Image image = Image.builder()
-                    .imageId(UUID.randomUUID())
+                    .imageId(UuidV7.generate())
                     .user(user)
                     .accessId(inDto.getAccessId())
                     .imageTime(imageTime)
@@ -66,10 +99,14 @@ public class ImageService {
 
             // 사용자 정보 업데이트
             user.updateInfoCount(user.getInfoCount() + 1);
+            cacheEvictor.evictUser(user.getUserId());
 
-            // 이미지 저장 후 반환
-            return CompletableFuture.completedFuture(modelMapper.map(imageRepository.save(image), SaveImageOutDto.class));
+            // 이미지 저장 후 반환 (동시에 같은 accessId 가 저장되면 유니크 위반이 여기서 바로 드러나도록 flush)
+            return CompletableFuture.completedFuture(ImageMapper.toSaveOutDto(imageRepository.saveAndFlush(image)));
 
+        } catch (DataIntegrityViolationException e) {
+            log.warn("⚠️ 이미 등록된 이미지 - userId: {}, accessId: {}", inDto.getUserId(), inDto.getAccessId());
+            throw new BaseException(BaseResponseStatus.DUPLICATE_IMAGE);
         } catch (Exception e) {
             log.error("❌ 이미지 저장 중 예외 발생 - userId: {}, accessId: {}, message: {}",
                     inDto.getUserId(), inDto.getAccessId(), e.getMessage(), e);
@@ -77,6 +114,97 @@ public class ImageService {
         }
     }
 
+    /**
+     * 이미지 일괄 저장 (전체 백업용)
+     * - 사용자 행 잠금 없이 JDBC batch insert 한 번 + info_count 증가 UPDATE 한 번으로 처리
+     * - 이미 저장된 accessId, 요청 내 중복, type 누락, 시간 형식 오류는 항목별 실패로 반환
+     * - 동시에 들어온 다른 요청이 먼저 저장한 accessId는 INSERT 에서 건너뛰고 항목별 실패로 바꿈 (info_count 는 실제 저장 수만큼만 증가)
+     */
+    @Transactional
+    public List<SaveImageResultOutDto> saveImages(SaveImagesInDto inDto) {
+        if (inDto.getImages().size() > MAX_BATCH_SIZE) {
+            throw new BaseException(BaseResponseStatus.TOO_MANY_IMAGES);
+        }
+
+        UUID userId = inDto.getUserId();
+        if (!userRepository.existsById(userId)) {
+            throw new BaseException(BaseResponseStatus.NO_EXIST_USER);
+        }
+        User user = userRepository.getReferenceById(userId);
+
+        // 이미 저장된 accessId를 한 번에 조회
+        List<String> accessIds = inDto.getImages().stream()
+                .map(SaveImageItem::getAccessId)
+                .toList();
+        Set<String> seen = new HashSet<>(imageRepository.findExistingAccessIds(userId, accessIds));
+
+        LocalDateTime uploadTime = ZonedDateTime.now(ZoneId.of("Asia/Seoul")).withNano(0).toLocalDateTime();
+        List<Image> images = new ArrayList<>();
+        List<SaveImageResultOutDto> results = new ArrayList<>();
+
+        for (SaveImageItem item : inDto.getImages()) {
+            if (item.getAccessId() == null) {
+                results.add(new SaveImageResultOutDto(null, null, false, "accessId가 없습니다."));
+                continue;
+            }
+            if (!seen.add(item.getAccessId())) {
+                results.add(new SaveImageResultOutDto(item.getAccessId(), null, false, "이미 등록된 이미지입니다."));
+                continue;
+            }
+            if (item.getType() == null) {
+                results.add(new SaveImageResultOutDto(item.getAccessId(), null, false, "type이 없습니다."));
+                continue;
+            }
+
+            LocalDateTime imageTime = parseImageTime(item.getImageTime());
+            if (imageTime == null) {
+                results.add(new SaveImageResultOutDto(item.getAccessId(), null, false, "잘못된 imageTime 형식입니다."));
+                continue;
+            }
+
+            Image image = Image.builder()
+                    .imageId(UuidV7.generate())
+                    .user(user)
+                    .accessId(item.getAccessId())
+                    .imageTime(imageTime)
+                    .uploadTime(uploadTime)
+                    .type(item.getType())
+                    .content(item.getContent())
+                    .build();
+            images.add(image);
+            results.add(new SaveImageResultOutDto(image.getAccessId(), image.getImageId(), true, null));
+        }
+
+        int insertedCount = 0;
+        if (!images.isEmpty()) {
+            Set<UUID> inserted = imageRepository.batchInsert(images);
+            insertedCount = inserted.size();
+            if (insertedCount < images.size()) {
+                results.replaceAll(result -> result.getSuccess() && !inserted.contains(result.getImageId())
+                        ? new SaveImageResultOutDto(result.getAccessId(), null, false, "이미 등록된 이미지입니다.")
+                        : result);
+            }
+            if (insertedCount > 0) {
+                userRepository.increaseInfoCount(userId, insertedCount);
+                cacheEvictor.evictUser(userId);
+            }
+        }
+
+        log.debug("이미지 일괄 저장 - userId: {}, 요청: {}, 저장: {}", userId, inDto.getImages().size(), insertedCount);
+        return results;
+    }
+
+    private LocalDateTime parseImageTime(String imageTime) {
+        if (imageTime == null) {
+            return null;
+        }
+        try {
+            return LocalDateTime.parse(imageTime, IMAGE_TIME_FORMATTER);
+        } catch (DateTimeParseException e) {
+            return null;
+        }
+    }
+
     @Async
     public CompletableFuture<Page<ImageThumbnailOutDto>> getAllImages(UUID userId, Pageable pageable) {
         try {
@@ -84,13 +212,73 @@ public class ImageService {
             Page<Image> images = imageRepository.findByUser_UserIdAndStarFalseOrderByImageTimeDesc(userId, pageable);
 
             // 반환 값 처리
-            return CompletableFuture.completedFuture(images.map(image -> modelMapper.map(image, ImageThumbnailOutDto.class)));
+            return CompletableFuture.completedFuture(images.map(ImageMapper::toThumbnail));
         } catch (Exception e) {
             log.error("❌ 이미지 목록 조회 중 예외 발생 - userId: {}, message: {}", userId, e.getMessage(), e);
             throw new BaseException(BaseResponseStatus.INTERNAL_SERVER_ERROR);
         }
     }
 
+    @Async
+    public CompletableFuture<CursorResponse<ImageThumbnailOutDto>> getImagesByCursor(UUID userId, String cursor, int size) {
+        ScrollPosition position = KeysetCursor.decode(cursor, "imageTime", "imageId");
+        try {
+            // 이미지 조회 (키셋 방식)
+            Window<Image> images = imageRepository.findByUser_UserIdAndStarFalseOrderByImageTimeDescImageIdDesc(
+                    userId, position, Limit.of(size));
+
+            // 반환 값 처리
+            List<ImageThumbnailOutDto> content = images.map(ImageMapper::toThumbnail).getContent();
+            String nextCursor = KeysetCursor.next(images, Image::getImageTime, Image::getImageId);
+            return CompletableFuture.completedFuture(new CursorResponse<>(content, nextCursor, nextCursor != null));
+        } catch (Exception e) {
+            log.error("❌ 이미지 목록(커서) 조회 중 예외 발생 - userId: {}, message: {}", userId, e.getMessage(), e);
+            throw new BaseException(BaseResponseStatus.INTERNAL_SERVER_ERROR);
+        }
+    }
+
+    /**
+     * 이미지 설명(content) 검색 + 기간/즐겨찾기 필터 (RAG 서버를 거치지 않는 단순 검색용)
+     * - 최신순 키셋 페이지네이션, 첫 페이지에서만 결과 수 추정치를 함께 반환
+     */
+    @Async
+    public CompletableFuture<ImageSearchOutDto> searchImages(SearchImagesInDto inDto) {
+        String query = inDto.getQuery() == null ? null : inDto.getQuery().strip();
+        if (inDto.getSize() < 1 || inDto.getSize() > MAX_SEARCH_SIZE
+                || (query != null && query.length() > MAX_QUERY_LENGTH)
+                || (inDto.getFrom() != null && inDto.getTo() != null && inDto.getFrom().isAfter(inDto.getTo()))) {
+            throw new BaseException(BaseResponseStatus.INVALID_INPUT_VALUE);
+        }
+        KeysetCursor.Key after = KeysetCursor.parse(inDto.getCursor());
+        ImageSearchFilter filter = new ImageSearchFilter(
+                inDto.getUserId(),
+                query,
+                inDto.getFrom() == null ? null : inDto.getFrom().atStartOfDay(),
+                inDto.getTo() == null ? null : inDto.getTo().plusDays(1).atStartOfDay(),
+                inDto.getStar());
+        try {
+            // size + 1 건 조회로 다음 페이지 존재 여부 판단
+            List<ImageSearchRow> rows = imageRepository.search(filter, after, inDto.getSize() + 1);
+            boolean hasNext = rows.size() > inDto.getSize();
+            List<ImageSearchRow> page = hasNext ? rows.subList(0, inDto.getSize()) : rows;
+
+            String nextCursor = hasNext ? KeysetCursor.next(page, ImageSearchRow::getImageTime, ImageSearchRow::getImageId) : null;
+            Long estimatedTotal = null;
+            if (after == null) {
+                // 한 페이지로 끝나면 정확한 값, 아니면 플래너 추정치 (최소한 이미 본 건수 이상)
+                estimatedTotal = hasNext
+                        ? Math.max(imageRepository.estimateSearchCount(filter), rows.size())
+                        : (long) page.size();
+            }
+
+            List<ImageOutDto> content = page.stream().map(ImageMapper::toOutDto).toList();
+            return CompletableFuture.completedFuture(new ImageSearchOutDto(content, nextCursor, hasNext, estimatedTotal));
+        } catch (Exception e) {
+            log.error("❌ 이미지 검색 중 예외 발생 - userId: {}, query: {}, message: {}", inDto.getUserId(), query, e.getMessage(), e);
+            throw new BaseException(BaseResponseStatus.INTERNAL_SERVER_ERROR);
+        }
+    }
+
     @Async
     public CompletableFuture<ImageOutDto> getImageById(UUID imageId) {
         try {
@@ -99,7 +287,7 @@ public class ImageService {
                     .orElseThrow(() -> new BaseException(BaseResponseStatus.NO_EXIST_IMAGE));
 
             // 반환 값 처리
-            return CompletableFuture.completedFuture(modelMapper.map(image, ImageOutDto.class));
+            return CompletableFuture.completedFuture(ImageMapper.toOutDto(image));
         } catch (Exception e) {
             log.error("❌ 이미지 조회 중 예외 발생 - imageId: {}, message: {}", imageId, e.getMessage(), e);
             throw new BaseException(BaseResponseStatus.INTERNAL_SERVER_ERROR);
@@ -118,40 +306,95 @@ public class ImageService {
         }
     }
 
+    /**
+     * 아직 서버에 등록되지 않은 accessId 목록 조회 (업로드 대상 선별용)
+     * - 요청 순서를 유지하며, 중복된 accessId는 한 번만 반환
+     */
+    public List<String> findMissingAccessIds(CheckImagesInDto inDto) {
+        if (inDto.getAccessIds().size() > MAX_CHECK_SIZE) {
+            throw new BaseException(BaseResponseStatus.TOO_MANY_IMAGES);
+        }
+
+        List<String> missing = new ArrayList<>();
+        forEachMissingChunk(inDto.getUserId(), inDto.getAccessIds(), inDto.getAccessIds().size(), missing::addAll);
+        return missing;
+    }
+
+    /**
+     * 스트리밍 모드: CHECK_CHUNK_SIZE 단위로 조회하여 누락된 accessId를 chunk마다 consumer에 전달
+     * - 전체 결과를 메모리에 모으지 않음
+     */
+    public void streamMissingAccessIds(CheckImagesInDto inDto, Consumer<List<String>> chunkConsumer) {
+        forEachMissingChunk(inDto.getUserId(), inDto.getAccessIds(), CHECK_CHUNK_SIZE, chunkConsumer);
+    }
+
+    private void forEachMissingChunk(UUID userId, List<String> accessIds, int chunkSize,
+                                     Consumer<List<String>> chunkConsumer) {
+        Set<String> requested = new HashSet<>();
+
+        for (int from = 0; from < accessIds.size(); from += chunkSize) {
+            List<String> chunk = accessIds.subList(from, Math.min(from + chunkSize, accessIds.size())).stream()
+                    .filter(accessId -> accessId != null && requested.add(accessId))
+                    .toList();
+            if (chunk.isEmpty()) {
+                continue;
+            }
+
+            Set<String> existing = new HashSet<>(imageRepository.findExistingAccessIds(userId, chunk));
+            List<String> missing = chunk.stream()
+                    .filter(accessId -> !existing.contains(accessId))
+                    .toList();
+            if (!missing.isEmpty()) {
+                chunkConsumer.accept(missing);
+            }
+        }
+    }
+
+    @Cacheable(cacheNames = CacheNames.STAR_PREVIEW, key = "#userId")
     public List<ImageThumbnailOutDto> getStarPreview(UUID userId) {
         List<Image> images = imageRepository.findTop3ByUser_UserIdAndStarTrueOrderByImageTimeDesc(userId);
 
-        Type listType = new TypeToken<List<ImageThumbnailOutDto>>() {}.getType();
-        return modelMapper.map(images, listType);
+        return ImageMapper.toThumbnails(images);
     }
 
     public Page<ImageThumbnailOutDto> getStarredImages(UUID userId, Pageable pageable) {
         Page<Image> images = imageRepository.findByUser_UserIdAndStarTrueOrderByImageTimeDesc(userId, pageable);
 
-        return images.map(image -> modelMapper.map(image, ImageThumbnailOutDto.class));
+        return images.map(ImageMapper::toThumbnail);
     }
 
     public void deleteImage(UUID imageId){
         Image image = imageRepository.findById(imageId)
                 .orElseThrow(() -> new BaseException(BaseResponseStatus.NO_EXIST_IMAGE));
         imageRepository.delete(image);
+
+        if (image.isStar()) {
+            cacheEvictor.evictStarPreview(image.getUser().getUserId());
+        }
     }
 
+    /**
+     * 이미지 일괄 삭제
+     * - DELETE ... RETURNING 한 번으로 삭제하고, 같은 문장에서 사용자 info_count도 차감
+     * - 존재하지 않거나, 다른 사용자의 것이거나, 일정이 연결된 이미지는 실패 목록으로 반환
+     */
     @Transactional
     public List<UUID> deleteImages(DeleteImagesInDto inDto){
-        List<UUID> failedIds = new ArrayList<>();
-
-        for (UUID imageId : inDto.getImageIds()) {
-            try {
-                imageRepository.findById(imageId)
-                        .ifPresentOrElse(
-                                imageRepository::delete,
-                                () -> failedIds.add(imageId)  // 존재하지 않는 경우
-                        );
-            } catch (Exception e) {
-                failedIds.add(imageId); // 삭제 중 예외 발생한 경우
-            }
+        List<DeletedImageRow> deleted = imageRepository.deleteAllByIdsReturning(inDto.getImageIds(), inDto.getUserId());
+        Set<UUID> deletedIds = new HashSet<>();
+        Set<UUID> ownerIds = new HashSet<>();
+        for (DeletedImageRow row : deleted) {
+            deletedIds.add(row.getImageId());
+            ownerIds.add(row.getUserId());
         }
+        for (UUID ownerId : ownerIds) {
+            cacheEvictor.evictStarPreview(ownerId);
+            cacheEvictor.evictUser(ownerId);
+        }
+
+        List<UUID> failedIds = inDto.getImageIds().stream()
+                .filter(imageId -> !deletedIds.contains(imageId))
+                .toList();
 
         // 전부 실패한 경우
         if (failedIds.size() == inDto.getImageIds().size()) {
@@ -167,6 +410,7 @@ public class ImageService {
                 .orElseThrow(() -> new BaseException(BaseResponseStatus.NO_EXIST_IMAGE));
 
         image.setStar(false);
+        evictStarCaches(image);
     }
 
     @Transactional // for dirty checking
@@ -175,5 +419,13 @@ public class ImageService {
                 .orElseThrow(() -> new BaseException(BaseResponseStatus.NO_EXIST_IMAGE));
 
         image.setStar(true);
+        evictStarCaches(image);
+    }
+
+    // 즐겨찾기 여부는 즐겨찾기 미리보기와 일정 미리보기(썸네일의 star) 모두에 노출됨
+    private void evictStarCaches(Image image) {
+        UUID userId = image.getUser().getUserId();
+        cacheEvictor.evictStarPreview(userId);
+        cacheEvictor.evictPlanPreview(userId);
     }
 }
@@ -17,7 +17,10 @@ import java.util.List;
 import java.util.UUID;
 
 @Entity
-@Table(name = "image")
+@Table(name = "image", indexes = {
+        @Index(name = "uq_image_user_access", columnList = "user_id, access_id", unique = true),
+        @Index(name = "idx_image_user_star_time", columnList = "user_id, star, image_time DESC, image_id DESC")
+})
 @Getter
 @NoArgsConstructor
 @AllArgsConstructor
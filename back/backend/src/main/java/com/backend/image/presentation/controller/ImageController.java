@@ -1,25 +1,42 @@
 package com.backend.image.presentation.controller;
 
 import com.backend.global.common.response.BaseResponse;
+import com.backend.global.common.response.CursorResponse;
+import com.backend.image.application.in.CheckImagesInDto;
 import com.backend.image.application.in.DeleteImagesInDto;
 import com.backend.image.application.in.SaveImageInDto;
+import com.backend.image.application.in.SaveImagesInDto;
+import com.backend.image.application.in.SearchImagesInDto;
 import com.backend.image.application.out.ImageCheckOutDto;
 import com.backend.image.application.out.ImageOutDto;
 import com.backend.image.application.out.ImageThumbnailOutDto;
 import com.backend.image.application.out.SaveImageOutDto;
+import com.backend.image.application.out.SaveImageResultOutDto;
 import com.backend.image.application.service.ImageService;
+import com.backend.image.presentation.request.CheckImagesRequest;
 import com.backend.image.presentation.request.DeleteImagesRequest;
 import com.backend.image.presentation.request.SaveImageRequest;
+import com.backend.image.presentation.request.SaveImagesRequest;
 import com.backend.image.presentation.response.*;
+import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
-import org.modelmapper.ModelMapper;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
 import java.util.List;
 import java.util.UUID;
 import java.util.concurrent.CompletableFuture;
@@ -29,14 +46,14 @@ import java.util.concurrent.CompletableFuture;
 @RequiredArgsConstructor
 public class ImageController {
     private final ImageService imageService;
-    private final ModelMapper modelMapper;
 
     private static final Logger log = LoggerFactory.getLogger(ImageService.class);
 
     @PostMapping
     public CompletableFuture<BaseResponse<SaveImageResponse>> saveImage(@RequestBody SaveImageRequest request) {
         // 비동기적으로 이미지 저장
-        SaveImageInDto inDto = modelMapper.map(request, SaveImageInDto.class);
+        SaveImageInDto inDto = new SaveImageInDto(
+                request.getUserId(), request.getAccessId(), request.getImageTime(), request.getType(), request.getContent());
         return imageService.saveImage(inDto)
                 .exceptionally(ex -> {
                     // 예외 처리
@@ -48,11 +65,23 @@ public class ImageController {
                         // 실패 처리
                         return new BaseResponse<>(null);
                     }
-                    SaveImageResponse response = modelMapper.map(outDto, SaveImageResponse.class);
+                    SaveImageResponse response =
+                            new SaveImageResponse(outDto.getImageId(), outDto.getAccessId(), outDto.getContent());
                     return new BaseResponse<>(response);
                 });
     }
 
+    @PostMapping("/batch")
+    public BaseResponse<SaveImagesResponse> saveImages(@Valid @RequestBody SaveImagesRequest request) {
+        SaveImagesInDto inDto = new SaveImagesInDto(request.getUserId(), request.getImages());
+        List<SaveImageResultOutDto> results = imageService.saveImages(inDto);
+
+        int successCount = (int) results.stream().filter(SaveImageResultOutDto::getSuccess).count();
+        SaveImagesResponse response =
+                new SaveImagesResponse(successCount, results.size() - successCount, results);
+        return new BaseResponse<>(response);
+    }
+
     @GetMapping
     public CompletableFuture<BaseResponse<ImageListResponse>> getAllImages(
             @RequestParam UUID userId, @RequestParam(defaultValue = "0") int page) {
@@ -78,6 +107,38 @@ public class ImageController {
                 });
     }
 
+    // ?cursor= 가 있으면 키셋 방식 (빈 값이면 첫 페이지), 예외는 BaseExceptionHandler에서 처리
+    @GetMapping(params = "cursor")
+    public CompletableFuture<BaseResponse<CursorResponse<ImageThumbnailOutDto>>> getImagesByCursor(
+            @RequestParam UUID userId, @RequestParam String cursor) {
+
+        int pageSize = 30;
+
+        return imageService.getImagesByCursor(userId, cursor, pageSize)
+                .thenApply(BaseResponse::new);
+    }
+
+    // 예: ?userId=...&q=영수증&from=2025-05-01&to=2025-05-31 (from/to 는 날짜 포함 범위, 모두 선택)
+    @GetMapping("/search")
+    public CompletableFuture<BaseResponse<ImageSearchResponse>> searchImages(
+            @RequestParam UUID userId,
+            @RequestParam(required = false) String q,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @RequestParam(required = false) Boolean star,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "30") int size) {
+
+        SearchImagesInDto inDto = new SearchImagesInDto(userId, q, from, to, star, cursor, size);
+        return imageService.searchImages(inDto)
+                .thenApply(outDto -> new BaseResponse<>(new ImageSearchResponse(
+                        outDto.getContent(),
+                        outDto.getNextCursor(),
+                        outDto.isHasNext(),
+                        outDto.getEstimatedTotal()
+                )));
+    }
+
     @GetMapping("/{imageId}")
     public CompletableFuture<BaseResponse<ImageResponse>> getImageById(@PathVariable UUID imageId) {
         return imageService.getImageById(imageId)
@@ -91,7 +152,13 @@ public class ImageController {
                         // 실패 처리
                         return new BaseResponse<>(null);
                     }
-                    ImageResponse response = modelMapper.map(outDto, ImageResponse.class);
+                    ImageResponse response = new ImageResponse(
+                            outDto.getImageId(),
+                            outDto.getAccessId(),
+                            outDto.getImageTime(),
+                            outDto.getStar(),
+                            outDto.getContent()
+                    );
                     return new BaseResponse<>(response);
                 });
     }
@@ -107,14 +174,52 @@ public class ImageController {
                     return new ImageCheckOutDto(false);  // 예외 발생 시 기본값 반환
                 })
                 .thenApply(exists -> {
-                    ImageCheckResponse response = modelMapper.map(exists, ImageCheckResponse.class);
+                    ImageCheckResponse response = new ImageCheckResponse(exists.getExist());
                     return new BaseResponse<>(response);
                 });
     }
 
+    @PostMapping("/check-bulk")
+    public BaseResponse<CheckImagesResponse> checkImagesExist(@Valid @RequestBody CheckImagesRequest request) {
+        CheckImagesInDto inDto = new CheckImagesInDto(request.getUserId(), request.getAccessIds());
+        List<String> missing = imageService.findMissingAccessIds(inDto);
+
+        CheckImagesResponse response = new CheckImagesResponse(missing.size(), missing);
+        return new BaseResponse<>(response);
+    }
+
+    // 대용량 갤러리용: 누락된 accessId를 한 줄에 하나씩 chunk 단위로 흘려보냄
+    @PostMapping(value = "/check-bulk/stream", produces = MediaType.TEXT_PLAIN_VALUE)
+    public ResponseEntity<StreamingResponseBody> streamMissingImages(@Valid @RequestBody CheckImagesRequest request) {
+        CheckImagesInDto inDto = new CheckImagesInDto(request.getUserId(), request.getAccessIds());
+
+        StreamingResponseBody body = outputStream -> {
+            BufferedWriter writer = new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8));
+            try {
+                imageService.streamMissingAccessIds(inDto, missing -> {
+                    try {
+                        for (String accessId : missing) {
+                            writer.write(accessId);
+                            writer.newLine();
+                        }
+                        writer.flush();
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                });
+            } catch (UncheckedIOException e) {
+                log.warn("누락 이미지 스트리밍 중 연결 종료 - userId: {}", inDto.getUserId());
+            }
+        };
+
+        return ResponseEntity.ok()
+                .contentType(MediaType.TEXT_PLAIN)
+                .body(body);
+    }
+
     @PostMapping("/delete-multiple")
-    public BaseResponse<DeleteMultipleResponse> deleteMultiple(@RequestBody DeleteImagesRequest request) {
-        DeleteImagesInDto inDto = modelMapper.map(request, DeleteImagesInDto.class);
+    public BaseResponse<DeleteMultipleResponse> deleteMultiple(@Valid @RequestBody DeleteImagesRequest request) {
+        DeleteImagesInDto inDto = new DeleteImagesInDto(request.getUserId(), request.getImageIds());
         List<UUID> failedIds = imageService.deleteImages(inDto);
 
         DeleteMultipleResponse response =
@@ -0,0 +1,20 @@
+package com.backend.image.presentation.request;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.UUID;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class CheckImagesRequest {
+    @NotNull
+    private UUID userId;
+    @NotEmpty
+    private List<String> accessIds;
+}
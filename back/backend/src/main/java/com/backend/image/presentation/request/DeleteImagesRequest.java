@@ -12,6 +12,8 @@ import java.util.UUID;
 @NoArgsConstructor
 @AllArgsConstructor
 public class DeleteImagesRequest {
+    @NotNull
+    UUID userId;
     @NotNull
     List<UUID> imageIds;
 }
@@ -0,0 +1,21 @@
+package com.backend.image.presentation.request;
+
+import com.backend.image.application.in.SaveImageItem;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.UUID;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class SaveImagesRequest {
+    @NotNull
+    private UUID userId;
+    @NotEmpty
+    private List<SaveImageItem> images;
+}
@@ -0,0 +1,15 @@
+package com.backend.image.presentation.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class CheckImagesResponse {
+    private Integer missingCount;
+    private List<String> missingAccessIds;
+}
@@ -0,0 +1,18 @@
+package com.backend.image.presentation.response;
+
+import com.backend.image.application.out.ImageOutDto;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class ImageSearchResponse {
+    private List<ImageOutDto> content;
+    private String nextCursor;
+    private boolean hasNext;
+    private Long estimatedTotal;
+}
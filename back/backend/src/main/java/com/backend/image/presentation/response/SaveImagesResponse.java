@@ -0,0 +1,17 @@
+package com.backend.image.presentation.response;
+
+import com.backend.image.application.out.SaveImageResultOutDto;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class SaveImagesResponse {
+    Integer successCount;
+    Integer failedCount;
+    List<SaveImageResultOutDto> results;
+}
@@ -0,0 +1,28 @@
+package com.backend.image.repository;
+
+import com.backend.image.domain.entity.Image;
+import com.backend.global.common.cursor.KeysetCursor;
+import com.backend.image.repository.projection.DeletedImageRow;
+import com.backend.image.repository.projection.ImageSearchRow;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+public interface ImageRepositoryCustom {
+    //이미지 여러 장을 INSERT 한 문장으로 저장하고 실제로 저장된 이미지 아이디 반환 ((user_id, access_id) 충돌 행은 건너뜀)
+    Set<UUID> batchInsert(List<Image> images);
+
+    //주어진 액세스 아이디 중 이미 저장된 것만 조회 (access_id = ANY(?) 단일 쿼리)
+    List<String> findExistingAccessIds(UUID userId, Collection<String> accessIds);
+
+    //userId 소유 이미지만 일괄 삭제 + 사용자 info_count 차감을 한 번에 수행하고 실제 삭제된 이미지 아이디와 소유자 아이디 반환
+    List<DeletedImageRow> deleteAllByIdsReturning(Collection<UUID> imageIds, UUID userId);
+
+    //content 전문 검색 + 기간/즐겨찾기 필터, (image_time, image_id) 키셋으로 limit 건 조회
+    List<ImageSearchRow> search(ImageSearchFilter filter, KeysetCursor.Key after, int limit);
+
+    //검색 결과 수 추정치 (플래너 통계 기반, 정확한 count 아님)
+    long estimateSearchCount(ImageSearchFilter filter);
+}
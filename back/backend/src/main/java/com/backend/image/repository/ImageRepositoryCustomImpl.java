@@ -0,0 +1,149 @@
+package com.backend.image.repository;
+
+import com.backend.global.common.cursor.KeysetCursor;
+import com.backend.image.domain.converter.ImageTypeConverter;
+import com.backend.image.domain.entity.Image;
+import com.backend.image.repository.projection.DeletedImageRow;
+import com.backend.image.repository.projection.ImageSearchRow;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Array;
+import java.sql.Timestamp;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+@RequiredArgsConstructor
+public class ImageRepositoryCustomImpl implements ImageRepositoryCustom {
+
+    // 컬럼별 배열을 unnest 로 펼쳐 INSERT 한 문장으로 저장
+    // 동시에 들어온 같은 (user_id, access_id)는 유니크 인덱스 충돌로 건너뛰고, 실제로 들어간 행만 RETURNING
+    // (reWriteBatchedInserts 배치는 행별 결과가 SUCCESS_NO_INFO 라 저장 여부를 알 수 없음)
+    private static final String INSERT_SQL =
+            "INSERT INTO image (image_id, user_id, access_id, image_time, upload_time, type, star, content) " +
+            "SELECT * FROM unnest(CAST(? AS uuid[]), CAST(? AS uuid[]), CAST(? AS varchar[]), " +
+            "CAST(? AS timestamp[]), CAST(? AS timestamp[]), CAST(? AS varchar[]), CAST(? AS boolean[]), CAST(? AS text[])) " +
+            "ON CONFLICT (user_id, access_id) DO NOTHING " +
+            "RETURNING image_id";
+
+    // (user_id, access_id) 복합 인덱스를 타도록 배열 파라미터 하나로 조회
+    private static final String EXISTING_ACCESS_IDS_SQL =
+            "SELECT access_id FROM image WHERE user_id = ? AND access_id = ANY(?)";
+
+    // 삭제와 info_count 차감을 data-modifying CTE 하나로 처리 (일정이 연결된 이미지는 삭제 대상에서 제외)
+    private static final String DELETE_RETURNING_SQL =
+            "WITH deleted AS (" +
+            "    DELETE FROM image i WHERE i.image_id = ANY(?) AND i.user_id = ?" +
+            "    AND NOT EXISTS (SELECT 1 FROM plan p WHERE p.image_id = i.image_id)" +
+            "    RETURNING i.image_id, i.user_id" +
+            "), counted AS (" +
+            "    UPDATE \"user\" u SET info_count = GREATEST(u.info_count - d.cnt, 0)" +
+            "    FROM (SELECT user_id, count(*) AS cnt FROM deleted GROUP BY user_id) d" +
+            "    WHERE u.user_id = d.user_id" +
+            ") SELECT image_id, user_id FROM deleted";
+
+    // EXPLAIN 결과 파싱 전용 (@DataJpaTest 등 Jackson 자동 설정이 없는 슬라이스에서도 생성되도록 빈 주입 대신 직접 보유)
+    private static final ObjectMapper EXPLAIN_READER = new ObjectMapper();
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ImageTypeConverter imageTypeConverter = new ImageTypeConverter();
+
+    @Override
+    public Set<UUID> batchInsert(List<Image> images) {
+        if (images.isEmpty()) {
+            return Set.of();
+        }
+        // 엔티티를 거치지 않으므로 @PrePersist 대신 uploadTime을 호출 측에서 채워서 넘겨야 함
+        int size = images.size();
+        Object[] imageIds = new Object[size];
+        Object[] userIds = new Object[size];
+        Object[] accessIds = new Object[size];
+        Object[] imageTimes = new Object[size];
+        Object[] uploadTimes = new Object[size];
+        Object[] types = new Object[size];
+        Object[] stars = new Object[size];
+        Object[] contents = new Object[size];
+        for (int i = 0; i < size; i++) {
+            Image image = images.get(i);
+            imageIds[i] = image.getImageId();
+            userIds[i] = image.getUser().getUserId();
+            accessIds[i] = image.getAccessId();
+            imageTimes[i] = Timestamp.valueOf(image.getImageTime());
+            uploadTimes[i] = Timestamp.valueOf(image.getUploadTime());
+            types[i] = imageTypeConverter.convertToDatabaseColumn(image.getType());
+            stars[i] = image.isStar();
+            contents[i] = image.getContent();
+        }
+
+        List<UUID> inserted = jdbcTemplate.query(con -> {
+            var ps = con.prepareStatement(INSERT_SQL);
+            ps.setArray(1, con.createArrayOf("uuid", imageIds));
+            ps.setArray(2, con.createArrayOf("uuid", userIds));
+            ps.setArray(3, con.createArrayOf("varchar", accessIds));
+            ps.setArray(4, con.createArrayOf("timestamp", imageTimes));
+            ps.setArray(5, con.createArrayOf("timestamp", uploadTimes));
+            ps.setArray(6, con.createArrayOf("varchar", types));
+            ps.setArray(7, con.createArrayOf("bool", stars));
+            ps.setArray(8, con.createArrayOf("text", contents));
+            return ps;
+        }, (rs, rowNum) -> rs.getObject(1, UUID.class));
+        return new HashSet<>(inserted);
+    }
+
+    @Override
+    public List<String> findExistingAccessIds(UUID userId, Collection<String> accessIds) {
+        if (accessIds.isEmpty()) {
+            return List.of();
+        }
+        return jdbcTemplate.query(con -> {
+            var ps = con.prepareStatement(EXISTING_ACCESS_IDS_SQL);
+            Array array = con.createArrayOf("varchar", accessIds.toArray());
+            ps.setObject(1, userId);
+            ps.setArray(2, array);
+            return ps;
+        }, (rs, rowNum) -> rs.getString(1));
+    }
+
+    @Override
+    public List<DeletedImageRow> deleteAllByIdsReturning(Collection<UUID> imageIds, UUID userId) {
+        if (imageIds.isEmpty()) {
+            return List.of();
+        }
+        return jdbcTemplate.query(con -> {
+            var ps = con.prepareStatement(DELETE_RETURNING_SQL);
+            ps.setArray(1, con.createArrayOf("uuid", imageIds.toArray()));
+            ps.setObject(2, userId);
+            return ps;
+        }, (rs, rowNum) -> new DeletedImageRow(rs.getObject(1, UUID.class), rs.getObject(2, UUID.class)));
+    }
+
+    @Override
+    public List<ImageSearchRow> search(ImageSearchFilter filter, KeysetCursor.Key after, int limit) {
+        ImageSearchQuery query = new ImageSearchQuery(filter);
+        return jdbcTemplate.query(query.pageSql(after), (rs, rowNum) -> new ImageSearchRow(
+                rs.getObject(1, UUID.class),
+                rs.getString(2),
+                rs.getTimestamp(3).toLocalDateTime(),
+                rs.getBoolean(4),
+                rs.getString(5)
+        ), query.pageParams(after, limit).toArray());
+    }
+
+    @Override
+    public long estimateSearchCount(ImageSearchFilter filter) {
+        ImageSearchQuery query = new ImageSearchQuery(filter);
+        String plan = jdbcTemplate.queryForObject(query.explainSql(), String.class, query.params().toArray());
+        try {
+            // [{"Plan": {"Plan Rows": N, ...}}] 최상위 노드의 추정 행 수
+            JsonNode root = EXPLAIN_READER.readTree(plan);
+            return root.path(0).path("Plan").path("Plan Rows").asLong(0);
+        } catch (Exception e) {
+            return 0;
+        }
+    }
+}
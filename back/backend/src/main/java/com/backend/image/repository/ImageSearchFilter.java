@@ -0,0 +1,11 @@
+package com.backend.image.repository;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * 이미지 검색 조건 (null 인 조건은 적용하지 않음)
+ * - from 은 포함, to 는 제외 (image_time >= from AND image_time < to)
+ */
+public record ImageSearchFilter(UUID userId, String query, LocalDateTime from, LocalDateTime to, Boolean star) {
+}
@@ -0,0 +1,103 @@
+package com.backend.image.repository;
+
+import com.backend.global.common.cursor.KeysetCursor;
+
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Pattern;
+
+/**
+ * 이미지 검색 SQL 조립
+ * - 검색어: content_tsv @@ 접두어 tsquery (GIN) OR content ILIKE (trigram GIN) 를 BitmapOr 로 함께 사용
+ * - trigram 은 3글자 미만이면 인덱스를 못 타므로 그때는 tsquery 만 사용
+ * - 정렬/커서: (image_time DESC, image_id DESC) 키셋
+ */
+final class ImageSearchQuery {
+
+    private static final int TRIGRAM_MIN_LENGTH = 3;
+    // to_tsquery 문법 문자 (따옴표 포함) 는 토큰에서 제거
+    private static final Pattern TSQUERY_SPECIAL = Pattern.compile("[\\\\'&|!():*<>]");
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+
+    private static final String COLUMNS = "image_id, access_id, image_time, star, content";
+
+    private final StringBuilder where = new StringBuilder("user_id = ?");
+    private final List<Object> params = new ArrayList<>();
+
+    ImageSearchQuery(ImageSearchFilter filter) {
+        params.add(filter.userId());
+
+        String query = filter.query() == null ? "" : filter.query().strip();
+        String tsQuery = toPrefixTsQuery(query);
+        if (!tsQuery.isEmpty()) {
+            where.append(" AND (content_tsv @@ to_tsquery('simple', ?)");
+            params.add(tsQuery);
+            if (query.length() >= TRIGRAM_MIN_LENGTH) {
+                where.append(" OR content ILIKE ?");
+                params.add(toContainsPattern(query));
+            }
+            where.append(")");
+        }
+        if (filter.from() != null) {
+            where.append(" AND image_time >= ?");
+            params.add(Timestamp.valueOf(filter.from()));
+        }
+        if (filter.to() != null) {
+            where.append(" AND image_time < ?");
+            params.add(Timestamp.valueOf(filter.to()));
+        }
+        if (filter.star() != null) {
+            where.append(" AND star = ?");
+            params.add(filter.star());
+        }
+    }
+
+    // 키셋 페이지 조회 SQL, after 가 null 이면 첫 페이지
+    String pageSql(KeysetCursor.Key after) {
+        String keyset = after == null ? "" : " AND (image_time, image_id) < (?, ?)";
+        return "SELECT " + COLUMNS + " FROM image WHERE " + where + keyset
+                + " ORDER BY image_time DESC, image_id DESC LIMIT ?";
+    }
+
+    List<Object> pageParams(KeysetCursor.Key after, int limit) {
+        List<Object> all = new ArrayList<>(params);
+        if (after != null) {
+            all.add(Timestamp.valueOf(after.time()));
+            all.add(after.id());
+        }
+        all.add(limit);
+        return all;
+    }
+
+    // 플래너 추정 행 수를 얻기 위한 EXPLAIN (count(*) 로 전체를 훑지 않음)
+    String explainSql() {
+        return "EXPLAIN (FORMAT JSON) SELECT 1 FROM image WHERE " + where;
+    }
+
+    List<Object> params() {
+        return params;
+    }
+
+    // "카페 영수증" -> '카페':* & '영수증':*  (조사가 붙은 어절도 접두어로 매칭)
+    static String toPrefixTsQuery(String query) {
+        StringBuilder sb = new StringBuilder();
+        for (String token : WHITESPACE.split(query)) {
+            String cleaned = TSQUERY_SPECIAL.matcher(token).replaceAll("");
+            if (cleaned.isEmpty()) {
+                continue;
+            }
+            if (!sb.isEmpty()) {
+                sb.append(" & ");
+            }
+            sb.append('\'').append(cleaned).append("':*");
+        }
+        return sb.toString();
+    }
+
+    // ILIKE 와일드카드(%, _)와 이스케이프 문자를 그대로 검색되도록 처리
+    static String toContainsPattern(String query) {
+        String escaped = query.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_");
+        return "%" + escaped + "%";
+    }
+}
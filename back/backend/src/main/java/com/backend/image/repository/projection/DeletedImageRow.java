@@ -0,0 +1,14 @@
+package com.backend.image.repository.projection;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.UUID;
+
+// 일괄 삭제(DELETE ... RETURNING) 결과 - 캐시 무효화를 위해 소유자 아이디도 함께 반환
+@Getter
+@AllArgsConstructor
+public class DeletedImageRow {
+    private UUID imageId;
+    private UUID userId;
+}
@@ -0,0 +1,18 @@
+package com.backend.image.repository.projection;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+// 검색 결과 한 행 - 엔티티(User 연관)를 로딩하지 않고 필요한 컬럼만 조회
+@Getter
+@AllArgsConstructor
+public class ImageSearchRow {
+    private UUID imageId;
+    private String accessId;
+    private LocalDateTime imageTime;
+    private boolean star;
+    private String content;
+}
@@ -0,0 +1,58 @@
+package com.backend.plan.application.mapper;
+
+import com.backend.image.domain.entity.Image;
+import com.backend.plan.application.out.ImageInfo;
+import com.backend.plan.application.out.PlanDetailOutDto;
+import com.backend.plan.application.out.PlanThumbnailOutDto;
+import com.backend.plan.application.out.SavePlanOutDto;
+import com.backend.plan.domain.entity.Plan;
+
+/**
+ * Plan 엔티티 -> OutDto 변환 (ModelMapper 대신 생성자로 직접 변환)
+ */
+public final class PlanMapper {
+
+    private PlanMapper() {
+    }
+
+    public static PlanThumbnailOutDto toThumbnail(Plan plan) {
+        Image image = plan.getImage();
+        return new PlanThumbnailOutDto(
+                plan.isAlarmTf(),
+                plan.getPlanTime(),
+                image.getImageId(),
+                image.getAccessId(),
+                image.isStar()
+        );
+    }
+
+    public static SavePlanOutDto toSaveOutDto(Plan plan) {
+        return new SavePlanOutDto(
+                plan.getPlanId(),
+                plan.getPlanTime(),
+                plan.getPlanContent(),
+                plan.getImage().getImageId(),
+                plan.getImage().getAccessId()
+        );
+    }
+
+    public static PlanDetailOutDto toDetailOutDto(Plan plan) {
+        return new PlanDetailOutDto(
+                plan.getPlanId(),
+                plan.getPlanTime(),
+                plan.getPlanContent(),
+                toImageInfo(plan.getImage()),
+                plan.isAlarmTf()
+        );
+    }
+
+    public static ImageInfo toImageInfo(Image image) {
+        return new ImageInfo(
+                image.getImageId(),
+                image.getAccessId(),
+                image.getImageTime(),
+                image.isStar(),
+                image.getContent()
+        );
+    }
+}
@@ -4,13 +4,15 @@ import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 
+import java.io.Serializable;
 import java.time.LocalDateTime;
 import java.util.UUID;
 
+// Redis 캐시 저장 대상 (JDK 직렬화)
 @Getter
 @NoArgsConstructor
 @AllArgsConstructor
-public class PlanThumbnailOutDto {
+public class PlanThumbnailOutDto implements Serializable {
     private Boolean alarmTF;
     private LocalDateTime planTime;
     private UUID imageId;
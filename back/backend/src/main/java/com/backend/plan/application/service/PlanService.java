@@ -1,13 +1,18 @@
 package com.backend.plan.application.service;
 
+import com.backend.global.common.cursor.KeysetCursor;
+import com.backend.global.config.cache.CacheEvictor;
+import com.backend.global.config.cache.CacheNames;
 import com.backend.global.common.exception.BaseException;
+import com.backend.global.common.response.CursorResponse;
 import com.backend.global.common.response.BaseResponseStatus;
+import com.backend.image.application.mapper.ImageMapper;
 import com.backend.image.application.out.ImageThumbnailOutDto;
 import com.backend.image.domain.entity.Image;
 import com.backend.image.repository.ImageRepository;
 import com.backend.plan.application.in.PlanAlarmToggleInDto;
 import com.backend.plan.application.in.SavePlanInDto;
-import com.backend.plan.application.out.ImageInfo;
+import com.backend.plan.application.mapper.PlanMapper;
 import com.backend.plan.application.out.PlanDetailOutDto;
 import com.backend.plan.application.out.PlanThumbnailOutDto;
 import com.backend.plan.application.out.SavePlanOutDto;
@@ -15,10 +20,13 @@ import com.backend.plan.domain.entity.Plan;
 import com.backend.plan.repository.PlanRepository;
 import com.backend.user.domain.entity.User;
 import com.backend.user.repository.UserRepository;
+import com.backend.global.common.id.UuidV7;
 import lombok.RequiredArgsConstructor;
-import org.modelmapper.ModelMapper;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Window;
 import org.springframework.stereotype.Service;
 
 import java.time.LocalDateTime;
@@ -34,7 +42,7 @@ public class PlanService {
     private final PlanRepository planRepository;
     private final UserRepository userRepository;
     private final ImageRepository imageRepository;
-    private final ModelMapper modelMapper;
+    private final CacheEvictor cacheEvictor;
 
     public SavePlanOutDto savePlan(SavePlanInDto inDto) {
 
@@ -48,7 +56,7 @@ public class PlanService {
         LocalDateTime planTime = LocalDateTime.parse(inDto.getPlanTime(), formatter);
 
         Plan plan = Plan.builder()
-                .planId(UUID.randomUUID())
+                .planId(UuidV7.generate())
                 .user(user)
                 .planTime(planTime)
                 .planContent(inDto.getPlanContent())
@@ -57,67 +65,44 @@ public class PlanService {
                 .build();
 
         plan = planRepository.save(plan);
+        cacheEvictor.evictPlanPreview(user.getUserId());
 
-        return new SavePlanOutDto(
-                plan.getPlanId(),
-                plan.getPlanTime(),
-                plan.getPlanContent(),
-                plan.getImage().getImageId(),
-                plan.getImage().getAccessId()
-        );
+        return PlanMapper.toSaveOutDto(plan);
     }
 
     public PlanDetailOutDto getPlanDetail(UUID planId){
         Plan plan = planRepository.findById(planId)
                 .orElseThrow(() -> new BaseException(BaseResponseStatus.NO_EXIST_PLAN));
 
-        ImageInfo image = modelMapper.map(plan.getImage(), ImageInfo.class);
-
-        return new PlanDetailOutDto(
-                plan.getPlanId(),
-                plan.getPlanTime(),
-                plan.getPlanContent(),
-                image,
-                plan.isAlarmTf()
-        );
+        return PlanMapper.toDetailOutDto(plan);
     }
 
+    @Cacheable(cacheNames = CacheNames.PLAN_PREVIEW, key = "#userId")
     public List<PlanThumbnailOutDto> getPlanPreview(UUID userId) {
         List<Plan> plans = planRepository.findTop3ByUser_UserIdOrderByPlanTimeDesc(userId);
         return plans.stream()
-                .map(plan -> {
-                    Image image = plan.getImage();
-                    return new PlanThumbnailOutDto(
-                            plan.isAlarmTf(),
-                            plan.getPlanTime(),
-                            image.getImageId(),
-                            image.getAccessId(),
-                            image.isStar()
-                    );
-                })
+                .map(PlanMapper::toThumbnail)
                 .collect(Collectors.toList());
     }
 
     public Page<ImageThumbnailOutDto> getStarredImages(UUID userId, Pageable pageable) {
         Page<Image> images = imageRepository.findByUser_UserIdAndStarTrueOrderByImageTimeDesc(userId, pageable);
 
-        return images.map(image -> modelMapper.map(image, ImageThumbnailOutDto.class));
+        return images.map(ImageMapper::toThumbnail);
     }
 
     public Page<PlanThumbnailOutDto> getPlanList(UUID userId, Pageable pageable){
         Page<Plan> plans = planRepository.findByUser_UserIdOrderByPlanTimeDesc(userId, pageable);
 
-        return plans.map(plan -> {
-            Image image = plan.getImage();
-            return new PlanThumbnailOutDto(
-                    plan.isAlarmTf(),
-                    plan.getPlanTime(),
-                    image.getImageId(),
-                    image.getAccessId(),
-                    image.isStar()
-            );
-        });
+        return plans.map(PlanMapper::toThumbnail);
+    }
+
+    public CursorResponse<PlanThumbnailOutDto> getPlanListByCursor(UUID userId, String cursor, int size) {
+        Window<Plan> plans = planRepository.findByUser_UserIdOrderByPlanTimeDescPlanIdDesc(
+                userId, KeysetCursor.decode(cursor, "planTime", "planId"), Limit.of(size));
 
+        String nextCursor = KeysetCursor.next(plans, Plan::getPlanTime, Plan::getPlanId);
+        return new CursorResponse<>(plans.map(PlanMapper::toThumbnail).getContent(), nextCursor, nextCursor != null);
     }
 
     public void deletePlan(UUID planId){
@@ -125,6 +110,7 @@ public class PlanService {
                 .orElseThrow(() -> new BaseException(BaseResponseStatus.NO_EXIST_PLAN));
 
         planRepository.delete(plan);
+        cacheEvictor.evictPlanPreview(plan.getUser().getUserId());
     }
 
     public void updateAlarmTF(PlanAlarmToggleInDto inDto){
@@ -133,6 +119,7 @@ public class PlanService {
 
         plan.setAlarmTf(inDto.isAlarmTf());
         planRepository.save(plan);
+        cacheEvictor.evictPlanPreview(plan.getUser().getUserId());
     }
 
 
@@ -12,7 +12,9 @@ import java.time.LocalDateTime;
 import java.util.UUID;
 
 @Entity
-@Table(name = "plan")
+@Table(name = "plan", indexes = {
+        @Index(name = "idx_plan_user_time", columnList = "user_id, plan_time DESC, plan_id DESC")
+})
 @Getter
 @NoArgsConstructor
 @AllArgsConstructor
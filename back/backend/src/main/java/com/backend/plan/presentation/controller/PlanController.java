@@ -1,10 +1,12 @@
 package com.backend.plan.presentation.controller;
 
 import com.backend.global.common.response.BaseResponse;
+import com.backend.global.common.response.CursorResponse;
 import com.backend.plan.application.in.PlanAlarmToggleInDto;
 import com.backend.plan.application.in.SavePlanInDto;
 import com.backend.plan.application.out.PlanDetailOutDto;
 import com.backend.plan.application.out.PlanThumbnailOutDto;
+import com.backend.plan.application.out.SavePlanOutDto;
 import com.backend.plan.application.service.PlanService;
 import com.backend.plan.presentation.request.PlanAlarmToggleRequest;
 import com.backend.plan.presentation.request.SavePlanRequest;
@@ -13,7 +15,6 @@ import com.backend.plan.presentation.response.PlanListResponse;
 import com.backend.plan.presentation.response.PlanPreviewResponse;
 import com.backend.plan.presentation.response.SavePlanResponse;
 import lombok.RequiredArgsConstructor;
-import org.modelmapper.ModelMapper;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
@@ -28,13 +29,20 @@ import java.util.UUID;
 public class PlanController {
 
     private final PlanService planService;
-    private final ModelMapper modelMapper;
 
 
     @PostMapping
     public BaseResponse<SavePlanResponse> savePlan(@RequestBody SavePlanRequest request) {
-        SavePlanInDto inDto = modelMapper.map(request, SavePlanInDto.class);
-        SavePlanResponse response = modelMapper.map(planService.savePlan(inDto), SavePlanResponse.class);
+        SavePlanInDto inDto = new SavePlanInDto(
+                request.getUserId(), request.getPlanTime(), request.getPlanContent(), request.getImageId());
+        SavePlanOutDto outDto = planService.savePlan(inDto);
+        SavePlanResponse response = new SavePlanResponse(
+                outDto.getPlanId(),
+                outDto.getPlanTime(),
+                outDto.getPlanContent(),
+                outDto.getImageId(),
+                outDto.getImageAccessId()
+        );
 
         return new BaseResponse<>(response);
     }
@@ -65,10 +73,25 @@ public class PlanController {
     }
 
 
+    // ?cursor= 가 있으면 키셋 방식 (빈 값이면 첫 페이지)
+    @GetMapping(params = "cursor")
+    public BaseResponse<CursorResponse<PlanThumbnailOutDto>> getPlanListByCursor(
+            @RequestParam UUID userId, @RequestParam String cursor) {
+        int pageSize = 30;
+
+        return new BaseResponse<>(planService.getPlanListByCursor(userId, cursor, pageSize));
+    }
+
     @GetMapping("/{planId}")
     public BaseResponse<PlanDetailResponse> getPlanDetail(@PathVariable UUID planId) {
         PlanDetailOutDto outDto = planService.getPlanDetail(planId);
-        PlanDetailResponse response = modelMapper.map(outDto, PlanDetailResponse.class);
+        PlanDetailResponse response = new PlanDetailResponse(
+                outDto.getPlanId(),
+                outDto.getPlanTime(),
+                outDto.getPlanContent(),
+                outDto.getImage(),
+                outDto.getAlarmTF()
+        );
         return new BaseResponse<>(response);
     }
 
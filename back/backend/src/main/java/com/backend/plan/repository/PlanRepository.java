@@ -1,11 +1,20 @@
 package com.backend.plan.repository;
 
 import com.backend.plan.domain.entity.Plan;
+import com.backend.plan.repository.projection.DueAlarmRow;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Window;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.UUID;
 
@@ -15,5 +24,21 @@ public interface PlanRepository extends JpaRepository<Plan, UUID> {
 
     Page<Plan> findByUser_UserIdOrderByPlanTimeDesc(UUID userId, Pageable pageable);
 
-    List<Plan> findAllByAlarmTfTrue();
+    Window<Plan> findByUser_UserIdOrderByPlanTimeDescPlanIdDesc(UUID userId, ScrollPosition position, Limit limit);
+
+    // planTime이 (from, to] 구간에 있는 알림 대상 일정과 토큰을 한 번에 조회 (토큰 없는 사용자는 제외)
+    @Query("SELECT new com.backend.plan.repository.projection.DueAlarmRow(p.planId, p.planContent, p.planTime, t.token) " +
+           "FROM Plan p JOIN FcmToken t ON t.user.userId = p.user.userId " +
+           "WHERE p.alarmTf = true AND p.planTime > :from AND p.planTime <= :to")
+    List<DueAlarmRow> findDueAlarms(@Param("from") LocalDateTime from, @Param("to") LocalDateTime to);
+
+    // 알림 해제 대상 일정이 있는 사용자 (일괄 UPDATE 는 캐시를 거치지 않으므로 일정 미리보기 캐시 무효화용)
+    @Query("SELECT DISTINCT p.user.userId FROM Plan p WHERE p.alarmTf = true AND p.planTime < :now")
+    List<UUID> findUserIdsWithExpiredAlarms(@Param("now") LocalDateTime now);
+
+    // 이미 지난 일정의 알림을 한 번에 해제
+    @Transactional
+    @Modifying
+    @Query("UPDATE Plan p SET p.alarmTf = false WHERE p.alarmTf = true AND p.planTime < :now")
+    int disableExpiredAlarms(@Param("now") LocalDateTime now);
 }
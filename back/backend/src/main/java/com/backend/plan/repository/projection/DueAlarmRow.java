@@ -0,0 +1,17 @@
+package com.backend.plan.repository.projection;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+// 알림 발송 대상 일정 + FCM 토큰 (plan, fcm_token 조인 한 번으로 조회)
+@Getter
+@AllArgsConstructor
+public class DueAlarmRow {
+    private UUID planId;
+    private String planContent;
+    private LocalDateTime planTime;
+    private String token;
+}
@@ -4,12 +4,14 @@ import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 
+import java.io.Serializable;
 import java.util.UUID;
 
+// Redis 캐시 저장 대상 (JDK 직렬화)
 @Getter
 @NoArgsConstructor
 @AllArgsConstructor
-public class UserOutDto {
+public class UserOutDto implements Serializable {
     private UUID userId;
     private Integer infoCount;
 }
@@ -2,6 +2,8 @@ package com.backend.user.application.service;
 
 import com.backend.global.common.exception.BaseException;
 import com.backend.global.common.response.BaseResponseStatus;
+import com.backend.global.config.cache.CacheEvictor;
+import com.backend.global.config.cache.CacheNames;
 import com.backend.user.application.in.UserSaveInDto;
 import com.backend.user.application.in.UserUpdateInDto;
 import com.backend.user.application.out.UserOutDto;
@@ -10,6 +12,7 @@ import com.backend.user.presentation.request.SaveUserRequest;
 import com.backend.user.repository.UserRepository;
 import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
 
@@ -19,6 +22,7 @@ import java.util.UUID;
 @RequiredArgsConstructor
 public class UserService {
     private final UserRepository userRepository;
+    private final CacheEvictor cacheEvictor;
 
     public void saveUser(UserSaveInDto inDto){
         User user;
@@ -38,8 +42,13 @@ public class UserService {
         User user = userRepository.findById(userId)
                 .orElseThrow(() -> new BaseException(BaseResponseStatus.NO_EXIST_USER));
         userRepository.delete(user);
+
+        cacheEvictor.evictUser(userId);
+        cacheEvictor.evictStarPreview(userId);
+        cacheEvictor.evictPlanPreview(userId);
     }
 
+    @Cacheable(cacheNames = CacheNames.USER, key = "#userId")
     public UserOutDto getUser(UUID userId) {
         // 유저 정보 조회
         User user = userRepository.findById(userId)
@@ -53,6 +62,7 @@ public class UserService {
         User user = userRepository.findById(inDto.getUserId())
                 .orElseThrow(() -> new BaseException(BaseResponseStatus.NO_EXIST_USER));
         user.updateInfoCount(inDto.getInfoCount());
+        cacheEvictor.evictUser(user.getUserId());
 
         return new UserOutDto(user.getUserId(), user.getInfoCount());
     }
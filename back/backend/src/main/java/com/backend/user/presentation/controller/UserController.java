@@ -10,7 +10,6 @@ import com.backend.user.presentation.request.UpdateUserRequest;
 import com.backend.user.presentation.response.UserResponse;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
-import org.modelmapper.ModelMapper;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.UUID;
@@ -21,11 +20,10 @@ import java.util.UUID;
 public class UserController {
 
     private final UserService userService;
-    private final ModelMapper modelMapper;
 
     @PostMapping
     public BaseResponse<Void> saveUser(@Valid @RequestBody SaveUserRequest request){
-        UserSaveInDto inDto = modelMapper.map(request, UserSaveInDto.class);
+        UserSaveInDto inDto = new UserSaveInDto(request.getUserId(), request.getInfoCount());
         userService.saveUser(inDto);
         return new BaseResponse<>();
     }
@@ -39,7 +37,7 @@ public class UserController {
     @GetMapping("/{userId}")
     public BaseResponse<UserResponse> getUser(@PathVariable UUID userId) {
         UserOutDto outDto = userService.getUser(userId); // UserService에서 유저 정보 조회
-        UserResponse response = modelMapper.map(outDto, UserResponse.class);
+        UserResponse response = new UserResponse(outDto.getUserId(), outDto.getInfoCount());
 
         return new BaseResponse<>(response);
     }
@@ -51,7 +49,7 @@ public class UserController {
     ) {
         UserUpdateInDto inDto = new UserUpdateInDto(userId, request.getInfoCount());
         UserOutDto outDto = userService.updateUser(inDto);
-        UserResponse response = modelMapper.map(outDto, UserResponse.class);
+        UserResponse response = new UserResponse(outDto.getUserId(), outDto.getInfoCount());
         return new BaseResponse<>(response);
     }
 }
@@ -4,6 +4,7 @@ import com.backend.user.domain.entity.User;
 import jakarta.persistence.LockModeType;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
@@ -16,4 +17,9 @@ public interface UserRepository extends JpaRepository<User, UUID> {
     @Lock(LockModeType.PESSIMISTIC_WRITE)
     @Query("SELECT u FROM User u WHERE u.userId = :userId")
     Optional<User> findByIdForUpdate(@Param("userId") UUID userId);
+
+    // 행 잠금 없이 info_count를 원자적으로 증가 (일괄 저장용)
+    @Modifying
+    @Query("UPDATE User u SET u.infoCount = u.infoCount + :delta WHERE u.userId = :userId")
+    int increaseInfoCount(@Param("userId") UUID userId, @Param("delta") int delta);
 }
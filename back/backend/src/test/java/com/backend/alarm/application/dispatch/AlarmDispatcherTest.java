@@ -0,0 +1,122 @@
+package com.backend.alarm.application.dispatch;
+
+import com.backend.alarm.repository.FcmTokenRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+class AlarmDispatcherTest {
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private final StubPushSender pushSender = new StubPushSender();
+    private final FcmTokenRepository fcmTokenRepository = mock(FcmTokenRepository.class);
+    private ThreadPoolTaskExecutor executor;
+    private AlarmDispatcher dispatcher;
+
+    @BeforeEach
+    void setUp() {
+        executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(4);
+        executor.initialize();
+
+        dispatcher = new AlarmDispatcher(pushSender, fcmTokenRepository, executor, registry);
+        ReflectionTestUtils.setField(dispatcher, "maxAttempts", 3);
+        ReflectionTestUtils.setField(dispatcher, "backoff", Duration.ofMillis(10));
+        ReflectionTestUtils.setField(dispatcher, "timeout", Duration.ofSeconds(10));
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdown();
+    }
+
+    @Test
+    void 일시적인_실패는_재시도해서_전송한다() {
+        pushSender.failTransiently("token-1", 2);
+
+        dispatcher.dispatch(List.of(message("token-1"), message("token-2")));
+
+        assertThat(pushSender.getSent()).extracting(PushMessage::getToken)
+                .containsExactlyInAnyOrder("token-1", "token-2");
+        assertThat(pushSender.getBatchSizes()).containsExactly(2, 1, 1);
+        assertThat(registry.counter("alarm.dispatch.retries").count()).isEqualTo(2);
+        assertThat(messages("success")).isEqualTo(2);
+        assertThat(messages("failure")).isZero();
+    }
+
+    @Test
+    void 재시도_횟수를_넘긴_일시적인_실패는_실패로_기록한다() {
+        pushSender.failTransiently("token-1", 5);
+
+        dispatcher.dispatch(List.of(message("token-1")));
+
+        assertThat(pushSender.getSent()).isEmpty();
+        assertThat(pushSender.getBatchSizes()).containsExactly(1, 1, 1);
+        assertThat(messages("failure")).isEqualTo(1);
+    }
+
+    @Test
+    void 재시도_불가능한_실패는_다시_보내지_않는다() {
+        pushSender.failPermanently("token-1");
+
+        dispatcher.dispatch(List.of(message("token-1"), message("token-2")));
+
+        assertThat(pushSender.getBatchSizes()).containsExactly(2);
+        assertThat(registry.counter("alarm.dispatch.retries").count()).isZero();
+        assertThat(messages("success")).isEqualTo(1);
+        assertThat(messages("failure")).isEqualTo(1);
+        verify(fcmTokenRepository, never()).deleteAllByTokenIn(anyCollection());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void 만료된_토큰은_발송이_끝난_뒤_한_번에_삭제한다() {
+        pushSender.markUnregistered("token-1");
+        pushSender.markUnregistered("token-3");
+
+        dispatcher.dispatch(List.of(message("token-1"), message("token-2"), message("token-3")));
+
+        ArgumentCaptor<Collection<String>> tokens = ArgumentCaptor.forClass(Collection.class);
+        verify(fcmTokenRepository).deleteAllByTokenIn(tokens.capture());
+        assertThat(tokens.getValue()).containsExactlyInAnyOrder("token-1", "token-3");
+        assertThat(pushSender.getBatchSizes()).containsExactly(3);
+        assertThat(messages("unregistered")).isEqualTo(2);
+    }
+
+    @Test
+    void MAX_BATCH_SIZE_단위로_나눠_전송한다() {
+        List<PushMessage> messages = IntStream.range(0, PushSender.MAX_BATCH_SIZE * 2 + 1)
+                .mapToObj(i -> message("token-" + i))
+                .toList();
+
+        dispatcher.dispatch(messages);
+
+        assertThat(pushSender.getBatchSizes())
+                .containsExactlyInAnyOrder(PushSender.MAX_BATCH_SIZE, PushSender.MAX_BATCH_SIZE, 1);
+        assertThat(pushSender.getSent()).hasSize(messages.size());
+        assertThat(messages("success")).isEqualTo(messages.size());
+    }
+
+    private double messages(String result) {
+        return registry.counter("alarm.dispatch.messages", "result", result).count();
+    }
+
+    private static PushMessage message(String token) {
+        return new PushMessage(token, "일정 알림", "곧 일정이 시작됩니다.");
+    }
+}
@@ -0,0 +1,116 @@
+package com.backend.chat.application.service;
+
+import com.backend.chat.application.out.ChatOutDto;
+import com.backend.chat.domain.entity.Chat;
+import com.backend.chat.domain.entity.Response;
+import com.backend.chat.domain.type.Sender;
+import com.backend.global.common.response.CursorResponse;
+import com.backend.user.domain.entity.User;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest(properties = {
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "spring.jpa.properties.hibernate.generate_statistics=true"
+})
+@Import(ChatQueryService.class)
+class ChatQueryServiceTest {
+
+    private static final int CHAT_COUNT = 5;
+    private static final int RESPONSES_PER_CHAT = 3;
+
+    @Autowired
+    private ChatQueryService chatQueryService;
+
+    @Autowired
+    private TestEntityManager em;
+
+    @Autowired
+    private EntityManagerFactory emf;
+
+    private UUID userId;
+
+    @BeforeEach
+    void setUp() {
+        userId = UUID.randomUUID();
+        User user = em.persist(User.builder().userId(userId).infoCount(0).build());
+
+        for (int i = 0; i < CHAT_COUNT; i++) {
+            Chat chat = Chat.builder()
+                    .chatId(UUID.randomUUID())
+                    .user(user)
+                    .sender(Sender.BOT)
+                    .message("message " + i)
+                    .build();
+            for (int j = 0; j < RESPONSES_PER_CHAT; j++) {
+                chat.addResponse(Response.builder()
+                        .responseId(UUID.randomUUID())
+                        .accessId("access-" + i + "-" + j)
+                        .text("text")
+                        .build());
+            }
+            em.persist(chat);
+        }
+        em.flush();
+        em.clear();
+    }
+
+    @Test
+    void 채팅_페이지와_응답을_두_번의_쿼리로_조회한다() {
+        Statistics statistics = statistics();
+
+        // 첫 페이지가 마지막 페이지이면 count 쿼리는 생략됨
+        Page<ChatOutDto> chats = chatQueryService.getRecentChats(userId, PageRequest.of(0, 20));
+
+        assertThat(chats.getContent()).hasSize(CHAT_COUNT);
+        assertThat(chats.getContent()).allSatisfy(chat -> assertThat(chat.getItems()).hasSize(RESPONSES_PER_CHAT));
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+    }
+
+    @Test
+    void 커서_조회도_페이지당_두_번의_쿼리로_끝까지_순회한다() {
+        Statistics statistics = statistics();
+
+        List<ChatOutDto> all = new ArrayList<>();
+        String cursor = "";
+        int pages = 0;
+        do {
+            statistics.clear();
+            CursorResponse<ChatOutDto> page = chatQueryService.getRecentChatsByCursor(userId, cursor, 2);
+            assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+
+            all.addAll(page.getContent());
+            cursor = page.getNextCursor();
+            pages++;
+        } while (cursor != null);
+
+        Set<UUID> chatIds = new HashSet<>();
+        all.forEach(chat -> chatIds.add(chat.getChatId()));
+        assertThat(pages).isEqualTo(3);
+        assertThat(chatIds).hasSize(CHAT_COUNT);
+        assertThat(all).allSatisfy(chat -> assertThat(chat.getItems()).hasSize(RESPONSES_PER_CHAT));
+    }
+
+    private Statistics statistics() {
+        Statistics statistics = emf.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+        return statistics;
+    }
+}
@@ -0,0 +1,201 @@
+package com.backend.chat.application.write;
+
+import com.backend.chat.domain.entity.Chat;
+import com.backend.chat.domain.entity.Response;
+import com.backend.chat.domain.type.Sender;
+import com.backend.chat.repository.ChatRepository;
+import com.backend.chat.repository.ResponseRepository;
+import com.backend.user.domain.entity.User;
+import com.backend.user.repository.UserRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.transaction.CannotCreateTransactionException;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.LongSupplier;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// flush는 별도 스레드/트랜잭션에서 일어나므로 테스트 트랜잭션 없이 실행
+@DataJpaTest(properties = "spring.jpa.hibernate.ddl-auto=create-drop")
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class WriteBehindChatWriterTest {
+
+    @Autowired
+    private ChatRepository chatRepository;
+
+    @Autowired
+    private ResponseRepository responseRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private User user;
+    private WriteBehindChatWriter writer;
+
+    @BeforeEach
+    void setUp() {
+        user = userRepository.save(User.builder().userId(UUID.randomUUID()).infoCount(0).build());
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (writer != null && writer.isRunning()) {
+            writer.stop();
+        }
+        responseRepository.deleteAllInBatch();
+        chatRepository.deleteAllInBatch();
+        userRepository.deleteAllInBatch();
+    }
+
+    @Test
+    void 배치_크기가_차면_기다리지_않고_저장한다() {
+        writer = start(3, Duration.ofSeconds(30));
+
+        writer.write(List.of(chat(user, 2), chat(user, 0), chat(user, 0)));
+
+        awaitCount(chatRepository::count, 3);
+        assertThat(responseRepository.count()).isEqualTo(2);
+    }
+
+    @Test
+    void 배치가_덜_차도_flush_interval이_지나면_저장한다() {
+        writer = start(100, Duration.ofMillis(100));
+
+        writer.write(List.of(chat(user, 1)));
+
+        awaitCount(chatRepository::count, 1);
+    }
+
+    @Test
+    void 종료할_때_큐에_남은_메시지를_모두_저장한다() {
+        writer = start(100, Duration.ofSeconds(30));
+        writer.write(IntStream.range(0, 5).mapToObj(i -> chat(user, 1)).toList());
+
+        writer.stop();
+
+        assertThat(chatRepository.count()).isEqualTo(5);
+        assertThat(responseRepository.count()).isEqualTo(5);
+    }
+
+    @Test
+    void 없는_사용자의_메시지는_배치를_실패시키지_않고_건너뛴다() {
+        writer = start(100, Duration.ofSeconds(30));
+        User unknown = User.builder().userId(UUID.randomUUID()).build();
+
+        writer.write(List.of(chat(user, 1), chat(unknown, 1), chat(user, 0)));
+        writer.stop();
+
+        assertThat(chatRepository.count()).isEqualTo(2);
+        assertThat(responseRepository.count()).isEqualTo(1);
+    }
+
+    @Test
+    void 트랜잭션을_시작하지_못하면_재시도해서_저장한다() {
+        AtomicInteger failures = new AtomicInteger(2);
+        writer = start(100, Duration.ofSeconds(30), failingFirst(failures), new SimpleMeterRegistry());
+
+        writer.write(List.of(chat(user, 1)));
+        writer.stop();
+
+        assertThat(failures.get()).isNegative();
+        assertThat(chatRepository.count()).isEqualTo(1);
+    }
+
+    @Test
+    void 재시도해도_트랜잭션을_시작하지_못하면_버린_건수를_기록한다() {
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        writer = start(100, Duration.ofSeconds(30), failingFirst(new AtomicInteger(Integer.MAX_VALUE)), registry);
+
+        writer.write(List.of(chat(user, 0), chat(user, 0)));
+        writer.stop();
+
+        assertThat(chatRepository.count()).isZero();
+        assertThat(registry.counter("chat.write.dropped").count()).isEqualTo(2);
+    }
+
+    private WriteBehindChatWriter start(int batchSize, Duration flushInterval) {
+        return start(batchSize, flushInterval, transactionManager, new SimpleMeterRegistry());
+    }
+
+    private WriteBehindChatWriter start(int batchSize, Duration flushInterval,
+                                        PlatformTransactionManager manager, SimpleMeterRegistry registry) {
+        WriteBehindChatWriter started = new WriteBehindChatWriter(chatRepository,
+                new TransactionTemplate(manager), registry,
+                1000, batchSize, flushInterval, 3, Duration.ofMillis(10), Duration.ofSeconds(10));
+        started.start();
+        return started;
+    }
+
+    // 처음 failures번은 커넥션을 얻지 못한 것처럼 트랜잭션 시작에 실패
+    private PlatformTransactionManager failingFirst(AtomicInteger failures) {
+        return new PlatformTransactionManager() {
+            @Override
+            public TransactionStatus getTransaction(TransactionDefinition definition) {
+                if (failures.getAndDecrement() > 0) {
+                    throw new CannotCreateTransactionException("connection refused");
+                }
+                return transactionManager.getTransaction(definition);
+            }
+
+            @Override
+            public void commit(TransactionStatus status) {
+                transactionManager.commit(status);
+            }
+
+            @Override
+            public void rollback(TransactionStatus status) {
+                transactionManager.rollback(status);
+            }
+        };
+    }
+
+    private static Chat chat(User user, int responses) {
+        Chat chat = Chat.builder()
+                .chatId(UUID.randomUUID())
+                .user(user)
+                .sender(Sender.BOT)
+                .message("message")
+                .chatTime(LocalDateTime.now().withNano(0))
+                .build();
+        for (int i = 0; i < responses; i++) {
+            chat.addResponse(Response.builder()
+                    .responseId(UUID.randomUUID())
+                    .accessId("access-" + i)
+                    .text("text")
+                    .build());
+        }
+        return chat;
+    }
+
+    private static void awaitCount(LongSupplier count, long expected) {
+        long deadline = System.nanoTime() + Duration.ofSeconds(3).toNanos();
+        while (count.getAsLong() < expected && System.nanoTime() < deadline) {
+            try {
+                Thread.sleep(20);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+        assertThat(count.getAsLong()).isEqualTo(expected);
+    }
+}
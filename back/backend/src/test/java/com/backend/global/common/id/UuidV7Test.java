@@ -0,0 +1,55 @@
+package com.backend.global.common.id;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class UuidV7Test {
+
+    @Test
+    void 버전7_RFC변형_비트와_현재시각을_담는다() {
+        long before = System.currentTimeMillis();
+        UUID id = UuidV7.generate();
+        long after = System.currentTimeMillis();
+
+        assertThat(id.version()).isEqualTo(7);
+        assertThat(id.variant()).isEqualTo(2);
+        // 다른 테스트가 밀리초당 4096개를 넘겨 생성했다면 시계보다 조금 앞설 수 있음
+        assertThat(UuidV7.timestamp(id)).isBetween(before, after + 1_000);
+    }
+
+    @Test
+    void 같은_밀리초_안에서도_단조_증가한다() {
+        UUID prev = UuidV7.generate();
+        for (int i = 0; i < 100_000; i++) {
+            UUID next = UuidV7.generate();
+            // 상위 64비트(시간+카운터)만으로 정렬 순서가 결정됨
+            assertThat(Long.compareUnsigned(next.getMostSignificantBits(), prev.getMostSignificantBits())).isPositive();
+            prev = next;
+        }
+    }
+
+    @Test
+    void 동시_생성에도_중복이_없다() {
+        ConcurrentLinkedQueue<UUID> ids = new ConcurrentLinkedQueue<>();
+        List<CompletableFuture<Void>> futures = new ArrayList<>();
+        IntStream.range(0, 8).forEach(t -> futures.add(CompletableFuture.runAsync(() -> {
+            for (int i = 0; i < 20_000; i++) {
+                ids.add(UuidV7.generate());
+            }
+        })));
+        CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new)).join();
+
+        Set<UUID> unique = new HashSet<>(ids);
+        assertThat(unique).hasSize(160_000);
+    }
+}
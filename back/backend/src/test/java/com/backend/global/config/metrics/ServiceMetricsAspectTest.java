@@ -0,0 +1,79 @@
+package com.backend.global.config.metrics;
+
+import com.backend.global.common.exception.BaseException;
+import com.backend.global.config.cache.CacheEvictor;
+import com.backend.image.application.in.SearchImagesInDto;
+import com.backend.image.application.service.ImageService;
+import com.backend.image.repository.ImageRepository;
+import com.backend.user.repository.UserRepository;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class ServiceMetricsAspectTest {
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private final ImageRepository imageRepository = mock(ImageRepository.class);
+    private ImageService imageService;
+
+    @BeforeEach
+    void setUp() {
+        AspectJProxyFactory factory = new AspectJProxyFactory(
+                new ImageService(mock(UserRepository.class), imageRepository, mock(CacheEvictor.class)));
+        factory.setProxyTargetClass(true);
+        factory.addAspect(new ServiceMetricsAspect(registry));
+        imageService = factory.getProxy();
+    }
+
+    @Test
+    void 성공한_호출은_future_완료_시점에_success로_기록된다() {
+        when(imageRepository.search(any(), isNull(), anyInt())).thenReturn(List.of());
+
+        imageService.searchImages(new SearchImagesInDto(UUID.randomUUID(), "영수증", null, null, null, null, 30)).join();
+
+        Timer timer = registry.find("service.method")
+                .tags("service", "ImageService", "method", "searchImages", "outcome", "success", "exception", "none")
+                .timer();
+        assertThat(timer).isNotNull();
+        assertThat(timer.count()).isEqualTo(1);
+        assertThat(registry.find("service.hibernate.statements").tags("method", "searchImages").summary()).isNotNull();
+    }
+
+    @Test
+    void BaseException은_응답_상태_이름으로_error_태그가_붙는다() {
+        assertThatThrownBy(() -> imageService.searchImages(
+                new SearchImagesInDto(UUID.randomUUID(), null, null, null, null, null, 0)))
+                .isInstanceOf(BaseException.class);
+
+        Timer timer = registry.find("service.method")
+                .tags("method", "searchImages", "outcome", "error", "exception", "INVALID_INPUT_VALUE")
+                .timer();
+        assertThat(timer).isNotNull();
+        assertThat(timer.count()).isEqualTo(1);
+    }
+
+    @Test
+    void 중첩_구간의_SQL_수는_바깥_구간에_합산된다() {
+        HibernateStatementCounter counter = new HibernateStatementCounter();
+        int outer = HibernateStatementCounter.start();
+        counter.inspect("select 1");
+        int inner = HibernateStatementCounter.start();
+        counter.inspect("select 2");
+        counter.inspect("select 3");
+        assertThat(HibernateStatementCounter.stop(inner)).isEqualTo(2);
+        assertThat(HibernateStatementCounter.stop(outer)).isEqualTo(3);
+    }
+}
@@ -0,0 +1,50 @@
+package com.backend.image.repository;
+
+import com.backend.global.common.cursor.KeysetCursor;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ImageSearchQueryTest {
+
+    private static final UUID USER_ID = UUID.randomUUID();
+
+    @Test
+    void 검색어는_토큰별_접두어_tsquery로_바뀌고_문법문자는_제거된다() {
+        assertThat(ImageSearchQuery.toPrefixTsQuery("카페  영수증")).isEqualTo("'카페':* & '영수증':*");
+        assertThat(ImageSearchQuery.toPrefixTsQuery("it's (a|b)!")).isEqualTo("'its':* & 'ab':*");
+        assertThat(ImageSearchQuery.toPrefixTsQuery("&& !!")).isEmpty();
+    }
+
+    @Test
+    void ILIKE_패턴은_와일드카드를_이스케이프한다() {
+        assertThat(ImageSearchQuery.toContainsPattern("50%_할인")).isEqualTo("%50\\%\\_할인%");
+    }
+
+    @Test
+    void 짧은_검색어는_trigram_조건을_붙이지_않는다() {
+        ImageSearchQuery shortQuery = new ImageSearchQuery(new ImageSearchFilter(USER_ID, "영수", null, null, null));
+        ImageSearchQuery longQuery = new ImageSearchQuery(new ImageSearchFilter(USER_ID, "영수증", null, null, null));
+
+        assertThat(shortQuery.pageSql(null)).contains("content_tsv @@").doesNotContain("ILIKE");
+        assertThat(longQuery.pageSql(null)).contains("content_tsv @@").contains("OR content ILIKE ?");
+        assertThat(longQuery.params()).hasSize(3);
+    }
+
+    @Test
+    void 기간_즐겨찾기_커서_조건과_파라미터_순서가_맞는다() {
+        LocalDateTime from = LocalDateTime.of(2025, 5, 1, 0, 0);
+        LocalDateTime to = LocalDateTime.of(2025, 6, 1, 0, 0);
+        KeysetCursor.Key after = new KeysetCursor.Key(LocalDateTime.of(2025, 5, 20, 12, 0), UUID.randomUUID());
+        ImageSearchQuery query = new ImageSearchQuery(new ImageSearchFilter(USER_ID, null, from, to, true));
+
+        assertThat(query.pageSql(after)).isEqualTo("SELECT image_id, access_id, image_time, star, content FROM image"
+                + " WHERE user_id = ? AND image_time >= ? AND image_time < ? AND star = ?"
+                + " AND (image_time, image_id) < (?, ?) ORDER BY image_time DESC, image_id DESC LIMIT ?");
+        assertThat(query.pageParams(after, 31)).hasSize(7).last().isEqualTo(31);
+        assertThat(query.explainSql()).doesNotContain("LIMIT").doesNotContain("(image_time, image_id)");
+    }
+}
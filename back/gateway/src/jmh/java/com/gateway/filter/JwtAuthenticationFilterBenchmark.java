@@ -0,0 +1,123 @@
+package com.gateway.filter;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.cloud.gateway.filter.GlobalFilter;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Mono;
+
+import javax.crypto.SecretKey;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Date;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JwtAuthenticationFilter 처리량 비교
+ * - legacy : 요청마다 키/파서 생성 + 스트림으로 보호 경로 확인 (변경 전 코드)
+ * - current: 키/파서 1회 생성 + 검증된 토큰 캐시 + 접두사 매처
+ * - sessions: 동시에 사용 중인 토큰 수 (캐시 크기보다 작으면 대부분 캐시 적중)
+ *
+ * 실행: ./gradlew jmh -Pjmh.includes=JwtAuthenticationFilterBenchmark
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+public class JwtAuthenticationFilterBenchmark {
+
+    private static final String SECRET = "benchmark-secret-key-benchmark-secret-key-0123456789";
+    private static final GatewayFilterChain CHAIN = exchange -> Mono.empty();
+
+    @Param({"legacy", "current"})
+    private String mode;
+
+    @Param({"1", "1000"})
+    private int sessions;
+
+    private GlobalFilter filter;
+    private String[] authHeaders;
+
+    @Setup
+    public void setUp() {
+        filter = "legacy".equals(mode)
+                ? new LegacyJwtAuthenticationFilter(SECRET)
+                : new JwtAuthenticationFilter(SECRET, 10_000, Duration.ofMinutes(5));
+
+        SecretKey key = Keys.hmacShaKeyFor(SECRET.getBytes(StandardCharsets.UTF_8));
+        authHeaders = new String[sessions];
+        for (int i = 0; i < sessions; i++) {
+            String token = Jwts.builder()
+                    .setSubject(UUID.randomUUID().toString())
+                    .setIssuedAt(new Date())
+                    .setExpiration(new Date(System.currentTimeMillis() + Duration.ofHours(1).toMillis()))
+                    .signWith(key)
+                    .compact();
+            authHeaders[i] = "Bearer " + token;
+        }
+    }
+
+    @Benchmark
+    public HttpStatus filter() {
+        String authHeader = authHeaders[ThreadLocalRandom.current().nextInt(sessions)];
+        MockServerWebExchange exchange = MockServerWebExchange.from(
+                MockServerHttpRequest.get("/api/v1/images").header("Authorization", authHeader));
+
+        filter.filter(exchange, CHAIN).block();
+        return (HttpStatus) exchange.getResponse().getStatusCode();
+    }
+
+    // 변경 전 JwtAuthenticationFilter의 인증 경로를 그대로 옮긴 비교 대상
+    static class LegacyJwtAuthenticationFilter implements GlobalFilter {
+        private static final List<String> PROTECTED_PATHS = List.of("/api", "/rag", "/search");
+
+        private final String secretKey;
+
+        LegacyJwtAuthenticationFilter(String secretKey) {
+            this.secretKey = secretKey;
+        }
+
+        @Override
+        public Mono<Void> filter(ServerWebExchange exchange, GatewayFilterChain chain) {
+            String path = exchange.getRequest().getPath().value();
+            boolean requiresAuth = PROTECTED_PATHS.stream().anyMatch(path::startsWith);
+            if (!requiresAuth) return chain.filter(exchange);
+
+            String authHeader = exchange.getRequest().getHeaders().getFirst("Authorization");
+            try {
+                String token = authHeader.substring(7);
+                SecretKey key = Keys.hmacShaKeyFor(secretKey.getBytes(StandardCharsets.UTF_8));
+                Claims claims = Jwts.parserBuilder()
+                        .setSigningKey(key)
+                        .build()
+                        .parseClaimsJws(token)
+                        .getBody();
+
+                ServerHttpRequest mutatedRequest = exchange.getRequest().mutate()
+                        .header("X-User-Id", claims.getSubject())
+                        .build();
+
+                return chain.filter(exchange.mutate().request(mutatedRequest).build());
+            } catch (Exception e) {
+                exchange.getResponse().setStatusCode(HttpStatus.UNAUTHORIZED);
+                return exchange.getResponse().setComplete();
+            }
+        }
+    }
+}
@@ -1,16 +1,21 @@
 // src/main/java/com/gateway/config/RagRateLimitConfig.java
 package com.gateway.config;
 
+import com.gateway.filter.JwtAuthenticationFilter;
+import com.gateway.ratelimit.TwoTierRateLimiter;
+import io.micrometer.core.instrument.MeterRegistry;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Primary;
 import org.springframework.cloud.gateway.filter.ratelimit.KeyResolver;
-import org.springframework.cloud.gateway.filter.ratelimit.RedisRateLimiter;
 import org.springframework.data.redis.connection.ReactiveRedisConnectionFactory;
 import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.ReactiveStringRedisTemplate;
 import reactor.core.publisher.Mono;
 
+import java.time.Duration;
+
 @Configuration
 public class RagRateLimitConfig {
 
@@ -34,25 +39,36 @@ public class RagRateLimitConfig {
     }
 
     /**
-     * Gateway RequestRateLimiter 빈
-     * – ReactiveRedisConnectionFactory를 내부에서 사용
+     * Gateway RequestRateLimiter 빈 (로컬 토큰 버킷 + Redis 일괄 동기화)
+     * – 초당 replenish-rate 토큰, 버스트 최대 burst-capacity 토큰, 요청당 1토큰 소모
+     * – @Primary: 게이트웨이 자동 구성의 RedisRateLimiter 빈보다 우선
      */
     @Bean("ragServerRateLimiter")
-    public RedisRateLimiter ragServerRateLimiter() {
-        // 분당 1토큰, 버스트 최대10토큰, 요청당 1토큰 소모
-        return new RedisRateLimiter(17, 1000, 1);
+    @Primary
+    public TwoTierRateLimiter ragServerRateLimiter(
+            ReactiveRedisConnectionFactory connectionFactory,
+            MeterRegistry meterRegistry,
+            @Value("${ratelimit.rag.replenish-rate:17}") int replenishRate,
+            @Value("${ratelimit.rag.burst-capacity:1000}") int burstCapacity,
+            @Value("${ratelimit.rag.max-keys:100000}") int maxKeys,
+            @Value("${ratelimit.rag.sync-interval:200ms}") Duration syncInterval) {
+        TwoTierRateLimiter.Config config = new TwoTierRateLimiter.Config()
+                .setReplenishRate(replenishRate)
+                .setBurstCapacity(burstCapacity);
+        return new TwoTierRateLimiter(config, maxKeys, syncInterval,
+                new ReactiveStringRedisTemplate(connectionFactory), meterRegistry);
     }
 
     /**
-     * 사용자별 KeyResolver (JWT or IP)
+     * 사용자별 KeyResolver (검증된 JWT subject, 없으면 IP)
+     * – 토큰 문자열 대신 subject를 써서 토큰 재발급 후에도 같은 키, 사용자 간 충돌 없음
      */
     @Bean("userKeyResolver")
     public KeyResolver userKeyResolver() {
         return exchange -> {
-            String authHeader = exchange.getRequest().getHeaders().getFirst("Authorization");
-            if (authHeader != null && authHeader.startsWith("Bearer ")) {
-                String token = authHeader.substring(7);
-                return Mono.just("rag-user:" + token.hashCode());
+            String userId = exchange.getAttribute(JwtAuthenticationFilter.USER_ID_ATTRIBUTE);
+            if (userId != null) {
+                return Mono.just("rag-user:" + userId);
             }
             var remote = exchange.getRequest().getRemoteAddress();
             String key = (remote != null)
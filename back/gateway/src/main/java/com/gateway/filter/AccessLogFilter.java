@@ -0,0 +1,105 @@
+package com.gateway.filter;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cloud.gateway.route.Route;
+import org.springframework.cloud.gateway.support.ServerWebExchangeUtils;
+import org.springframework.core.Ordered;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.server.WebFilter;
+import org.springframework.web.server.WebFilterChain;
+import reactor.core.publisher.Mono;
+
+import java.net.InetSocketAddress;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 게이트웨이 접근 로그 (요청당 한 줄, key=value 형식)
+ * - 2xx/3xx는 access-log.success-sample-rate 비율만 기록, 4xx/5xx/예외는 항상 기록
+ * - 지연 시간은 텍스트 대신 라우트별 Micrometer 타이머(access.latency, 히스토그램)로 기록
+ * - ACCESS 로거는 logback-spring.xml의 비동기 appender로 출력되어 이벤트 루프에서 I/O를 하지 않음
+ */
+@Component
+public class AccessLogFilter implements WebFilter, Ordered {
+
+    private static final Logger accessLog = LoggerFactory.getLogger("ACCESS");
+
+    private final MeterRegistry meterRegistry;
+    private final double successSampleRate;
+
+    public AccessLogFilter(MeterRegistry meterRegistry,
+                           @Value("${access-log.success-sample-rate:0.05}") double successSampleRate) {
+        this.meterRegistry = meterRegistry;
+        this.successSampleRate = successSampleRate;
+    }
+
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, WebFilterChain chain) {
+        long start = System.nanoTime();
+        Throwable[] failure = new Throwable[1];
+
+        return chain.filter(exchange)
+                .doOnError(error -> failure[0] = error)
+                .doFinally(signal -> record(exchange, System.nanoTime() - start, failure[0]));
+    }
+
+    private void record(ServerWebExchange exchange, long elapsedNanos, Throwable error) {
+        ServerHttpRequest request = exchange.getRequest();
+        HttpStatusCode statusCode = exchange.getResponse().getStatusCode();
+        int status = statusCode != null ? statusCode.value() : (error != null ? 500 : 0);
+        Route route = exchange.getAttribute(ServerWebExchangeUtils.GATEWAY_ROUTE_ATTR);
+        String routeId = route != null ? route.getId() : "none";
+        String method = request.getMethod().name();
+
+        Timer.builder("access.latency")
+                .description("라우트별 요청 처리 시간")
+                .tag("route", routeId)
+                .tag("method", method)
+                .tag("outcome", outcome(status, error))
+                .publishPercentileHistogram()
+                .register(meterRegistry)
+                .record(elapsedNanos, TimeUnit.NANOSECONDS);
+
+        long latencyMs = TimeUnit.NANOSECONDS.toMillis(elapsedNanos);
+        String path = request.getPath().value();
+        if (error != null || status >= 500) {
+            accessLog.error("method={} path={} status={} route={} latencyMs={} clientIp={} error=\"{}\"",
+                    method, path, status, routeId, latencyMs, clientIp(request), error != null ? error.getMessage() : "");
+        } else if (status >= 400) {
+            accessLog.warn("method={} path={} status={} route={} latencyMs={} clientIp={}",
+                    method, path, status, routeId, latencyMs, clientIp(request));
+        } else if (ThreadLocalRandom.current().nextDouble() < successSampleRate) {
+            accessLog.info("method={} path={} status={} route={} latencyMs={} clientIp={}",
+                    method, path, status, routeId, latencyMs, clientIp(request));
+        }
+    }
+
+    private static String outcome(int status, Throwable error) {
+        if (error != null || status >= 500) return "SERVER_ERROR";
+        if (status >= 400) return "CLIENT_ERROR";
+        if (status >= 300) return "REDIRECTION";
+        if (status >= 200) return "SUCCESS";
+        return "UNKNOWN";
+    }
+
+    private static String clientIp(ServerHttpRequest request) {
+        String forwarded = request.getHeaders().getFirst("X-Forwarded-For");
+        if (forwarded != null) {
+            return forwarded;
+        }
+        InetSocketAddress remote = request.getRemoteAddress();
+        return remote != null ? remote.getAddress().getHostAddress() : "unknown";
+    }
+
+    @Override
+    public int getOrder() {
+        return Ordered.HIGHEST_PRECEDENCE;
+    }
+}
@@ -1,5 +1,8 @@
 package com.gateway.filter;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
 import io.jsonwebtoken.*;
 import io.jsonwebtoken.security.Keys;
 import org.slf4j.Logger;
@@ -16,19 +19,41 @@ import reactor.core.publisher.Mono;
 
 import javax.crypto.SecretKey;
 import java.nio.charset.StandardCharsets;
-import java.util.List;
+import java.time.Duration;
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
 
 @Component
 public class JwtAuthenticationFilter implements GlobalFilter, Ordered {
 
     private static final Logger logger = LoggerFactory.getLogger(JwtAuthenticationFilter.class);
 
-    @Value("${jwt.secret}")
-    private String secretKey;
-
+    // 검증된 JWT subject (RateLimiter KeyResolver 등 뒤쪽 필터에서 사용)
+    public static final String USER_ID_ATTRIBUTE = JwtAuthenticationFilter.class.getName() + ".userId";
 
     // 테스트용
-    private static final List<String> PROTECTED_PATHS = List.of("/api","/rag", "/search");
+    private static final PathPrefixMatcher PROTECTED_PATHS = PathPrefixMatcher.of("/api", "/rag", "/search");
+    private static final PathPrefixMatcher BYPASS_PATHS = PathPrefixMatcher.of("/search", "/rag/upload-image-keyword");
+
+    // 키와 파서는 불변/스레드 안전하므로 한 번만 생성
+    private final JwtParser jwtParser;
+
+    // 검증이 끝난 토큰 -> userId (토큰 만료 시각 또는 최대 TTL 중 먼저 오는 시점까지 보관)
+    private final Cache<String, VerifiedToken> verifiedTokens;
+
+    public JwtAuthenticationFilter(
+            @Value("${jwt.secret}") String secretKey,
+            @Value("${jwt.verified-cache.max-size:10000}") long cacheMaxSize,
+            @Value("${jwt.verified-cache.max-ttl:5m}") Duration cacheMaxTtl) {
+        SecretKey key = Keys.hmacShaKeyFor(secretKey.getBytes(StandardCharsets.UTF_8));
+        this.jwtParser = Jwts.parserBuilder()
+                .setSigningKey(key)
+                .build();
+        this.verifiedTokens = Caffeine.newBuilder()
+                .maximumSize(cacheMaxSize)
+                .expireAfter(new TokenExpiry(cacheMaxTtl))
+                .build();
+    }
 
 
     @Override
@@ -43,16 +68,13 @@ public class JwtAuthenticationFilter implements GlobalFilter, Ordered {
 
         // 1. 특정 헤더로 인증 우회
         String bypass = exchange.getRequest().getHeaders().getFirst("X-Bypass-Auth");
-        if (("adminadmin".equals(bypass)) && (
-                path.startsWith("/search") ||
-                        path.startsWith("/rag/upload-image-keyword"))) {
+        if ("adminadmin".equals(bypass) && BYPASS_PATHS.matches(path)) {
             // 인증 우회 (프록시만)
             return chain.filter(exchange);
         }
         // (아래는 기존 코드 그대로)
         // 보호 경로 확인
-        boolean requiresAuth = PROTECTED_PATHS.stream().anyMatch(path::startsWith);
-        if (!requiresAuth) return chain.filter(exchange);
+        if (!PROTECTED_PATHS.matches(path)) return chain.filter(exchange);
 
         String authHeader = exchange.getRequest().getHeaders().getFirst("Authorization");
         if (authHeader == null) {
@@ -67,14 +89,10 @@ public class JwtAuthenticationFilter implements GlobalFilter, Ordered {
         }
         try {
             String token = authHeader.substring(7);
-            SecretKey key = Keys.hmacShaKeyFor(secretKey.getBytes(StandardCharsets.UTF_8));
-            Claims claims = Jwts.parserBuilder()
-                    .setSigningKey(key)
-                    .build()
-                    .parseClaimsJws(token)
-                    .getBody();
-
-            String userId = claims.getSubject();
+            String userId = verify(token);
+            if (userId != null) {
+                exchange.getAttributes().put(USER_ID_ATTRIBUTE, userId);
+            }
 
             ServerHttpRequest mutatedRequest = exchange.getRequest().mutate()
                     .header("X-User-Id", userId)
@@ -88,9 +106,61 @@ public class JwtAuthenticationFilter implements GlobalFilter, Ordered {
         return exchange.getResponse().setComplete();
     }
 
+    // 캐시에 있으면 HMAC 검증 생략, 없으면 검증 후 캐시 (실패한 토큰은 캐시하지 않음)
+    private String verify(String token) {
+        VerifiedToken cached = verifiedTokens.getIfPresent(token);
+        if (cached != null && !cached.isExpired(System.currentTimeMillis())) {
+            return cached.userId();
+        }
+
+        Claims claims = jwtParser.parseClaimsJws(token).getBody();
+        Date expiration = claims.getExpiration();
+        VerifiedToken verified = new VerifiedToken(
+                claims.getSubject(),
+                expiration != null ? expiration.getTime() : Long.MAX_VALUE
+        );
+        if (verified.userId() != null) {
+            verifiedTokens.put(token, verified);
+        }
+        return verified.userId();
+    }
+
 
     @Override
     public int getOrder() {
         return 0;
     }
+
+    private record VerifiedToken(String userId, long expiresAtMillis) {
+        boolean isExpired(long nowMillis) {
+            return nowMillis >= expiresAtMillis;
+        }
+    }
+
+    private static class TokenExpiry implements Expiry<String, VerifiedToken> {
+        private final long maxTtlNanos;
+
+        TokenExpiry(Duration maxTtl) {
+            this.maxTtlNanos = maxTtl.toNanos();
+        }
+
+        @Override
+        public long expireAfterCreate(String token, VerifiedToken verified, long currentTime) {
+            long untilExpiry = verified.expiresAtMillis() - System.currentTimeMillis();
+            if (untilExpiry <= 0) {
+                return 0;
+            }
+            return Math.min(maxTtlNanos, TimeUnit.MILLISECONDS.toNanos(untilExpiry));
+        }
+
+        @Override
+        public long expireAfterUpdate(String token, VerifiedToken verified, long currentTime, long currentDuration) {
+            return expireAfterCreate(token, verified, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(String token, VerifiedToken verified, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
 }
@@ -0,0 +1,27 @@
+package com.gateway.filter;
+
+/**
+ * 경로 접두사 매처
+ * - 생성 시점에 접두사 배열을 고정해 두고, 요청마다 스트림/람다 할당 없이 비교
+ */
+public final class PathPrefixMatcher {
+
+    private final String[] prefixes;
+
+    private PathPrefixMatcher(String[] prefixes) {
+        this.prefixes = prefixes;
+    }
+
+    public static PathPrefixMatcher of(String... prefixes) {
+        return new PathPrefixMatcher(prefixes.clone());
+    }
+
+    public boolean matches(String path) {
+        for (String prefix : prefixes) {
+            if (path.startsWith(prefix)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,78 @@
+package com.gateway.ratelimit;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 키별 로컬 토큰 버킷 모음 (1단계)
+ * - 키 해시로 나눈 stripe마다 최대 키 수를 두어 메모리 사용량을 제한
+ * - stripe가 가득 차면 그 stripe의 유휴 버킷부터 정리하고, 그래도 자리가 없으면 로컬 판정을 건너뜀(UNTRACKED)
+ * - 유휴 버킷 정리와 동시에 같은 키로 요청이 들어오면 토큰 몇 개가 더 허용될 수 있음 (2단계에서 보정됨)
+ */
+class LocalRateLimiter {
+
+    static final long UNTRACKED = Long.MIN_VALUE;
+
+    private final Stripe[] stripes;
+    private final int maxKeysPerStripe;
+
+    LocalRateLimiter(int stripeCount, int maxKeys) {
+        this.stripes = new Stripe[stripeCount];
+        for (int i = 0; i < stripeCount; i++) {
+            stripes[i] = new Stripe();
+        }
+        this.maxKeysPerStripe = Math.max(1, maxKeys / stripeCount);
+    }
+
+    /**
+     * @return 남은 토큰 수, 거절이면 -1, 버킷을 만들 자리가 없으면 UNTRACKED
+     */
+    long tryAcquire(String key, long nowNanos, long intervalNanos, long toleranceNanos) {
+        Stripe stripe = stripes[Math.floorMod(key.hashCode(), stripes.length)];
+        LocalTokenBucket bucket = stripe.buckets.get(key);
+        if (bucket == null) {
+            if (stripe.size.get() >= maxKeysPerStripe && stripe.evictIdle(nowNanos) == 0) {
+                return UNTRACKED;
+            }
+            LocalTokenBucket created = new LocalTokenBucket(nowNanos);
+            bucket = stripe.buckets.putIfAbsent(key, created);
+            if (bucket == null) {
+                stripe.size.incrementAndGet();
+                bucket = created;
+            }
+        }
+        return bucket.tryAcquire(nowNanos, intervalNanos, toleranceNanos);
+    }
+
+    int evictIdle(long nowNanos) {
+        int evicted = 0;
+        for (Stripe stripe : stripes) {
+            evicted += stripe.evictIdle(nowNanos);
+        }
+        return evicted;
+    }
+
+    int size() {
+        int size = 0;
+        for (Stripe stripe : stripes) {
+            size += stripe.size.get();
+        }
+        return size;
+    }
+
+    private static class Stripe {
+        private final ConcurrentHashMap<String, LocalTokenBucket> buckets = new ConcurrentHashMap<>();
+        private final AtomicInteger size = new AtomicInteger();
+
+        int evictIdle(long nowNanos) {
+            int evicted = 0;
+            for (var entry : buckets.entrySet()) {
+                if (entry.getValue().isIdle(nowNanos) && buckets.remove(entry.getKey(), entry.getValue())) {
+                    size.decrementAndGet();
+                    evicted++;
+                }
+            }
+            return evicted;
+        }
+    }
+}
@@ -0,0 +1,38 @@
+package com.gateway.ratelimit;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 락 없는 토큰 버킷 (GCRA 방식)
+ * - 상태는 "이론상 다음 도착 시각(TAT)" long 하나뿐이라 CAS 한 번으로 갱신
+ * - TAT가 현재 시각 이전이면 버킷이 가득 찬(유휴) 상태이므로 버려도 정보 손실이 없음
+ */
+class LocalTokenBucket {
+
+    private final AtomicLong theoreticalArrival;
+
+    LocalTokenBucket(long nowNanos) {
+        this.theoreticalArrival = new AtomicLong(nowNanos);
+    }
+
+    /**
+     * @return 남은 토큰 수, 허용되지 않으면 -1
+     */
+    long tryAcquire(long nowNanos, long intervalNanos, long toleranceNanos) {
+        while (true) {
+            long tat = theoreticalArrival.get();
+            long next = Math.max(tat, nowNanos) + intervalNanos;
+            long used = next - nowNanos;
+            if (used > toleranceNanos) {
+                return -1;
+            }
+            if (theoreticalArrival.compareAndSet(tat, next)) {
+                return (toleranceNanos - used) / intervalNanos;
+            }
+        }
+    }
+
+    boolean isIdle(long nowNanos) {
+        return theoreticalArrival.get() <= nowNanos;
+    }
+}
@@ -0,0 +1,250 @@
+package com.gateway.ratelimit;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.cloud.gateway.filter.ratelimit.AbstractRateLimiter;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.redis.core.ReactiveStringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 2단계 Rate Limiter
+ * - 1단계(로컬): 키별 락 없는 토큰 버킷으로 즉시 판정, 명백히 한도를 넘은 요청은 네트워크 없이 거절
+ *   (한 인스턴스에서 소비한 양은 클러스터 전체 소비량보다 클 수 없으므로 같은 한도로 로컬 거절해도 안전)
+ * - 2단계(Redis): 허용한 요청 수를 키별로 모아 sync-interval마다 스크립트 한 번으로 클러스터 전체 버킷에 반영
+ *   남은 토큰이 없는 키는 다음 토큰이 생길 때까지 로컬에서 바로 거절
+ * - Redis 장애 시에는 로컬 한도만 적용 (요청 경로에서 Redis를 기다리지 않음)
+ * - 라우트별 설정 없이 생성 시 받은 한도를 모든 요청에 적용
+ */
+public class TwoTierRateLimiter extends AbstractRateLimiter<TwoTierRateLimiter.Config>
+        implements InitializingBean, DisposableBean {
+
+    public static final String CONFIGURATION_PROPERTY_NAME = "two-tier-rate-limiter";
+    public static final String REMAINING_HEADER = "X-RateLimit-Remaining";
+    public static final String REPLENISH_RATE_HEADER = "X-RateLimit-Replenish-Rate";
+    public static final String BURST_CAPACITY_HEADER = "X-RateLimit-Burst-Capacity";
+
+    private static final Logger logger = LoggerFactory.getLogger(TwoTierRateLimiter.class);
+    private static final long NANOS_PER_SECOND = TimeUnit.SECONDS.toNanos(1);
+    private static final int STRIPES = 16;
+    private static final int MAX_KEYS_PER_SCRIPT = 500;
+    private static final String REDIS_KEY_PREFIX = "gateway_rate_limit:";
+
+    private final Config config;
+    private final ReactiveStringRedisTemplate redisTemplate;
+    private final RedisScript<List<Long>> script;
+    private final Duration syncInterval;
+
+    private final LocalRateLimiter localLimiter;
+    // 마지막 동기화 이후 허용한 요청 수 (Redis에 반영할 양)
+    // 증가와 제거를 모두 compute 계열 안에서 처리해, 동기화가 지운 카운터에 증가분이 남아 유실되지 않게 함
+    private final Map<String, AtomicLong> pending = new ConcurrentHashMap<>();
+    // Redis 기준으로 토큰이 바닥난 키 -> 다시 허용할 수 있는 시각(nanoTime)
+    private final Map<String, Long> blockedUntil = new ConcurrentHashMap<>();
+
+    private final Counter localAllowed;
+    private final Counter localRejected;
+    private final Counter remoteRejected;
+    private final Counter remoteErrors;
+    private final Timer remoteSync;
+
+    private Disposable syncLoop;
+
+    @SuppressWarnings("unchecked")
+    public TwoTierRateLimiter(Config config, int maxKeys, Duration syncInterval,
+                              ReactiveStringRedisTemplate redisTemplate, MeterRegistry meterRegistry) {
+        super(Config.class, CONFIGURATION_PROPERTY_NAME, null);
+        this.config = config;
+        this.redisTemplate = redisTemplate;
+        this.script = (RedisScript<List<Long>>) (RedisScript<?>) RedisScript.of(
+                new ClassPathResource("scripts/two_tier_rate_limiter.lua"), List.class);
+        this.syncInterval = syncInterval;
+        this.localLimiter = new LocalRateLimiter(STRIPES, maxKeys);
+
+        this.localAllowed = decisionCounter(meterRegistry, "local", "allowed");
+        this.localRejected = decisionCounter(meterRegistry, "local", "rejected");
+        this.remoteRejected = decisionCounter(meterRegistry, "remote", "rejected");
+        this.remoteErrors = Counter.builder("gateway.ratelimit.remote.errors")
+                .description("Redis 동기화 실패 횟수")
+                .register(meterRegistry);
+        this.remoteSync = Timer.builder("gateway.ratelimit.remote.sync")
+                .description("Redis 일괄 동기화 소요 시간")
+                .register(meterRegistry);
+        Gauge.builder("gateway.ratelimit.local.keys", localLimiter, LocalRateLimiter::size)
+                .description("로컬 토큰 버킷 수")
+                .register(meterRegistry);
+    }
+
+    private static Counter decisionCounter(MeterRegistry registry, String tier, String result) {
+        return Counter.builder("gateway.ratelimit.decisions")
+                .description("Rate Limiter 판정 수 (판정한 단계별)")
+                .tag("tier", tier)
+                .tag("result", result)
+                .register(registry);
+    }
+
+    @Override
+    public Mono<Response> isAllowed(String routeId, String id) {
+        String key = routeId + ":" + id;
+        long now = System.nanoTime();
+        long interval = NANOS_PER_SECOND / config.getReplenishRate();
+        long tolerance = interval * config.getBurstCapacity();
+
+        long remaining = localLimiter.tryAcquire(key, now, interval, tolerance);
+        if (remaining == -1) {
+            localRejected.increment();
+            return Mono.just(new Response(false, headers(0)));
+        }
+
+        Long blocked = blockedUntil.get(key);
+        if (blocked != null && blocked - now > 0) {
+            remoteRejected.increment();
+            return Mono.just(new Response(false, headers(0)));
+        }
+
+        pending.compute(key, (k, count) -> {
+            if (count == null) {
+                count = new AtomicLong();
+            }
+            count.incrementAndGet();
+            return count;
+        });
+        localAllowed.increment();
+        return Mono.just(new Response(true, headers(remaining == LocalRateLimiter.UNTRACKED ? -1 : remaining)));
+    }
+
+    private Map<String, String> headers(long remaining) {
+        return Map.of(
+                REMAINING_HEADER, String.valueOf(remaining),
+                REPLENISH_RATE_HEADER, String.valueOf(config.getReplenishRate()),
+                BURST_CAPACITY_HEADER, String.valueOf(config.getBurstCapacity())
+        );
+    }
+
+    /**
+     * 모아둔 허용 수를 Redis에 반영하고, 클러스터 전체 기준으로 토큰이 바닥난 키를 차단 목록에 올림
+     */
+    Mono<Void> syncRemote() {
+        long now = System.nanoTime();
+        localLimiter.evictIdle(now);
+        blockedUntil.values().removeIf(until -> until - now <= 0);
+
+        List<String> keys = new ArrayList<>();
+        List<Long> counts = new ArrayList<>();
+        pending.forEach((key, pendingCount) -> {
+            long count = pendingCount.getAndSet(0);
+            if (count == 0) {
+                // 그 사이 증가했으면 남겨 두고 다음 동기화에서 반영
+                pending.computeIfPresent(key, (k, current) -> current.get() == 0 ? null : current);
+                return;
+            }
+            keys.add(key);
+            counts.add(count);
+        });
+        if (keys.isEmpty()) {
+            return Mono.empty();
+        }
+
+        long started = System.nanoTime();
+        return Flux.range(0, (keys.size() + MAX_KEYS_PER_SCRIPT - 1) / MAX_KEYS_PER_SCRIPT)
+                .concatMap(chunk -> {
+                    int from = chunk * MAX_KEYS_PER_SCRIPT;
+                    int to = Math.min(from + MAX_KEYS_PER_SCRIPT, keys.size());
+                    return syncChunk(keys.subList(from, to), counts.subList(from, to));
+                })
+                .then()
+                .doOnTerminate(() -> remoteSync.record(System.nanoTime() - started, TimeUnit.NANOSECONDS));
+    }
+
+    private Mono<Void> syncChunk(List<String> keys, List<Long> counts) {
+        List<String> redisKeys = keys.stream().map(key -> REDIS_KEY_PREFIX + key).toList();
+        List<String> args = new ArrayList<>(counts.size() + 2);
+        args.add(String.valueOf(config.getReplenishRate()));
+        args.add(String.valueOf(config.getBurstCapacity()));
+        counts.forEach(count -> args.add(String.valueOf(count)));
+
+        return redisTemplate.execute(script, redisKeys, args)
+                .reduce(new ArrayList<Long>(), (all, part) -> {
+                    all.addAll(part);
+                    return all;
+                })
+                .doOnNext(remaining -> applyRemote(keys, remaining))
+                .then()
+                .onErrorResume(e -> {
+                    remoteErrors.increment();
+                    logger.warn("⚠️ Rate Limiter Redis 동기화 실패, 로컬 한도만 적용: {}", e.getMessage());
+                    return Mono.empty();
+                });
+    }
+
+    private void applyRemote(List<String> keys, List<Long> remaining) {
+        long now = System.nanoTime();
+        for (int i = 0; i < keys.size() && i < remaining.size(); i++) {
+            long tokens = remaining.get(i);
+            if (tokens < 1) {
+                // 토큰 1개가 다시 찰 때까지 차단
+                long waitNanos = (1 - tokens) * NANOS_PER_SECOND / config.getReplenishRate();
+                blockedUntil.put(keys.get(i), now + waitNanos);
+            } else {
+                blockedUntil.remove(keys.get(i));
+            }
+        }
+    }
+
+    @Override
+    public void afterPropertiesSet() {
+        syncLoop = Flux.interval(syncInterval)
+                .onBackpressureDrop()
+                .concatMap(tick -> syncRemote(), 1)
+                .subscribe();
+    }
+
+    @Override
+    public void destroy() {
+        if (syncLoop != null) {
+            syncLoop.dispose();
+        }
+        // 종료 전 남은 허용 수를 반영
+        syncRemote().block(Duration.ofSeconds(2));
+    }
+
+    public static class Config {
+        private int replenishRate;
+        private int burstCapacity;
+
+        public int getReplenishRate() {
+            return replenishRate;
+        }
+
+        public Config setReplenishRate(int replenishRate) {
+            this.replenishRate = replenishRate;
+            return this;
+        }
+
+        public int getBurstCapacity() {
+            return burstCapacity;
+        }
+
+        public Config setBurstCapacity(int burstCapacity) {
+            this.burstCapacity = burstCapacity;
+            return this;
+        }
+    }
+}
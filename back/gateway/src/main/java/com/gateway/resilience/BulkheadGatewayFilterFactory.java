@@ -0,0 +1,55 @@
+package com.gateway.resilience;
+
+import io.github.resilience4j.bulkhead.Bulkhead;
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.github.resilience4j.reactor.bulkhead.operator.BulkheadOperator;
+import org.springframework.cloud.gateway.filter.GatewayFilter;
+import org.springframework.cloud.gateway.filter.factory.AbstractGatewayFilterFactory;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * 라우트별 동시 호출 수 제한 필터 (resilience4j 세마포어 Bulkhead)
+ * – 설정: resilience4j.bulkhead.instances.{name}.max-concurrent-calls
+ * – 한도를 넘으면 대기 없이 BulkheadFullException으로 즉시 거절
+ * – CircuitBreaker 필터 뒤에 두면 거절된 요청도 fallbackUri로 응답
+ *   (서킷 실패율에는 포함하지 않도록 ignore-exceptions에 BulkheadFullException 등록)
+ *
+ * 리액티브 서킷 브레이커 팩토리는 Bulkhead를 적용하지 않으므로 별도 필터로 둔다.
+ */
+@Component
+public class BulkheadGatewayFilterFactory extends AbstractGatewayFilterFactory<BulkheadGatewayFilterFactory.Config> {
+
+    private final BulkheadRegistry bulkheadRegistry;
+
+    public BulkheadGatewayFilterFactory(BulkheadRegistry bulkheadRegistry) {
+        super(Config.class);
+        this.bulkheadRegistry = bulkheadRegistry;
+    }
+
+    @Override
+    public List<String> shortcutFieldOrder() {
+        return List.of("name");
+    }
+
+    @Override
+    public GatewayFilter apply(Config config) {
+        Bulkhead bulkhead = bulkheadRegistry.bulkhead(config.getName());
+        return (exchange, chain) -> chain.filter(exchange)
+                .transformDeferred(BulkheadOperator.of(bulkhead));
+    }
+
+    public static class Config {
+        private String name;
+
+        public String getName() {
+            return name;
+        }
+
+        public Config setName(String name) {
+            this.name = name;
+            return this;
+        }
+    }
+}
@@ -0,0 +1,49 @@
+package com.gateway.resilience;
+
+import io.github.resilience4j.bulkhead.BulkheadFullException;
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.server.ServerWebExchange;
+
+import java.util.Map;
+import java.util.concurrent.TimeoutException;
+
+import static org.springframework.cloud.gateway.support.ServerWebExchangeUtils.CIRCUITBREAKER_EXECUTION_EXCEPTION_ATTR;
+
+/**
+ * CircuitBreaker 필터의 fallbackUri (forward:/fallback/{service})
+ * – 업스트림을 기다리지 않고 바로 503 + Retry-After로 응답
+ * – reason: CIRCUIT_OPEN / BULKHEAD_FULL / TIMEOUT / UPSTREAM_ERROR
+ */
+@RestController
+@RequestMapping("/fallback")
+public class FallbackController {
+
+    private static final String RETRY_AFTER_SECONDS = "1";
+
+    @RequestMapping("/{service}")
+    public ResponseEntity<Map<String, Object>> fallback(@PathVariable String service, ServerWebExchange exchange) {
+        Throwable cause = exchange.getAttribute(CIRCUITBREAKER_EXECUTION_EXCEPTION_ATTR);
+        Map<String, Object> body = Map.of(
+                "status", HttpStatus.SERVICE_UNAVAILABLE.value(),
+                "service", service,
+                "reason", reason(cause),
+                "message", "일시적으로 요청을 처리할 수 없습니다. 잠시 후 다시 시도해 주세요."
+        );
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, RETRY_AFTER_SECONDS)
+                .body(body);
+    }
+
+    private static String reason(Throwable cause) {
+        if (cause instanceof CallNotPermittedException) return "CIRCUIT_OPEN";
+        if (cause instanceof BulkheadFullException) return "BULKHEAD_FULL";
+        if (cause instanceof TimeoutException) return "TIMEOUT";
+        return "UPSTREAM_ERROR";
+    }
+}
@@ -0,0 +1,26 @@
+-- 2단계 Rate Limiter의 클러스터 전체 토큰 버킷 일괄 갱신
+-- KEYS[i]    : 버킷 키
+-- ARGV[1]    : 초당 보충 토큰 수
+-- ARGV[2]    : 버킷 최대 크기
+-- ARGV[i + 2]: KEYS[i]에서 마지막 동기화 이후 소비한 토큰 수
+-- 반환        : 키별 남은 토큰 수 (음수면 그만큼 빚, 최대 버킷 크기만큼만 누적)
+local rate = tonumber(ARGV[1])
+local capacity = tonumber(ARGV[2])
+local time = redis.call('TIME')
+local now = tonumber(time[1]) + tonumber(time[2]) / 1000000
+local ttl = math.ceil(capacity / rate * 2)
+
+local result = {}
+for i, key in ipairs(KEYS) do
+    local state = redis.call('HMGET', key, 'tokens', 'ts')
+    local tokens = tonumber(state[1]) or capacity
+    local ts = tonumber(state[2]) or now
+
+    tokens = math.min(capacity, tokens + math.max(0, now - ts) * rate)
+    tokens = math.max(-capacity, tokens - tonumber(ARGV[i + 2]))
+
+    redis.call('HSET', key, 'tokens', tokens, 'ts', now)
+    redis.call('EXPIRE', key, ttl)
+    result[i] = math.floor(tokens)
+end
+return result
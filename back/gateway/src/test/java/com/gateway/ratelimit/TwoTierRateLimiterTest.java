@@ -0,0 +1,139 @@
+package com.gateway.ratelimit;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.ReactiveStringRedisTemplate;
+import redis.embedded.RedisServer;
+
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TwoTierRateLimiterTest {
+
+    private static RedisServer redisServer;
+    private static LettuceConnectionFactory connectionFactory;
+
+    private MeterRegistry meterRegistry;
+
+    @BeforeAll
+    static void startRedis() throws IOException {
+        int port = freePort();
+        redisServer = new RedisServer(port);
+        redisServer.start();
+        connectionFactory = connectionFactory(port);
+    }
+
+    @AfterAll
+    static void stopRedis() throws IOException {
+        connectionFactory.destroy();
+        redisServer.stop();
+    }
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        new ReactiveStringRedisTemplate(connectionFactory).execute(connection -> connection.serverCommands().flushAll())
+                .blockLast();
+    }
+
+    @Test
+    void 로컬_한도를_넘으면_Redis_조회_없이_거절한다() {
+        TwoTierRateLimiter limiter = limiter(connectionFactory, 1, 3);
+
+        for (int i = 0; i < 3; i++) {
+            assertThat(allowed(limiter, "user-a")).isTrue();
+        }
+        assertThat(allowed(limiter, "user-a")).isFalse();
+        assertThat(allowed(limiter, "user-b")).isTrue();
+
+        assertThat(decisions("local", "rejected")).isEqualTo(1);
+        assertThat(redisKeyCount()).isZero(); // 동기화 전에는 Redis에 아무것도 쓰지 않음
+    }
+
+    @Test
+    void 여러_인스턴스의_소비량을_합쳐_클러스터_한도를_적용한다() {
+        TwoTierRateLimiter gatewayA = limiter(connectionFactory, 1, 5);
+        TwoTierRateLimiter gatewayB = limiter(connectionFactory, 1, 5);
+
+        // 각 인스턴스는 로컬 한도 안에서 3번씩 허용 -> 클러스터 전체로는 6번 (한도 5 초과)
+        for (int i = 0; i < 3; i++) {
+            assertThat(allowed(gatewayA, "user-a")).isTrue();
+            assertThat(allowed(gatewayB, "user-a")).isTrue();
+        }
+        gatewayA.syncRemote().block();
+        gatewayB.syncRemote().block();
+
+        // B는 동기화 결과로 토큰이 바닥난 것을 알고 로컬 토큰이 남아 있어도 거절
+        assertThat(allowed(gatewayB, "user-a")).isFalse();
+        assertThat(decisions("remote", "rejected")).isEqualTo(1);
+
+        // A도 다음 동기화에서 클러스터 기준 초과를 확인하면 거절
+        assertThat(allowed(gatewayA, "user-a")).isTrue();
+        gatewayA.syncRemote().block();
+        assertThat(allowed(gatewayA, "user-a")).isFalse();
+        assertThat(redisKeyCount()).isEqualTo(1);
+    }
+
+    @Test
+    void Redis에_연결할_수_없으면_로컬_한도만_적용한다() throws IOException {
+        LettuceConnectionFactory unreachable = connectionFactory(freePort());
+        try {
+            TwoTierRateLimiter limiter = limiter(unreachable, 1, 2);
+
+            assertThat(allowed(limiter, "user-a")).isTrue();
+            limiter.syncRemote().block(Duration.ofSeconds(10));
+
+            assertThat(meterRegistry.get("gateway.ratelimit.remote.errors").counter().count()).isEqualTo(1);
+            assertThat(allowed(limiter, "user-a")).isTrue();
+            assertThat(allowed(limiter, "user-a")).isFalse();
+        } finally {
+            unreachable.destroy();
+        }
+    }
+
+    private TwoTierRateLimiter limiter(LettuceConnectionFactory factory, int replenishRate, int burstCapacity) {
+        TwoTierRateLimiter.Config config = new TwoTierRateLimiter.Config()
+                .setReplenishRate(replenishRate)
+                .setBurstCapacity(burstCapacity);
+        return new TwoTierRateLimiter(config, 1000, Duration.ofSeconds(1),
+                new ReactiveStringRedisTemplate(factory), meterRegistry);
+    }
+
+    private boolean allowed(TwoTierRateLimiter limiter, String id) {
+        return limiter.isAllowed("rag-route", id).block().isAllowed();
+    }
+
+    private double decisions(String tier, String result) {
+        return meterRegistry.get("gateway.ratelimit.decisions")
+                .tag("tier", tier)
+                .tag("result", result)
+                .counter()
+                .count();
+    }
+
+    private long redisKeyCount() {
+        return new ReactiveStringRedisTemplate(connectionFactory).execute(connection -> connection.serverCommands().dbSize())
+                .blockFirst();
+    }
+
+    private static LettuceConnectionFactory connectionFactory(int port) {
+        LettuceConnectionFactory factory = new LettuceConnectionFactory("localhost", port);
+        factory.afterPropertiesSet();
+        factory.start();
+        return factory;
+    }
+
+    private static int freePort() throws IOException {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            return socket.getLocalPort();
+        }
+    }
+}
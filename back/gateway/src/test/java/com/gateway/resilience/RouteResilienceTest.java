@@ -0,0 +1,144 @@
+package com.gateway.resilience;
+
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.http.HttpStatus;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.netty.DisposableServer;
+import reactor.netty.http.server.HttpServer;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 느린 로컬 업스트림을 /search 라우트에 연결해서
+ * 타임아웃·Bulkhead·서킷 오픈 시 설정한 시간 안에 fallback으로 응답하는지 확인
+ */
+@SpringBootTest(
+        webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+        properties = {
+                "jwt.secret=resilience-test-secret-key-resilience-test-secret-key",
+                "resilience4j.timelimiter.instances.searchCircuitBreaker.timeout-duration=500ms",
+                "resilience4j.bulkhead.instances.searchBulkhead.max-concurrent-calls=2",
+                "resilience4j.circuitbreaker.instances.searchCircuitBreaker.sliding-window-size=5",
+                "resilience4j.circuitbreaker.instances.searchCircuitBreaker.minimum-number-of-calls=5",
+                "resilience4j.circuitbreaker.instances.searchCircuitBreaker.wait-duration-in-open-state=1m"
+        })
+class RouteResilienceTest {
+
+    private static final Duration SLOW_UPSTREAM = Duration.ofSeconds(3);
+    private static final Duration TIMEOUT_BUDGET = Duration.ofMillis(500);
+    // 타임아웃 budget + 포워딩/스케줄링 여유
+    private static final Duration SHED_LIMIT = TIMEOUT_BUDGET.plusMillis(700);
+
+    private static final DisposableServer upstream = HttpServer.create()
+            .port(0)
+            .route(routes -> routes
+                    .get("/search/fast", (request, response) -> response.sendString(Mono.just("ok")))
+                    .get("/search/slow", (request, response) -> response.sendString(
+                            Mono.delay(SLOW_UPSTREAM).thenReturn("late"))))
+            .bindNow();
+
+    @DynamicPropertySource
+    static void upstreamUri(DynamicPropertyRegistry registry) {
+        registry.add("SEARCH_SERVICE_URI", () -> "http://localhost:" + upstream.port());
+    }
+
+    @AfterAll
+    static void stopUpstream() {
+        upstream.disposeNow();
+    }
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private CircuitBreakerRegistry circuitBreakerRegistry;
+
+    private WebClient client;
+
+    @BeforeEach
+    void setUp() {
+        circuitBreakerRegistry.circuitBreaker("searchCircuitBreaker").reset();
+        client = WebClient.builder()
+                .baseUrl("http://localhost:" + port)
+                .defaultHeader("X-Bypass-Auth", "adminadmin")
+                .build();
+    }
+
+    @Test
+    void 정상_업스트림은_그대로_프록시한다() {
+        Result result = call("/search/fast").block();
+
+        assertThat(result.status()).isEqualTo(HttpStatus.OK.value());
+    }
+
+    @Test
+    void 느린_업스트림은_타임아웃_budget_안에_fallback으로_응답한다() {
+        Result result = call("/search/slow").block();
+
+        assertThat(result.status()).isEqualTo(HttpStatus.SERVICE_UNAVAILABLE.value());
+        assertThat(result.body()).containsEntry("reason", "TIMEOUT");
+        assertThat(result.elapsed()).isGreaterThanOrEqualTo(TIMEOUT_BUDGET).isLessThan(SHED_LIMIT);
+    }
+
+    @Test
+    void 동시_호출_한도를_넘는_요청은_바로_거절한다() {
+        List<Result> results = Flux.range(0, 6)
+                .flatMap(i -> call("/search/slow"))
+                .collectList()
+                .block();
+
+        List<Result> shed = results.stream()
+                .filter(r -> "BULKHEAD_FULL".equals(r.body().get("reason")))
+                .toList();
+        assertThat(shed).hasSize(4);
+        assertThat(shed).allSatisfy(r -> {
+            assertThat(r.status()).isEqualTo(HttpStatus.SERVICE_UNAVAILABLE.value());
+            assertThat(r.elapsed()).isLessThan(TIMEOUT_BUDGET);
+        });
+        assertThat(results).filteredOn(r -> "TIMEOUT".equals(r.body().get("reason"))).hasSize(2);
+    }
+
+    @Test
+    void 실패가_쌓이면_서킷이_열려_업스트림을_호출하지_않는다() {
+        // Bulkhead 거절은 실패율에 포함되지 않으므로 순차 호출
+        Flux.range(0, 5).concatMap(i -> call("/search/slow")).blockLast();
+
+        Result result = call("/search/fast").block();
+
+        assertThat(result.body()).containsEntry("reason", "CIRCUIT_OPEN");
+        assertThat(result.elapsed()).isLessThan(TIMEOUT_BUDGET);
+    }
+
+    private Mono<Result> call(String path) {
+        return Mono.defer(() -> {
+            long start = System.nanoTime();
+            return client.get().uri(path)
+                    .exchangeToMono(response -> {
+                        Mono<Map<String, Object>> body = response.statusCode().is2xxSuccessful()
+                                ? response.bodyToMono(String.class).map(text -> Map.<String, Object>of("body", text))
+                                : response.bodyToMono(new ParameterizedTypeReference<Map<String, Object>>() {});
+                        return body.defaultIfEmpty(Map.of())
+                                .map(map -> new Result(response.statusCode().value(), map,
+                                        Duration.ofNanos(System.nanoTime() - start)));
+                    });
+        });
+    }
+
+    private record Result(int status, Map<String, Object> body, Duration elapsed) {
+    }
+}
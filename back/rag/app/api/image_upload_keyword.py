@@ -11,6 +11,7 @@ import psycopg2
 from openai import OpenAI
 from dotenv import load_dotenv
 from datetime import datetime
+from typing import Awaitable, Callable, Optional
 import traceback
 import time
 import logging
@@ -59,6 +60,22 @@ async def async_save_text_to_pinecone(user_id, combined_text, namespace):
     )
 
 
+def find_existing_image(cursor, user_id, access_id, content_hash=None):
+    """같은 access_id 또는 같은 content_hash(압축본 SHA-256)로 이미 등록된 이미지의 access_id, 없으면 None"""
+    if content_hash:
+        cursor.execute(
+            "SELECT access_id FROM images WHERE user_id = %s AND (access_id = %s OR content_hash = %s) LIMIT 1;",
+            (user_id, access_id, content_hash),
+        )
+    else:
+        cursor.execute(
+            "SELECT access_id FROM images WHERE user_id = %s AND access_id = %s;",
+            (user_id, access_id),
+        )
+    row = cursor.fetchone()
+    return row[0] if row else None
+
+
 @router.post("/upload-image-keyword/")
 async def upload_image_keyword(
     user_id: str = Form(...),
@@ -67,7 +84,26 @@ async def upload_image_keyword(
     latitude: str = Form(...),
     longitude: str = Form(...),
     file: UploadFile = File(...),
+    content_hash: Optional[str] = Form(None),  # 압축본 SHA-256 (구버전 앱은 없음)
 ):
+    return await process_image_upload(
+        user_id, access_id, image_time, latitude, longitude, file.read, content_hash
+    )
+
+
+async def process_image_upload(
+    user_id: str,
+    access_id: str,
+    image_time: str,
+    latitude: str,
+    longitude: str,
+    read_image: Callable[[], Awaitable[bytes]],
+    content_hash: Optional[str] = None,
+):
+    """이미지 한 건 처리: 중복 체크 → 캡션/OCR → 벡터 저장/키워드 → DB 저장
+    - read_image: 이미지 바이트를 돌려주는 async 함수 (중복이면 호출하지 않음)
+    - 한 번에 올린 파일(upload-image-keyword)과 이어 올리기 세션(image_upload_resumable)이 함께 사용
+    """
     total_start_time = time.time()
 
     try:
@@ -82,18 +118,17 @@ async def upload_image_keyword(
         cursor = connection.cursor()
         logger.info(f"✅ DB 연결 완료: {time.time() - db_connect_start:.3f}초")
 
-        # access_id 중복 체크
+        # access_id / content_hash 중복 체크
         duplicate_check_start = time.time()
-        check_query = "SELECT id FROM images WHERE user_id = %s AND access_id = %s;"
-        cursor.execute(check_query, (user_id, access_id))
-
-        existing = cursor.fetchone()
+        existing = find_existing_image(cursor, user_id, access_id, content_hash)
         logger.info(f"✅ 중복 체크 완료: {time.time() - duplicate_check_start:.3f}초")
 
         if existing:
             cursor.close()
             connection.close()
-            logger.info(f"⚠️ 이미 존재하는 이미지 - access_id: {access_id}")
+            logger.info(
+                f"⚠️ 이미 존재하는 이미지 - access_id: {access_id} (등록된 access_id: {existing})"
+            )
             return {
                 "user_id": user_id,
                 "access_id": access_id,
@@ -103,7 +138,7 @@ async def upload_image_keyword(
 
         # 이미지 읽기
         file_read_start = time.time()
-        image_bytes = await file.read()
+        image_bytes = await read_image()
         logger.info(
             f"✅ 이미지 파일 읽기 완료: {time.time() - file_read_start:.3f}초, 크기: {len(image_bytes)} bytes"
         )
@@ -159,13 +194,16 @@ async def upload_image_keyword(
 
         # 이미지 정보 INSERT
         insert_image_query = """
-        INSERT INTO images (user_id, access_id, caption, image_time)
-        VALUES (%s, %s, %s, %s)
-        ON CONFLICT (user_id, access_id) DO UPDATE SET caption = EXCLUDED.caption
+        INSERT INTO images (user_id, access_id, caption, image_time, content_hash)
+        VALUES (%s, %s, %s, %s, %s)
+        ON CONFLICT (user_id, access_id) DO UPDATE SET caption = EXCLUDED.caption,
+            content_hash = COALESCE(EXCLUDED.content_hash, images.content_hash)
         RETURNING id;
         """
 
-        cursor.execute(insert_image_query, (user_id, access_id, caption, now))
+        cursor.execute(
+            insert_image_query, (user_id, access_id, caption, now, content_hash)
+        )
         image_id = access_id
 
         # 클립보드 정보 추출
@@ -0,0 +1,267 @@
+"""이미지 이어 올리기(resumable) 업로드 API
+- 앱이 압축본을 조각(chunk) 단위로 보내면 서버가 저장까지 끝낸 바이트 수(offset)를 응답
+- 연결이 끊기면 앱은 세션 조회로 offset 을 받아 그 지점부터 다시 보냄 (처음부터 다시 올리지 않음)
+- upload_id 는 (user_id, access_id, content_hash) 로 정해지므로 앱이 재시작돼도 같은 세션을 이어감
+- 다 받으면 /complete 에서 SHA-256 을 확인하고 upload-image-keyword 와 같은 처리를 수행
+"""
+
+from fastapi import APIRouter, Form, Header, HTTPException, Request
+from fastapi.responses import JSONResponse
+from app.api.image_upload_keyword import (
+    DB_PARAMS,
+    find_existing_image,
+    process_image_upload,
+)
+import asyncio
+import hashlib
+import json
+import logging
+import os
+import re
+import tempfile
+import time
+import psycopg2
+
+logger = logging.getLogger(__name__)
+router = APIRouter()
+
+# 세션 파일 위치 (컨테이너 재시작 시 사라져도 앱이 처음부터 다시 올리면 됨)
+SESSION_DIR = os.getenv(
+    "UPLOAD_SESSION_DIR", os.path.join(tempfile.gettempdir(), "rag_upload_sessions")
+)
+SESSION_TTL_SECONDS = 24 * 60 * 60  # 마지막 조각 이후 하루 지나면 삭제
+MAX_TOTAL_SIZE = 20 * 1024 * 1024
+MAX_CHUNK_SIZE = 1024 * 1024
+
+UPLOAD_ID_PATTERN = re.compile(r"^[0-9a-f]{32}$")
+
+# 같은 세션에 대한 동시 요청을 직렬화 (uvicorn 단일 프로세스 기준)
+_session_locks = {}
+
+
+def _lock_for(upload_id):
+    return _session_locks.setdefault(upload_id, asyncio.Lock())
+
+
+def _data_path(upload_id):
+    return os.path.join(SESSION_DIR, f"{upload_id}.part")
+
+
+def _meta_path(upload_id):
+    return os.path.join(SESSION_DIR, f"{upload_id}.json")
+
+
+def _load_meta(upload_id):
+    if not UPLOAD_ID_PATTERN.match(upload_id):
+        raise HTTPException(status_code=404, detail="존재하지 않는 업로드 세션입니다.")
+    try:
+        with open(_meta_path(upload_id), encoding="utf-8") as f:
+            return json.load(f)
+    except FileNotFoundError:
+        raise HTTPException(status_code=404, detail="존재하지 않는 업로드 세션입니다.")
+
+
+def _current_offset(upload_id):
+    try:
+        return os.path.getsize(_data_path(upload_id))
+    except FileNotFoundError:
+        return 0
+
+
+def _session_body(upload_id, meta, offset):
+    return {
+        "upload_id": upload_id,
+        "offset": offset,
+        "total_size": meta["total_size"],
+    }
+
+
+def _delete_session(upload_id):
+    for path in (_data_path(upload_id), _meta_path(upload_id)):
+        try:
+            os.remove(path)
+        except FileNotFoundError:
+            pass
+    _session_locks.pop(upload_id, None)
+
+
+def _purge_expired_sessions():
+    """TTL 이 지난 세션 정리 (세션 생성 때마다 한 번)"""
+    now = time.time()
+    for name in os.listdir(SESSION_DIR):
+        if not name.endswith(".json"):
+            continue
+        upload_id = name[: -len(".json")]
+        data = _data_path(upload_id)
+        last_touched = os.path.getmtime(data if os.path.exists(data) else _meta_path(upload_id))
+        if now - last_touched > SESSION_TTL_SECONDS:
+            logger.info(f"🧹 만료된 업로드 세션 삭제 - upload_id: {upload_id}")
+            _delete_session(upload_id)
+
+
+def _append_chunk(upload_id, chunk):
+    # 응답(offset) 전에 디스크에 내려 둬야 앱이 받은 offset 을 믿고 다음 조각을 보낼 수 있음
+    with open(_data_path(upload_id), "ab") as f:
+        f.write(chunk)
+        f.flush()
+        os.fsync(f.fileno())
+
+
+def _read_file(path):
+    with open(path, "rb") as f:
+        return f.read()
+
+
+@router.post("/upload-image-keyword/check")
+async def check_image_exists(
+    user_id: str = Form(...),
+    access_id: str = Form(...),
+    content_hash: str = Form(...),
+):
+    """업로드 전 중복 확인: 같은 access_id 나 같은 압축본(content_hash)이 이미 있으면 exists=True"""
+    connection = psycopg2.connect(**DB_PARAMS)
+    try:
+        cursor = connection.cursor()
+        existing = find_existing_image(cursor, user_id, access_id, content_hash)
+        cursor.close()
+    finally:
+        connection.close()
+
+    if existing:
+        logger.info(
+            f"⚠️ 업로드 전 중복 확인 - access_id: {access_id} (등록된 access_id: {existing})"
+        )
+    return {"exists": existing is not None, "access_id": existing}
+
+
+@router.post("/upload-image-keyword/sessions")
+async def create_upload_session(
+    user_id: str = Form(...),
+    access_id: str = Form(...),
+    image_time: str = Form(...),
+    latitude: str = Form(...),
+    longitude: str = Form(...),
+    content_hash: str = Form(...),
+    total_size: int = Form(...),
+):
+    """세션 생성 (이미 있으면 지금까지 받은 offset 을 그대로 돌려줌)"""
+    if total_size <= 0 or total_size > MAX_TOTAL_SIZE:
+        raise HTTPException(status_code=413, detail="허용 크기를 벗어난 파일입니다.")
+
+    os.makedirs(SESSION_DIR, exist_ok=True)
+    _purge_expired_sessions()
+
+    upload_id = hashlib.sha256(
+        f"{user_id}:{access_id}:{content_hash}".encode("utf-8")
+    ).hexdigest()[:32]
+
+    async with _lock_for(upload_id):
+        if os.path.exists(_meta_path(upload_id)):
+            meta = _load_meta(upload_id)
+            offset = _current_offset(upload_id)
+            logger.info(
+                f"🔁 업로드 세션 이어가기 - upload_id: {upload_id}, offset: {offset}/{meta['total_size']}"
+            )
+            return _session_body(upload_id, meta, offset)
+
+        meta = {
+            "user_id": user_id,
+            "access_id": access_id,
+            "image_time": image_time,
+            "latitude": latitude,
+            "longitude": longitude,
+            "content_hash": content_hash,
+            "total_size": total_size,
+        }
+        open(_data_path(upload_id), "wb").close()
+        with open(_meta_path(upload_id), "w", encoding="utf-8") as f:
+            json.dump(meta, f)
+
+    logger.info(
+        f"🆕 업로드 세션 생성 - upload_id: {upload_id}, access_id: {access_id}, 크기: {total_size} bytes"
+    )
+    return _session_body(upload_id, meta, 0)
+
+
+@router.get("/upload-image-keyword/sessions/{upload_id}")
+async def get_upload_session(upload_id: str):
+    """지금까지 저장된 offset 조회 (연결이 끊긴 뒤 어디서부터 보낼지 확인)"""
+    meta = _load_meta(upload_id)
+    return _session_body(upload_id, meta, _current_offset(upload_id))
+
+
+@router.put("/upload-image-keyword/sessions/{upload_id}")
+async def put_upload_chunk(
+    upload_id: str,
+    request: Request,
+    upload_offset: int = Header(..., alias="Upload-Offset"),
+):
+    """offset 위치에 조각 하나를 이어 붙임
+    - offset 이 서버 기록과 다르면 409 + 서버 offset (앱은 그 지점부터 다시 보냄)
+    - 본문을 끝까지 받은 경우에만 기록하므로 offset 은 항상 조각 경계
+    """
+    meta = _load_meta(upload_id)
+    chunk = await request.body()
+    if len(chunk) > MAX_CHUNK_SIZE:
+        raise HTTPException(status_code=413, detail="조각 크기가 너무 큽니다.")
+
+    async with _lock_for(upload_id):
+        current = _current_offset(upload_id)
+        if upload_offset != current:
+            logger.info(
+                f"↩️ offset 불일치 - upload_id: {upload_id}, 요청: {upload_offset}, 서버: {current}"
+            )
+            return JSONResponse(
+                status_code=409, content=_session_body(upload_id, meta, current)
+            )
+        if current + len(chunk) > meta["total_size"]:
+            raise HTTPException(status_code=400, detail="전체 크기를 넘는 조각입니다.")
+
+        await asyncio.to_thread(_append_chunk, upload_id, chunk)
+        return _session_body(upload_id, meta, current + len(chunk))
+
+
+@router.post("/upload-image-keyword/sessions/{upload_id}/complete")
+async def complete_upload_session(upload_id: str):
+    """다 받은 파일의 SHA-256 확인 후 upload-image-keyword 와 같은 처리
+    - 처리 중 오류면 세션을 남겨 두어 앱이 다시 보내지 않고 complete 만 재시도
+    """
+    meta = _load_meta(upload_id)
+
+    async with _lock_for(upload_id):
+        offset = _current_offset(upload_id)
+        if offset != meta["total_size"]:
+            return JSONResponse(
+                status_code=409, content=_session_body(upload_id, meta, offset)
+            )
+
+        image_bytes = await asyncio.to_thread(_read_file, _data_path(upload_id))
+        if hashlib.sha256(image_bytes).hexdigest() != meta["content_hash"]:
+            logger.warning(f"❌ content_hash 불일치 - upload_id: {upload_id}, 세션 삭제")
+            _delete_session(upload_id)
+            return JSONResponse(
+                status_code=422,
+                content={
+                    "user_id": meta["user_id"],
+                    "access_id": meta["access_id"],
+                    "status": "error",
+                    "message": "content_hash 가 일치하지 않습니다.",
+                },
+            )
+
+        async def read_image():
+            return image_bytes
+
+        result = await process_image_upload(
+            meta["user_id"],
+            meta["access_id"],
+            meta["image_time"],
+            meta["latitude"],
+            meta["longitude"],
+            read_image,
+            meta["content_hash"],
+        )
+
+        if result.get("status") != "error":
+            _delete_session(upload_id)
+        return result
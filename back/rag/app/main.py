@@ -13,6 +13,7 @@ from app.api.search_image_info import router as search_image_info_router
 from app.api.test_image_upload import router as test_image_upload_router
 from app.api.db_connection_test import router as db_connection_test_router
 from app.api.image_upload_keyword import router as image_upload_keyword_router
+from app.api.image_upload_resumable import router as image_upload_resumable_router
 import logging
 
 app = FastAPI()
@@ -39,6 +40,7 @@ app.include_router(search_image_info_router, prefix="/rag")
 app.include_router(test_image_upload_router, prefix="/test")
 app.include_router(db_connection_test_router, prefix="/rag")
 app.include_router(image_upload_keyword_router, prefix="/rag")
+app.include_router(image_upload_resumable_router, prefix="/rag")
 
 if __name__ == "__main__":
     import uvicorn
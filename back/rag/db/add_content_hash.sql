@@ -0,0 +1,6 @@
+-- 이미 운영 중인 DB 에 content_hash 컬럼 추가 (init.sql 은 테이블을 새로 만들 때만 사용)
+-- 업로드 전 중복 확인(/rag/upload-image-keyword/check)과 이어 올리기 세션 완료 시 사용
+ALTER TABLE images ADD COLUMN IF NOT EXISTS content_hash TEXT;
+
+CREATE INDEX IF NOT EXISTS idx_images_user_hash
+    ON images(user_id, content_hash) WHERE content_hash IS NOT NULL;
@@ -11,6 +11,7 @@ CREATE TABLE images (
     access_id TEXT NOT NULL,
     caption TEXT,
     image_time TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
+    content_hash TEXT,  -- 앱이 올린 압축본 SHA-256 (업로드 전 중복 확인용)
     UNIQUE(user_id, access_id)  -- ✅ 복합 유니크 제약
 );
 
@@ -36,3 +37,4 @@ CREATE TABLE clipboard_items (
 
 -- 인덱스 생성 (검색 최적화용)
 CREATE INDEX idx_keyword ON image_keywords(keyword);
+CREATE INDEX idx_images_user_hash ON images(user_id, content_hash) WHERE content_hash IS NOT NULL;
@@ -0,0 +1,6 @@
+-- backend(postgres-sched) 알림 스케줄러 처리 위치 저장용 테이블
+-- 스케줄러가 마지막으로 처리한 시각을 기록해 재시작 후에도 놓친 알림을 이어서 보냄
+CREATE TABLE IF NOT EXISTS alarm_dispatch_state (
+    name          VARCHAR(50) PRIMARY KEY,
+    last_fired_at TIMESTAMP   NOT NULL
+);
@@ -0,0 +1,70 @@
+-- backend(postgres-sched) 조회 성능용 인덱스
+-- 테이블은 JPA 엔티티 기준으로 생성되어 있다고 가정 (ddl-auto: none)
+-- 운영 중 적용 시 잠금을 피하기 위해 CONCURRENTLY 사용 (트랜잭션 블록 밖에서 한 문장씩 실행해야 함)
+
+-- 일괄 존재 여부 확인 / 중복 업로드 방지: WHERE user_id = ? AND access_id = ANY(?)
+-- 유니크: 일괄 저장이 INSERT ... ON CONFLICT (user_id, access_id) DO NOTHING 에 사용
+-- 예전 비유니크 인덱스(idx_image_user_access)와 이름이 겹치지 않게 새 이름으로 만들고, 만든 뒤 예전 인덱스는 제거
+-- 1) 이미 쌓인 중복 행 정리: (user_id, access_id) 별로 일정(plan)이 참조하는 행, 없으면 가장 먼저 저장된 행만 남기고
+--    info_count 도 지운 만큼 차감 (일정이 참조하는 중복 행은 지우지 않음)
+WITH dup AS (
+    DELETE FROM image i
+    USING (
+        SELECT im.image_id,
+               row_number() OVER (
+                   PARTITION BY im.user_id, im.access_id
+                   ORDER BY EXISTS (SELECT 1 FROM plan p WHERE p.image_id = im.image_id) DESC, im.image_id
+               ) AS rn
+        FROM image im
+    ) d
+    WHERE i.image_id = d.image_id AND d.rn > 1
+      AND NOT EXISTS (SELECT 1 FROM plan p WHERE p.image_id = i.image_id)
+    RETURNING i.user_id
+)
+UPDATE "user" u
+SET info_count = GREATEST(u.info_count - c.cnt, 0)
+FROM (SELECT user_id, count(*) AS cnt FROM dup GROUP BY user_id) c
+WHERE u.user_id = c.user_id;
+
+-- 2) 유니크 인덱스 생성 (중복이 남아 있어 실패하면 INVALID 인덱스가 남으므로 DROP 후 다시 실행)
+CREATE UNIQUE INDEX CONCURRENTLY IF NOT EXISTS uq_image_user_access
+    ON image (user_id, access_id);
+
+-- 3) 같은 컬럼의 예전 비유니크 인덱스 제거
+DROP INDEX CONCURRENTLY IF EXISTS idx_image_user_access;
+
+-- 키셋(커서) 페이지네이션: WHERE user_id = ? AND (time, id) < (?, ?) ORDER BY time DESC, id DESC
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_image_user_star_time
+    ON image (user_id, star, image_time DESC, image_id DESC);
+
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_plan_user_time
+    ON plan (user_id, plan_time DESC, plan_id DESC);
+
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_chat_user_time
+    ON chat (user_id, chat_time DESC, chat_id DESC);
+
+-- 알림 스케줄러: WHERE alarm_tf = true AND plan_time > ? AND plan_time <= ?
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_plan_alarm_time
+    ON plan (plan_time) WHERE alarm_tf = true;
+
+-- 이미지 설명(image.content) 검색: 전문 검색 + trigram
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
+
+-- 'simple' 사전: 형태소 분석 없이 공백/문장부호 기준으로만 토큰화 (한국어 설명문에 언어별 stemming 이 의미 없음)
+-- 조사가 붙은 어절("영수증을")은 애플리케이션에서 접두어 검색('영수증':*)으로 맞춤
+ALTER TABLE image
+    ADD COLUMN IF NOT EXISTS content_tsv tsvector
+    GENERATED ALWAYS AS (to_tsvector('simple', coalesce(content, ''))) STORED;
+
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_image_content_tsv
+    ON image USING gin (content_tsv);
+
+-- 어절 중간에 걸친 검색어("카페영수증" 안의 "영수증")용 trigram 인덱스 (ILIKE '%...%')
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_image_content_trgm
+    ON image USING gin (content gin_trgm_ops);
+
+-- 검색어 없이 기간만 주는 경우 + 키셋 정렬용
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_image_user_time
+    ON image (user_id, image_time DESC, image_id DESC);
+
+ANALYZE image;
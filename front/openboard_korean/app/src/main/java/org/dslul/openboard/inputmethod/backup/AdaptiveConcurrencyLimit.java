@@ -0,0 +1,59 @@
+package org.dslul.openboard.inputmethod.backup;
+
+/**
+ * 관측된 응답 지연으로 동시 업로드 수를 조절하는 리미터 (AIMD)
+ * - 성공 응답의 지연이 최소 RTT × TOLERANCE 이내면 limit 을 1/limit 씩 증가 (limit 만큼 성공하면 +1)
+ * - 그보다 느리거나 실패하면 limit 을 BACKOFF_RATIO 배로 감소 → 서버/망이 밀리기 시작하면 바로 물러남
+ * - 최소 RTT 는 서버 처리 시간 변화를 따라가도록 RTT_RESET_SAMPLES 건마다 다시 측정
+ */
+final class AdaptiveConcurrencyLimit {
+    private static final double TOLERANCE = 2.0;
+    private static final double BACKOFF_RATIO = 0.7;
+    private static final int RTT_RESET_SAMPLES = 200;
+
+    private final int minLimit;
+    private final int maxLimit;
+
+    private double limit;
+    private int inFlight;
+    private long minRttNanos = Long.MAX_VALUE;
+    private int samples;
+
+    AdaptiveConcurrencyLimit(int initialLimit, int minLimit, int maxLimit) {
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.limit = initialLimit;
+    }
+
+    /** 동시 실행 수가 limit 미만이 될 때까지 대기 */
+    synchronized void acquire() throws InterruptedException {
+        while (inFlight >= (int) limit) {
+            wait();
+        }
+        inFlight++;
+    }
+
+    /** 요청 하나가 끝났을 때 지연/성공 여부를 반영하고 슬롯 반환 */
+    synchronized void release(long rttNanos, boolean success) {
+        inFlight--;
+
+        if (++samples >= RTT_RESET_SAMPLES) {
+            samples = 0;
+            minRttNanos = Long.MAX_VALUE;
+        }
+        if (success) {
+            minRttNanos = Math.min(minRttNanos, rttNanos);
+        }
+
+        if (success && rttNanos <= minRttNanos * TOLERANCE) {
+            limit = Math.min(maxLimit, limit + 1.0 / limit);
+        } else {
+            limit = Math.max(minLimit, limit * BACKOFF_RATIO);
+        }
+        notifyAll();
+    }
+
+    synchronized int getLimit() {
+        return (int) limit;
+    }
+}
@@ -19,10 +19,6 @@ import java.util.Comparator;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
-import java.util.concurrent.Executors;
-import java.util.concurrent.ScheduledExecutorService;
-import java.util.concurrent.TimeUnit;
-import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.IntConsumer;
 
 /**
@@ -30,19 +26,31 @@ import java.util.function.IntConsumer;
  */
 public class BackupManager {
     private static final String TAG = "Backup - BackupManager";
-    private static final int REQUEST_INTERVAL_MS = 1;
-
-    // ★ 백그라운드 스케줄러: CPU 코어 수 기반 스레드풀
-    private static final ScheduledExecutorService scheduler =
-            Executors.newScheduledThreadPool(Runtime.getRuntime().availableProcessors());
 
     private static volatile boolean isBackupRunning = false;
+    private static volatile UploadPipeline currentPipeline;
+    // 파이프라인이 만들어지기 전에 들어온 pauseBackup 도 반영하기 위해 상태를 따로 보관
+    private static volatile boolean pauseRequested = false;
+    // MediaStore IN (...) 조회 한 번에 넣는 _ID 수 (SQLite 바인드 변수 한도 999 이하)
+    private static final int MAX_IDS_PER_QUERY = 500;
+
+    /**
+     * 전체 백업 흐름 실행 함수 (MediaStore 전체 스캔)
+     */
+    public static void startBackup(
+            Context context,
+            IntConsumer onUploadStart,
+            FullBackupWorker.ProgressListener progressListener,
+            Runnable onComplete) {
+        startBackup(context, false, onUploadStart, progressListener, onComplete);
+    }
 
     /**
-     * 전체 백업 흐름 실행 함수
+     * @param incremental true 면 마지막 스캔 이후 추가된 사진만 조회
      */
     public static void startBackup(
             Context context,
+            boolean incremental,
             IntConsumer onUploadStart,
             FullBackupWorker.ProgressListener progressListener,
             Runnable onComplete) {
@@ -50,6 +58,7 @@ public class BackupManager {
         // 0.실행 중이면 중복 방지
         if (isBackupRunning) {
             Log.d(TAG, "백업이 이미 실행 중입니다. 중복 실행 방지됨.");
+            onComplete.run();
             return;
         }
         isBackupRunning = true;
@@ -58,6 +67,7 @@ public class BackupManager {
         if (!hasReadPermission(context)) {
             Log.w(TAG, "저장소 권한이 없습니다. 백업을 건너뜁니다.");
             isBackupRunning = false;
+            onComplete.run();
             return;
         }
 
@@ -66,68 +76,85 @@ public class BackupManager {
         if (!auth.isLoggedIn()) {
             Log.w(TAG, "로그인 필요 → 백업 취소");
             isBackupRunning = false;
+            onComplete.run();
             return;
         }
         String userId = auth.getUserId();
 
-        // 3. 이미지 불러오기
-        List<GalleryImage> allImages = MediaStoreImageFetcher.getAllImages(context);
-        Log.d(TAG, "전체 불러온 이미지 수: " + allImages.size());
-
-        // 4. 필터링 : 서버 통신
-        filterImages(
-                context,
-                allImages,
-                userId,
-                onUploadStart,
-                progressListener,
-                onComplete
-        );
-    }
+        // 3. 이미지 불러오기 + 필터링: Cursor 를 한 행씩 읽으며 업로드 완료로 기록되지 않은 것만 남김
+        MediaScanWatermark after = incremental ? MediaScanWatermark.load(context) : null;
+        List<GalleryImage> toUpload;
+        try (MediaStoreImageFetcher.ImageCursor images = MediaStoreImageFetcher.query(context, after)) {
+            toUpload = UploadStateTracker.filterNotBackedUp(context, images);
+            Log.d(TAG, "스캔한 이미지 수: " + images.getCount() + " (기준점: " + after + "), 업로드 대상: " + toUpload.size());
 
-    private static void filterImages(
-            Context context,
-            List<GalleryImage> allImages,
-            String userId,
-            IntConsumer onUploadStart,
-            FullBackupWorker.ProgressListener progressListener,
-            Runnable onComplete
-    ) {
+            // 증분: 기준점 이전이라 스캔에 안 잡히는, 이전 실행이 끝내지 못한(pending / failed) 항목도 함께 올림
+            if (incremental) {
+                addUnfinished(context, toUpload);
+            }
 
-        if (allImages.isEmpty()) {
-            Log.i(TAG, "업로드할 이미지 없음");
+            // 4. 대상을 pending 으로 기록한 뒤 기준점 이동 (이후 실패분은 상태 DB 에 남아 다음 증분 백업에서 다시 시도)
+            UploadStateTracker.markPending(context, toUpload);
+            images.watermark().save(context);
+        } catch (RuntimeException e) {
+            Log.e(TAG, "이미지 스캔 실패", e);
             isBackupRunning = false;
+            onComplete.run();
             return;
         }
 
-        // 0) 이미 백업된 ID 집합 불러오기
-        Set<String> cachedIds = UploadStateTracker.getBackedUpContentIds(context);
-        if (cachedIds == null) {
-            cachedIds = new HashSet<>();
+        if (toUpload.isEmpty()) {
+            Log.i(TAG, "✅ 모든 이미지가 이미 백업됨, 검증 생략");
         }
 
-        // 1) 서버에 체크할 대상만 분리
-        List<GalleryImage> toCheck = new ArrayList<>();
-        for (GalleryImage img : allImages) {
-            if (!cachedIds.contains(img.getContentId())) {
-                toCheck.add(img);
+        // 5. 업로드 단계로 넘기기
+        onFilteringDone(context,
+                toUpload,
+                onUploadStart, progressListener, onComplete);
+    }
+
+    /**
+     * 상태 DB 에 업로드 완료가 아닌 행(부분 인덱스 조회)을 MediaStore 에서 다시 읽어 대상에 추가
+     * - MediaStore 에서 사라진 사진의 행은 지움
+     */
+    private static void addUnfinished(Context context, List<GalleryImage> toUpload) {
+        Set<String> scanned = new HashSet<>();
+        for (GalleryImage image : toUpload) {
+            scanned.add(image.getContentId());
+        }
+        List<Long> unfinished = new ArrayList<>();
+        for (Long id : UploadStateTracker.findNotUploadedIds(context)) {
+            if (!scanned.contains(String.valueOf(id))) {
+                unfinished.add(id);
             }
         }
+        if (unfinished.isEmpty()) return;
 
-        // 2) 검증 대상이 없으면 곧바로 완료
-        if (toCheck.isEmpty()) {
-            Log.i(TAG, "✅ 모든 이미지가 이미 백업됨, 검증 생략");
-            onFilteringDone(context,
-                    Collections.emptyList(),
-                    onUploadStart, progressListener, onComplete);
-            isBackupRunning = false;
-            return;
+        Set<Long> found = new HashSet<>();
+        for (int from = 0; from < unfinished.size(); from += MAX_IDS_PER_QUERY) {
+            List<Long> chunk = unfinished.subList(from, Math.min(from + MAX_IDS_PER_QUERY, unfinished.size()));
+            try (MediaStoreImageFetcher.ImageCursor images = MediaStoreImageFetcher.queryByIds(context, chunk)) {
+                if (images.failed()) {
+                    // 조회 실패를 삭제로 오인해 행을 지우지 않도록 정리는 건너뜀
+                    Log.w(TAG, "이전 실행에서 남은 항목 조회 실패");
+                    return;
+                }
+                while (images.hasNext()) {
+                    GalleryImage image = images.next();
+                    found.add(Long.parseLong(image.getContentId()));
+                    toUpload.add(image);
+                }
+            }
         }
 
-        // 3) toCheck 리스트를 그대로 업로드 단계로 넘기기
-        onFilteringDone(context,
-                toCheck,
-                onUploadStart, progressListener, onComplete);
+        List<Long> missing = new ArrayList<>();
+        for (Long id : unfinished) {
+            if (!found.contains(id)) {
+                missing.add(id);
+            }
+        }
+        UploadStateTracker.forgetNotUploaded(context, missing);
+        Log.d(TAG, "이전 실행에서 남은 항목: " + found.size() + " (삭제된 사진 " + missing.size() + "건 정리)");
     }
 
     /**
@@ -167,7 +194,7 @@ public class BackupManager {
     }
 
     /**
-     * 실제 업로드만 담당
+     * 실제 업로드만 담당 (인코딩 → 네트워크 → 상태 저장 파이프라인)
      */
     private static void uploadImages(
             Context context,
@@ -175,35 +202,73 @@ public class BackupManager {
             FullBackupWorker.ProgressListener progressListener,
             Runnable onComplete) {
 
-        AtomicInteger doneCnt = new AtomicInteger(0);
         long startMs = System.currentTimeMillis();
-        Set<String> doneIds = Collections.synchronizedSet(new HashSet<>());
-
-        int total = imagesToUpload.size();
-        for (int i = 0; i < total; i++) {
-            GalleryImage img = imagesToUpload.get(i);
-            scheduler.schedule(() -> {
-                ImageUploader.uploadImages(
-                        context,
-                        Collections.singletonList(img),
-                        AuthManager.getInstance(context).getUserId(),
-                        doneIds::add,
-                        (fn, err) -> Log.e(TAG, "업로드 실패: " + fn, err),
-                        () -> {
-                            long d = doneCnt.incrementAndGet();
-                            progressListener.onProgress(d);
-                            if (d == total) {
-                                Log.i(TAG, "🏁 전체 업로드 완료 (" + (System.currentTimeMillis() - startMs) + "ms)");
-                                UploadStateTracker.addBackedUpContentIds(context, doneIds);
-                                onComplete.run();
-                                isBackupRunning = false;
-                            }
-                        }
-                );
-            }, i * REQUEST_INTERVAL_MS, TimeUnit.MILLISECONDS);
+        UploadPipeline pipeline = new UploadPipeline(
+                context,
+                AuthManager.getInstance(context).getUserId(),
+                imagesToUpload,
+                new UploadPipeline.Listener() {
+                    @Override
+                    public void onProgress(long done) {
+                        progressListener.onProgress(done);
+                    }
+
+                    @Override
+                    public void onFinished(int uploaded, int failed, boolean stopped) {
+                        Log.i(TAG, "🏁 전체 업로드 완료 (" + (System.currentTimeMillis() - startMs) + "ms)");
+                        currentPipeline = null;
+                        isBackupRunning = false;
+                        onComplete.run();
+                    }
+                });
+        currentPipeline = pipeline;
+        if (pauseRequested) {
+            pipeline.pause();
+        }
+        pipeline.start();
+    }
+
+    /**
+     * 진행 중인 업로드의 새 인코딩을 멈춤 (진행 중인 요청은 마저 처리)
+     * - 워커가 네트워크 끊김(BackupNetworkMonitor)에 호출, 아직 업로드 단계 전이면 시작할 때 반영
+     */
+    public static synchronized void pauseBackup() {
+        if (pauseRequested) return;
+        pauseRequested = true;
+        UploadPipeline pipeline = currentPipeline;
+        if (pipeline != null) {
+            pipeline.pause();
+        }
+    }
+
+    public static synchronized void resumeBackup() {
+        if (!pauseRequested) return;
+        pauseRequested = false;
+        UploadPipeline pipeline = currentPipeline;
+        if (pipeline != null) {
+            pipeline.resume();
+        }
+    }
+
+    /**
+     * 남은 업로드를 버리고 진행 중인 요청만 끝낸 뒤 종료 (워커가 중지될 때 호출)
+     * - 완료된 항목은 이미 기록되어 있으므로 다음 실행에서 이어서 진행됨
+     */
+    public static void stopBackup() {
+        UploadPipeline pipeline = currentPipeline;
+        if (pipeline != null) {
+            pipeline.stop();
         }
     }
 
+    /**
+     * 업로드 압축 형식을 WebP 로 (기본 JPEG). 같은 화질에서 전송량이 줄어듦
+     * - 형식이 바뀌면 압축본 해시도 바뀌므로, 이미 올린 사진은 access_id 로만 중복 확인됨
+     */
+    public static void setWebpUploadEnabled(Context context, boolean enabled) {
+        ImageEncoder.setWebpEnabled(context, enabled);
+    }
+
     private static boolean hasReadPermission(Context context) {
         String permission = Build.VERSION.SDK_INT >= 33
                 ? Manifest.permission.READ_MEDIA_IMAGES
@@ -0,0 +1,70 @@
+package org.dslul.openboard.inputmethod.backup;
+
+import android.content.Context;
+import android.net.ConnectivityManager;
+import android.net.Network;
+import android.util.Log;
+
+import androidx.annotation.NonNull;
+
+/**
+ * 백업 워커가 실행되는 동안 기본 네트워크를 지켜보며 업로드를 멈추고 재개
+ * - 연결이 끊기면 BackupManager.pauseBackup() → 새 인코딩을 멈춤 (끊긴 채로 인코딩하면 전부 실패해 스풀로만 쌓임)
+ * - 다시 연결되면 BackupManager.resumeBackup()
+ * - 워커 doWork 동안만 등록하고 close() 에서 해제 (해제할 때 일시정지 상태도 풀어 다음 실행에 남기지 않음)
+ */
+final class BackupNetworkMonitor extends ConnectivityManager.NetworkCallback implements AutoCloseable {
+    private static final String TAG = "Backup - NetworkMonitor";
+
+    private final ConnectivityManager connectivity;
+    private boolean registered;
+
+    private BackupNetworkMonitor(ConnectivityManager connectivity) {
+        this.connectivity = connectivity;
+    }
+
+    static BackupNetworkMonitor register(Context context) {
+        ConnectivityManager cm = context.getSystemService(ConnectivityManager.class);
+        BackupNetworkMonitor monitor = new BackupNetworkMonitor(cm);
+        if (cm == null) return monitor;
+
+        // 등록 시점에 연결이 있으면 onAvailable 이 바로 불리고, 없으면 아무 콜백도 오지 않으므로 직접 확인
+        if (cm.getActiveNetwork() == null) {
+            Log.i(TAG, "📵 네트워크 없음 → 연결될 때까지 업로드 대기");
+            BackupManager.pauseBackup();
+        }
+        try {
+            cm.registerDefaultNetworkCallback(monitor);
+            monitor.registered = true;
+        } catch (RuntimeException e) {
+            // 앱 전체 콜백 개수 제한(TooManyRequestsException) 등: 감시 없이 그대로 진행
+            Log.w(TAG, "네트워크 콜백 등록 실패", e);
+            BackupManager.resumeBackup();
+        }
+        return monitor;
+    }
+
+    @Override
+    public void onAvailable(@NonNull Network network) {
+        BackupManager.resumeBackup();
+    }
+
+    @Override
+    public void onLost(@NonNull Network network) {
+        Log.i(TAG, "📵 네트워크 끊김 → 업로드 일시정지");
+        BackupManager.pauseBackup();
+    }
+
+    @Override
+    public void close() {
+        if (registered) {
+            registered = false;
+            try {
+                connectivity.unregisterNetworkCallback(this);
+            } catch (RuntimeException e) {
+                Log.w(TAG, "네트워크 콜백 해제 실패", e);
+            }
+        }
+        BackupManager.resumeBackup();
+    }
+}
@@ -0,0 +1,76 @@
+package org.dslul.openboard.inputmethod.backup;
+
+import android.content.Context;
+import android.database.sqlite.SQLiteDatabase;
+import android.database.sqlite.SQLiteOpenHelper;
+
+/**
+ * 백업 상태 DB (MediaStore _ID 별 업로드 상태)
+ * - content_id 가 INTEGER PRIMARY KEY(rowid) 라 조회/갱신이 B-tree 한 번 (O(log N))
+ * - 업로드 완료 행이 대부분이므로 pending/failed 조회용 인덱스는 완료가 아닌 행만 담는 부분 인덱스
+ * - content_hash: 업로드한 압축본의 SHA-256, 같은 내용의 다른 사진을 업로드 전에 걸러내는 로컬 캐시 (버전 2)
+ */
+final class BackupStateDbHelper extends SQLiteOpenHelper {
+    private static final String DB_NAME = "backup_state.db";
+    private static final int DB_VERSION = 2;
+
+    static final String TABLE = "upload_state";
+    static final String COL_CONTENT_ID = "content_id";
+    static final String COL_STATE = "state";
+    static final String COL_ATTEMPTS = "attempts";
+    static final String COL_LAST_ERROR = "last_error";
+    static final String COL_UPDATED_AT = "updated_at";
+    static final String COL_CONTENT_HASH = "content_hash";
+
+    // state 값
+    static final int STATE_PENDING = 0;
+    static final int STATE_UPLOADED = 1;
+    static final int STATE_FAILED = 2;
+
+    private static volatile BackupStateDbHelper instance;
+
+    static BackupStateDbHelper getInstance(Context context) {
+        if (instance == null) {
+            synchronized (BackupStateDbHelper.class) {
+                if (instance == null) {
+                    instance = new BackupStateDbHelper(context.getApplicationContext());
+                }
+            }
+        }
+        return instance;
+    }
+
+    private BackupStateDbHelper(Context context) {
+        super(context, DB_NAME, null, DB_VERSION);
+        // 업로드 완료 기록(쓰기)과 필터링(읽기)이 동시에 일어나므로 WAL
+        setWriteAheadLoggingEnabled(true);
+    }
+
+    @Override
+    public void onCreate(SQLiteDatabase db) {
+        db.execSQL("CREATE TABLE " + TABLE + " ("
+                + COL_CONTENT_ID + " INTEGER PRIMARY KEY, "
+                + COL_STATE + " INTEGER NOT NULL, "
+                + COL_ATTEMPTS + " INTEGER NOT NULL DEFAULT 0, "
+                + COL_LAST_ERROR + " TEXT, "
+                + COL_UPDATED_AT + " INTEGER NOT NULL, "
+                + COL_CONTENT_HASH + " TEXT)");
+        db.execSQL("CREATE INDEX idx_upload_state_not_uploaded ON " + TABLE
+                + " (" + COL_STATE + ") WHERE " + COL_STATE + " != " + STATE_UPLOADED);
+        createContentHashIndex(db);
+    }
+
+    @Override
+    public void onUpgrade(SQLiteDatabase db, int oldVersion, int newVersion) {
+        if (oldVersion < 2) {
+            db.execSQL("ALTER TABLE " + TABLE + " ADD COLUMN " + COL_CONTENT_HASH + " TEXT");
+            createContentHashIndex(db);
+        }
+    }
+
+    // 해시가 있는 행(버전 2 이후 업로드분)만 담는 부분 인덱스
+    private static void createContentHashIndex(SQLiteDatabase db) {
+        db.execSQL("CREATE INDEX idx_upload_state_hash ON " + TABLE
+                + " (" + COL_CONTENT_HASH + ") WHERE " + COL_CONTENT_HASH + " IS NOT NULL");
+    }
+}
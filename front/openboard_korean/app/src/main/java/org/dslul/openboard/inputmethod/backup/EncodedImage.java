@@ -0,0 +1,95 @@
+package org.dslul.openboard.inputmethod.backup;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import okhttp3.MediaType;
+import okhttp3.RequestBody;
+import okio.BufferedSink;
+
+/**
+ * 압축된 업로드 이미지 한 건 (ImageEncoder 재사용 버퍼 + MIME + SHA-256)
+ * - requestBody()/chunk() 는 버퍼를 복사하지 않고 OkHttp sink 에 바로 씀 (재시도 때 다시 써도 같은 바이트)
+ * - content_hash 는 압축본 바이트의 SHA-256 → 업로드 전 중복 확인과 이어 올리기 세션 키로 사용
+ * - 다 쓰면 release() 로 버퍼 반납 (여러 번 불러도 한 번만 반납)
+ */
+final class EncodedImage {
+    private final ImageEncoder.PooledBuffer buffer;
+    private final String mimeType;
+    private final MediaType mediaType;
+    private final String contentHash;
+    private final AtomicBoolean released = new AtomicBoolean();
+
+    EncodedImage(ImageEncoder.PooledBuffer buffer, String mimeType) {
+        this.buffer = buffer;
+        this.mimeType = mimeType;
+        this.mediaType = MediaType.parse(mimeType);
+        this.contentHash = sha256Hex(buffer.array(), buffer.size());
+    }
+
+    int length() {
+        return buffer.size();
+    }
+
+    String getMimeType() {
+        return mimeType;
+    }
+
+    String getContentHash() {
+        return contentHash;
+    }
+
+    /** 전체 압축본 본문 */
+    RequestBody requestBody() {
+        return chunk(0, length());
+    }
+
+    /** [offset, offset + length) 구간만 쓰는 본문 (이어 올리기 조각) */
+    RequestBody chunk(long offset, int length) {
+        return new RequestBody() {
+            @Override
+            public MediaType contentType() {
+                return mediaType;
+            }
+
+            @Override
+            public long contentLength() {
+                return length;
+            }
+
+            @Override
+            public void writeTo(BufferedSink sink) throws IOException {
+                sink.write(buffer.array(), (int) offset, length);
+            }
+        };
+    }
+
+    /** 스풀 파일 저장용 */
+    void writeTo(OutputStream out) throws IOException {
+        out.write(buffer.array(), 0, length());
+    }
+
+    void release() {
+        if (released.compareAndSet(false, true)) {
+            ImageEncoder.releaseBuffer(buffer);
+        }
+    }
+
+    private static String sha256Hex(byte[] data, int length) {
+        MessageDigest digest;
+        try {
+            digest = MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+        digest.update(data, 0, length);
+        StringBuilder hex = new StringBuilder(64);
+        for (byte b : digest.digest()) {
+            hex.append(Character.forDigit((b >> 4) & 0xF, 16)).append(Character.forDigit(b & 0xF, 16));
+        }
+        return hex.toString();
+    }
+}
@@ -58,6 +58,8 @@ public class FullBackupWorker extends Worker {
         AtomicInteger totalHolder = new AtomicInteger();
         final NotificationCompat.Builder[] builder = new NotificationCompat.Builder[1];
 
+        BackupNetworkMonitor networkMonitor = BackupNetworkMonitor.register(ctx);
+
         // 필터링 완료 후 총 개수 → 알림 띄우기
         BackupManager.startBackup(ctx,
                 total -> {
@@ -98,13 +100,25 @@ public class FullBackupWorker extends Worker {
                 }
         );
 
-        // 필터→업로드 전 과정을 동기 대기
+        // 필터→업로드 전 과정을 동기 대기 (그동안 네트워크가 끊기면 일시정지, 다시 연결되면 재개)
         try {
             latch.await();
         } catch (InterruptedException e) {
             Log.e(TAG, "인터럽트", e);
             Thread.currentThread().interrupt();
             return Result.failure();
+        } finally {
+            networkMonitor.close();
+        }
+
+        // 제약 조건 해제/취소로 중지된 경우: 완료분은 기록되어 있으므로 다음 실행에서 이어서 업로드
+        if (isStopped()) {
+            return Result.retry();
+        }
+
+        // 업로드 대상이 없었으면 남길 알림도 없음
+        if (builder[0] == null) {
+            return Result.success();
         }
 
         // ──────────────── ③ 일반 알림으로 최종 메시지 남기기 ────────────────
@@ -128,6 +142,12 @@ public class FullBackupWorker extends Worker {
         return Result.success();
     }
 
+    @Override
+    public void onStopped() {
+        // 새 인코딩을 멈추고 진행 중인 요청만 끝낸 뒤 latch 해제
+        BackupManager.stopBackup();
+    }
+
     private void createChannel(Context ctx) {
         if (Build.VERSION.SDK_INT < Build.VERSION_CODES.O) return;
         NotificationManager nm = ctx.getSystemService(NotificationManager.class);
@@ -0,0 +1,294 @@
+package org.dslul.openboard.inputmethod.backup;
+
+import android.content.Context;
+import android.graphics.Bitmap;
+import android.graphics.BitmapFactory;
+import android.graphics.Matrix;
+import android.net.Uri;
+import android.os.Build;
+import android.util.Log;
+
+import androidx.exifinterface.media.ExifInterface;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayDeque;
+import java.util.Iterator;
+
+/**
+ * 업로드용 이미지 인코더 (가로 TARGET_WIDTH 이하로 샘플링 → JPEG 또는 WebP 압축)
+ * - 압축본은 임시 파일이 아닌 재사용 버퍼(EncodedImage)에 담고, RequestBody 가 그 버퍼를 OkHttp sink 에 바로 씀
+ *   → 사진마다 있던 cacheDir 쓰기/읽기가 없어짐
+ * - 디코딩은 BitmapFactory inBitmap 으로 풀의 비트맵 메모리를 재사용 (하드웨어 비트맵은 inBitmap 재사용이 안 됨)
+ * - BitmapFactory 는 EXIF 방향을 적용하지 않으므로 TAG_ORIENTATION 을 읽어 압축 전에 직접 회전/반전
+ *   (압축본에는 EXIF 가 남지 않아 서버에서 세로 사진이 눕혀져 보임)
+ * - 버퍼/비트맵 풀은 파이프라인 window 크기 안쪽으로만 유지하고 백업이 끝나면 trimPools() 로 비움
+ */
+final class ImageEncoder {
+    private static final String TAG = "Backup - ImageEncoder";
+    private static final String PREF_NAME = "backup_settings";
+    private static final String KEY_WEBP = "upload_webp";
+
+    private static final int TARGET_WIDTH = 720;
+    private static final int MAX_POOLED_BITMAPS = 3;                     // 인코딩 스레드 수 + 1
+    private static final int MAX_POOLED_BUFFERS = 10;                    // UploadPipeline window (MAX_NETWORK + ENCODE_AHEAD)
+    private static final int INITIAL_BUFFER_BYTES = 256 * 1024;
+    private static final int MAX_POOLED_BUFFER_BYTES = 2 * 1024 * 1024; // 이보다 커진 버퍼는 풀에 넣지 않음
+
+    enum Format {
+        JPEG("image/jpeg", "jpg", 90),
+        WEBP("image/webp", "webp", 80);     // 같은 화질에서 JPEG 보다 25~35% 작음
+
+        final String mimeType;
+        final String extension;
+        final int quality;
+
+        Format(String mimeType, String extension, int quality) {
+            this.mimeType = mimeType;
+            this.extension = extension;
+            this.quality = quality;
+        }
+
+        @SuppressWarnings("deprecation")
+        Bitmap.CompressFormat compressFormat() {
+            if (this == JPEG) return Bitmap.CompressFormat.JPEG;
+            // API 30 미만의 WEBP 는 quality < 100 이면 손실 압축
+            return Build.VERSION.SDK_INT >= Build.VERSION_CODES.R
+                    ? Bitmap.CompressFormat.WEBP_LOSSY
+                    : Bitmap.CompressFormat.WEBP;
+        }
+    }
+
+    // 재사용 버퍼 (ByteArrayOutputStream 의 내부 배열을 복사 없이 꺼내 쓰기 위함)
+    static final class PooledBuffer extends ByteArrayOutputStream {
+        PooledBuffer(int size) {
+            super(size);
+        }
+
+        byte[] array() {
+            return buf;
+        }
+    }
+
+    private static final ArrayDeque<Bitmap> bitmapPool = new ArrayDeque<>();
+    private static final ArrayDeque<PooledBuffer> bufferPool = new ArrayDeque<>();
+
+    private ImageEncoder() {
+    }
+
+    static Format getFormat(Context context) {
+        return context.getSharedPreferences(PREF_NAME, Context.MODE_PRIVATE).getBoolean(KEY_WEBP, false)
+                ? Format.WEBP : Format.JPEG;
+    }
+
+    static void setWebpEnabled(Context context, boolean enabled) {
+        context.getSharedPreferences(PREF_NAME, Context.MODE_PRIVATE).edit()
+                .putBoolean(KEY_WEBP, enabled).apply();
+    }
+
+    /**
+     * 원본을 샘플링 디코딩한 뒤 EXIF 방향대로 돌려 format 으로 압축, 재사용 버퍼에 담아 반환 (다 쓰면 EncodedImage.release())
+     */
+    static EncodedImage encode(Context context, Uri uri, Format format) throws IOException {
+        // 1) 원본 크기, 방향 확인
+        BitmapFactory.Options bounds = new BitmapFactory.Options();
+        bounds.inJustDecodeBounds = true;
+        decodeStream(context, uri, bounds);
+        if (bounds.outWidth <= 0 || bounds.outHeight <= 0) {
+            throw new IOException("이미지 크기를 읽지 못함: " + uri);
+        }
+        int orientation = readOrientation(context, uri);
+
+        // 2) 샘플링 크기 계산 (90/270도 회전이면 돌린 뒤의 가로 = 원본 세로 기준)
+        int orientedWidth = isTransposed(orientation) ? bounds.outHeight : bounds.outWidth;
+        int scale = 1;
+        while ((orientedWidth / scale) > TARGET_WIDTH) {
+            scale *= 2;
+        }
+        int width = (bounds.outWidth + scale - 1) / scale;
+        int height = (bounds.outHeight + scale - 1) / scale;
+
+        // 3) 디코딩 → 방향 적용 → 압축
+        Bitmap bitmap = decode(context, uri, scale, width * height * 4);
+        Matrix matrix = orientationMatrix(orientation);
+        if (matrix != null) {
+            bitmap = applyOrientation(bitmap, matrix);
+        }
+        PooledBuffer out = obtainBuffer();
+        try {
+            if (!bitmap.compress(format.compressFormat(), format.quality, out)) {
+                throw new IOException("압축 실패: " + uri);
+            }
+        } catch (IOException | RuntimeException e) {
+            releaseBuffer(out);
+            throw e;
+        } finally {
+            releaseBitmap(bitmap);
+        }
+        return new EncodedImage(out, format.mimeType);
+    }
+
+    private static Bitmap decode(Context context, Uri uri, int sampleSize, int requiredBytes) throws IOException {
+        BitmapFactory.Options opts = new BitmapFactory.Options();
+        opts.inSampleSize = sampleSize;
+        opts.inPreferredConfig = Bitmap.Config.ARGB_8888;
+        opts.inMutable = true; // inBitmap 으로 다시 쓰려면 mutable 이어야 함
+
+        Bitmap reusable = takeBitmap(requiredBytes);
+        opts.inBitmap = reusable;
+        try {
+            Bitmap bitmap = decodeStream(context, uri, opts);
+            if (bitmap == null) throw new IOException("디코딩 실패: " + uri);
+            return bitmap; // inBitmap 을 썼으면 reusable 과 같은 객체
+        } catch (IllegalArgumentException e) {
+            if (reusable == null) throw e;
+            Log.w(TAG, "inBitmap 재사용 불가, 새로 할당: " + e.getMessage());
+        } catch (IOException e) {
+            releaseBitmap(reusable);
+            throw e;
+        }
+
+        releaseBitmap(reusable);
+        opts.inBitmap = null;
+        Bitmap bitmap = decodeStream(context, uri, opts);
+        if (bitmap == null) throw new IOException("디코딩 실패: " + uri);
+        return bitmap;
+    }
+
+    /** EXIF TAG_ORIENTATION, 없거나 읽지 못하면 ORIENTATION_NORMAL */
+    private static int readOrientation(Context context, Uri uri) {
+        try (InputStream is = context.getContentResolver().openInputStream(uri)) {
+            if (is == null) return ExifInterface.ORIENTATION_NORMAL;
+            return new ExifInterface(is).getAttributeInt(
+                    ExifInterface.TAG_ORIENTATION, ExifInterface.ORIENTATION_NORMAL);
+        } catch (IOException | RuntimeException e) {
+            Log.w(TAG, "EXIF 방향을 읽지 못함, 그대로 사용: " + uri + " - " + e);
+            return ExifInterface.ORIENTATION_NORMAL;
+        }
+    }
+
+    // 90/270도 회전이 섞여 가로/세로가 바뀌는 방향
+    private static boolean isTransposed(int orientation) {
+        return orientation == ExifInterface.ORIENTATION_TRANSPOSE
+                || orientation == ExifInterface.ORIENTATION_ROTATE_90
+                || orientation == ExifInterface.ORIENTATION_TRANSVERSE
+                || orientation == ExifInterface.ORIENTATION_ROTATE_270;
+    }
+
+    /** 방향을 바로잡는 변환, 정방향이면 null */
+    private static Matrix orientationMatrix(int orientation) {
+        Matrix matrix = new Matrix();
+        switch (orientation) {
+            case ExifInterface.ORIENTATION_FLIP_HORIZONTAL:
+                matrix.setScale(-1, 1);
+                break;
+            case ExifInterface.ORIENTATION_ROTATE_180:
+                matrix.setRotate(180);
+                break;
+            case ExifInterface.ORIENTATION_FLIP_VERTICAL:
+                matrix.setRotate(180);
+                matrix.postScale(-1, 1);
+                break;
+            case ExifInterface.ORIENTATION_TRANSPOSE:
+                matrix.setRotate(90);
+                matrix.postScale(-1, 1);
+                break;
+            case ExifInterface.ORIENTATION_ROTATE_90:
+                matrix.setRotate(90);
+                break;
+            case ExifInterface.ORIENTATION_TRANSVERSE:
+                matrix.setRotate(-90);
+                matrix.postScale(-1, 1);
+                break;
+            case ExifInterface.ORIENTATION_ROTATE_270:
+                matrix.setRotate(-90);
+                break;
+            default:
+                return null;
+        }
+        return matrix;
+    }
+
+    // 돌린 비트맵을 새로 만들고 디코딩 비트맵은 풀로 반납
+    private static Bitmap applyOrientation(Bitmap decoded, Matrix orientation) {
+        Bitmap oriented;
+        try {
+            oriented = Bitmap.createBitmap(decoded, 0, 0, decoded.getWidth(), decoded.getHeight(), orientation, true);
+        } catch (RuntimeException | OutOfMemoryError e) {
+            releaseBitmap(decoded);
+            throw e;
+        }
+        if (oriented != decoded) {
+            releaseBitmap(decoded);
+        }
+        return oriented;
+    }
+
+    private static Bitmap decodeStream(Context context, Uri uri, BitmapFactory.Options opts) throws IOException {
+        try (InputStream is = context.getContentResolver().openInputStream(uri)) {
+            if (is == null) throw new IOException("Failed to open InputStream");
+            return BitmapFactory.decodeStream(is, null, opts);
+        }
+    }
+
+    /* ───────── 풀 ───────── */
+
+    private static Bitmap takeBitmap(int requiredBytes) {
+        synchronized (bitmapPool) {
+            Iterator<Bitmap> it = bitmapPool.iterator();
+            while (it.hasNext()) {
+                Bitmap candidate = it.next();
+                if (candidate.getAllocationByteCount() >= requiredBytes) {
+                    it.remove();
+                    return candidate;
+                }
+            }
+        }
+        return null;
+    }
+
+    private static void releaseBitmap(Bitmap bitmap) {
+        if (bitmap == null || bitmap.isRecycled()) return;
+        if (bitmap.isMutable()) {
+            synchronized (bitmapPool) {
+                if (bitmapPool.size() < MAX_POOLED_BITMAPS) {
+                    bitmapPool.add(bitmap);
+                    return;
+                }
+            }
+        }
+        bitmap.recycle();
+    }
+
+    static PooledBuffer obtainBuffer() {
+        synchronized (bufferPool) {
+            PooledBuffer buffer = bufferPool.poll();
+            if (buffer != null) return buffer;
+        }
+        return new PooledBuffer(INITIAL_BUFFER_BYTES);
+    }
+
+    static void releaseBuffer(PooledBuffer buffer) {
+        if (buffer.array().length > MAX_POOLED_BUFFER_BYTES) return;
+        buffer.reset();
+        synchronized (bufferPool) {
+            if (bufferPool.size() < MAX_POOLED_BUFFERS) {
+                bufferPool.add(buffer);
+            }
+        }
+    }
+
+    /** 백업이 끝나면 풀에 남은 비트맵/버퍼를 놓아줌 */
+    static void trimPools() {
+        synchronized (bitmapPool) {
+            for (Bitmap bitmap : bitmapPool) {
+                bitmap.recycle();
+            }
+            bitmapPool.clear();
+        }
+        synchronized (bufferPool) {
+            bufferPool.clear();
+        }
+    }
+}
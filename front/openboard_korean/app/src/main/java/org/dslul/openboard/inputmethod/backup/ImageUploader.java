@@ -1,33 +1,24 @@
 package org.dslul.openboard.inputmethod.backup;
 
 import android.content.Context;
-import android.graphics.Bitmap;
-import android.graphics.BitmapFactory;
-import android.graphics.ImageDecoder;
-import android.net.Uri;
-import android.os.Build;
 import android.util.Log;
 
-import androidx.exifinterface.media.ExifInterface;
-
 import org.dslul.openboard.inputmethod.backup.model.GalleryImage;
 import org.dslul.openboard.inputmethod.backup.model.UploadImageKeywordResponse;
+import org.dslul.openboard.inputmethod.backup.model.UploadPrecheckResponse;
 import org.dslul.openboard.inputmethod.latin.network.ApiClient;
 import org.dslul.openboard.inputmethod.latin.network.ImageUploadApi;
 
-import java.io.File;
-import java.io.FileOutputStream;
 import java.io.IOException;
-import java.io.InputStream;
 import java.text.SimpleDateFormat;
 import java.util.Date;
-import java.util.List;
 import java.util.Locale;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
 import okhttp3.MediaType;
 import okhttp3.MultipartBody;
 import okhttp3.RequestBody;
-import okhttp3.ResponseBody;
 import retrofit2.Call;
 import retrofit2.Callback;
 import retrofit2.Response;
@@ -38,185 +29,150 @@ import retrofit2.Response;
 public class ImageUploader {
     private static final String TAG = "Backup - ImageUploader";
 
-    public static void uploadImages(
-            Context context,
-            List<GalleryImage> images,
-            String userId,
-            SuccessCallback onSuccess,
-            FailureCallback onFailure,
-            CompletionCallback onComplete
-    ) {
+    private static final String ALREADY_REGISTERED = "이미 등록된 이미지입니다.";
+
+    // 이 크기를 넘는 압축본은 조각 단위 이어 올리기 (그 이하는 한 번에 multipart)
+    static final long RESUMABLE_THRESHOLD = 2L * ResumableUploader.CHUNK_SIZE;
+    // ResumableUploader 는 동기 호출이라 전용 스레드에서 실행 (UploadPipeline 의 동시 요청 제한 안쪽)
+    private static final ExecutorService RESUMABLE_EXECUTOR = Executors.newFixedThreadPool(4);
+
+    /**
+     * 압축본 한 건을 비동기로 업로드하고 응답이 오면 callback 호출 (버퍼 반납은 호출한 쪽이 callback 에서)
+     * - 먼저 서버에 같은 이미지(access_id 또는 content_hash)가 있는지 확인하고, 있으면 올리지 않음
+     * - RESUMABLE_THRESHOLD 를 넘는 압축본은 ResumableUploader 로 조각 단위 이어 올리기
+     * - '이미 등록된 이미지입니다.' 응답도 성공으로 취급
+     */
+    static void send(Context context, GalleryImage image, EncodedImage encoded,
+                     String userId, ResultCallback callback) {
         /* ▒▒ 1) 공통 Retrofit 초기화 & 서비스 획득 ▒▒ */
         ApiClient.init(context);                       // 싱글턴 보증
         ImageUploadApi api = ApiClient.getDedicatedImageUploadApi(context);
 
-        int total = images.size();
-        final int[] completedCount = {0};
-
-        for (GalleryImage image : images) {
-            try {
-                // ✅ 이미지 압축 및 바이트 배열 획득
-                File imageFile = compressAndSaveToFile(context, image.getUri());
-                MediaType mediaType = MediaType.parse(image.getMimeType());
-                RequestBody imageBody = RequestBody.create(mediaType, imageFile);
-
-                MultipartBody.Part filePart = MultipartBody.Part.createFormData(
-                        "file",
-                        image.getFilename(),
-                        imageBody
-                );
-
-                String formattedTime = new SimpleDateFormat("yyyy:MM:dd HH:mm:ss", Locale.getDefault())
-                        .format(new Date(image.getTimestamp()));
-
-                RequestBody userIdBody = RequestBody.create(MediaType.parse("text/plain"), userId);
-                RequestBody accessIdBody = RequestBody.create(MediaType.parse("text/plain"), image.getContentId());
-                RequestBody imageTimeBody = RequestBody.create(MediaType.parse("text/plain"), formattedTime);
-
-                // GalleryImage에 담긴 위도/경도 사용
-                RequestBody latBody = RequestBody.create(
-                        MediaType.parse("text/plain"),
-                        String.valueOf(image.getLatitude())
-                );
-                RequestBody lonBody = RequestBody.create(
-                        MediaType.parse("text/plain"),
-                        String.valueOf(image.getLongitude())
-                );
-
-                Call<UploadImageKeywordResponse> call = api.uploadImageWithKeywords(
-                        userIdBody,
-                        accessIdBody,
-                        imageTimeBody,
-                        latBody,
-                        lonBody,
-                        filePart
-                );
-
-                call.enqueue(new Callback<UploadImageKeywordResponse>() {
+        /* ▒▒ 2) 업로드 전 중복 확인 (실패하면 그냥 업로드 → 서버가 다시 중복 체크) ▒▒ */
+        api.checkImageExists(userId, image.getContentId(), encoded.getContentHash())
+                .enqueue(new Callback<UploadPrecheckResponse>() {
                     @Override
-                    public void onResponse(Call<UploadImageKeywordResponse> call,
-                                           Response<UploadImageKeywordResponse> resp) {
-                        if (resp.isSuccessful() && resp.body() != null) {
-                            UploadImageKeywordResponse body = resp.body();
-                            String msg = body.getMessage();
-
-                            // ① 메시지 없으면 정상 업로드
-                            if (msg == null) {
-                                onSuccess.onSuccess(image.getContentId());
-                                Log.i(TAG, "업로드 성공: " + image.getFilename());
-
-                                // ② '이미 등록된 이미지입니다.' 스킵
-                            } else if ("이미 등록된 이미지입니다.".equals(msg)) {
-                                onSuccess.onSuccess(image.getContentId());
-                                Log.i(TAG, "스킵(이미 등록): " + image.getFilename());
-
-                                // ③ 그 외 오류는 실패 처리(세트에 추가하지 않음)
-                            } else {
-                                onFailure.onFailure(image.getFilename(), new Exception(msg));
-                                Log.w(TAG, "처리 오류: " + msg);
-                            }
-
-                        } else {
-                            // HTTP 에러
-                            onFailure.onFailure(image.getFilename(),
-                                    new Exception("HTTP " + resp.code()));
-                            Log.w(TAG, "⚠ HTTP 오류: " + resp.code());
-                        }
-
-                        imageFile.delete();
-                        if (++completedCount[0] == total && onComplete != null) {
-                            onComplete.onComplete();
+                    public void onResponse(Call<UploadPrecheckResponse> call,
+                                           Response<UploadPrecheckResponse> resp) {
+                        if (resp.isSuccessful() && resp.body() != null && resp.body().exists()) {
+                            Log.i(TAG, "스킵(서버에 같은 이미지 있음 - " + resp.body().getAccessId() + "): "
+                                    + image.getFilename());
+                            callback.onResult(true, null);
+                            return;
                         }
+                        upload(api, image, encoded, userId, callback);
                     }
 
                     @Override
-                    public void onFailure(Call<UploadImageKeywordResponse> call, Throwable t) {
-                        onFailure.onFailure(image.getFilename(), t);
-                        imageFile.delete();
-                        if (++completedCount[0] == total && onComplete != null) {
-                            onComplete.onComplete();
-                        }
+                    public void onFailure(Call<UploadPrecheckResponse> call, Throwable t) {
+                        Log.w(TAG, "⚠ 중복 확인 실패, 그대로 업로드: " + image.getFilename(), t);
+                        upload(api, image, encoded, userId, callback);
                     }
                 });
+    }
 
-            } catch (Exception e) {
-                Log.e(TAG, "업로드 중 예외 발생: " + image.getFilename(), e);
-                if (onFailure != null) {
-                    onFailure.onFailure(image.getFilename(), e);
+    private static void upload(ImageUploadApi api, GalleryImage image, EncodedImage encoded,
+                               String userId, ResultCallback callback) {
+        String formattedTime = new SimpleDateFormat("yyyy:MM:dd HH:mm:ss", Locale.getDefault())
+                .format(new Date(image.getTimestamp()));
+
+        /* ▒▒ 3-a) 큰 파일: 조각 단위 이어 올리기 ▒▒ */
+        if (encoded.length() > RESUMABLE_THRESHOLD) {
+            RESUMABLE_EXECUTOR.execute(() -> {
+                UploadImageKeywordResponse body = null;
+                Throwable error = null;
+                try {
+                    body = new ResumableUploader(api).upload(image, encoded, userId, formattedTime);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    error = e;
+                } catch (IOException | RuntimeException e) {
+                    error = e;
                 }
-
-                // 전처리 에러에 대해서도 수행
-                if (++completedCount[0] == total && onComplete != null) {
-                    onComplete.onComplete();
+                if (body != null) {
+                    handleResponse(image, body, callback);
+                } else {
+                    callback.onResult(false, error);
                 }
-            }
-        }
-    }
-
-    /**
-     * ✅ Bitmap을 압축하여 임시 파일로 저장하는 메서드 (메모리 효율적)
-     */
-    private static File compressAndSaveToFile(Context context, Uri uri) throws IOException {
-        // 1) 이미지 크기 확인을 위한 Options을 미리 선언
-        BitmapFactory.Options bounds = new BitmapFactory.Options();
-        bounds.inJustDecodeBounds = true;
-        // 1) 원본 크기 확인
-        try (InputStream is = context.getContentResolver().openInputStream(uri)) {
-            if (is == null) throw new IOException("Failed to open InputStream");
-            BitmapFactory.decodeStream(is, null, bounds);
+            });
+            return;
         }
 
-        // 2) 샘플링 크기 계산
-        int originalWidth = bounds.outWidth;
-        int targetWidth = 720;
-        int scale = 1;
-        while ((originalWidth / scale) > targetWidth) {
-            scale *= 2;
-        }
-        final int sampleSize = scale;
-
-        // 2) 하드웨어 가속 디코딩(API 28+), 그 외는 BitmapFactory
-        final Bitmap bitmap;
-        if (Build.VERSION.SDK_INT >= Build.VERSION_CODES.P) {
-            ImageDecoder.Source src = ImageDecoder.createSource(
-                    context.getContentResolver(), uri
-            );
-            bitmap = ImageDecoder.decodeBitmap(src, (decoder, info, out) -> {
-                decoder.setAllocator(ImageDecoder.ALLOCATOR_HARDWARE);
-                decoder.setTargetSampleSize(sampleSize);
-            });
-        } else {
-            BitmapFactory.Options opts = new BitmapFactory.Options();
-            opts.inSampleSize = scale;
-            // 속도/메모리 절약을 위해 RGB_565로도 설정 가능
-            opts.inPreferredConfig = Bitmap.Config.ARGB_8888;
-            try (InputStream is2 = context.getContentResolver().openInputStream(uri)) {
-                bitmap = BitmapFactory.decodeStream(is2, null, opts);
+        /* ▒▒ 3-b) 작은 파일: 한 번에 multipart ▒▒ */
+        // 압축본 버퍼를 그대로 소켓에 씀 (MIME 은 원본이 아닌 인코딩 결과 기준)
+        MultipartBody.Part filePart = MultipartBody.Part.createFormData(
+                "file",
+                image.getFilename(),
+                encoded.requestBody()
+        );
+
+        RequestBody userIdBody = RequestBody.create(MediaType.parse("text/plain"), userId);
+        RequestBody accessIdBody = RequestBody.create(MediaType.parse("text/plain"), image.getContentId());
+        RequestBody imageTimeBody = RequestBody.create(MediaType.parse("text/plain"), formattedTime);
+
+        // GalleryImage에 담긴 위도/경도 사용
+        RequestBody latBody = RequestBody.create(
+                MediaType.parse("text/plain"),
+                String.valueOf(image.getLatitude())
+        );
+        RequestBody lonBody = RequestBody.create(
+                MediaType.parse("text/plain"),
+                String.valueOf(image.getLongitude())
+        );
+
+        Call<UploadImageKeywordResponse> call = api.uploadImageWithKeywords(
+                userIdBody,
+                accessIdBody,
+                imageTimeBody,
+                latBody,
+                lonBody,
+                filePart,
+                RequestBody.create(MediaType.parse("text/plain"), encoded.getContentHash())
+        );
+
+        call.enqueue(new Callback<UploadImageKeywordResponse>() {
+            @Override
+            public void onResponse(Call<UploadImageKeywordResponse> call,
+                                   Response<UploadImageKeywordResponse> resp) {
+                if (resp.isSuccessful() && resp.body() != null) {
+                    handleResponse(image, resp.body(), callback);
+                } else {
+                    // HTTP 에러
+                    Log.w(TAG, "⚠ HTTP 오류: " + resp.code());
+                    callback.onResult(false, new Exception("HTTP " + resp.code()));
+                }
             }
-        }
 
-        // 3) JPEG 압축
-        File out = new File(context.getCacheDir(),
-                "upload_" + System.currentTimeMillis() + ".jpg");
-        try (FileOutputStream fos = new FileOutputStream(out)) {
-            bitmap.compress(Bitmap.CompressFormat.JPEG, 90, fos);
-        }
-        bitmap.recycle();
-        return out;
+            @Override
+            public void onFailure(Call<UploadImageKeywordResponse> call, Throwable t) {
+                callback.onResult(false, t);
+            }
+        });
     }
 
-    // 성공 콜백 인터페이스
-    public interface SuccessCallback {
-        void onSuccess(String contentId);
-    }
+    private static void handleResponse(GalleryImage image, UploadImageKeywordResponse body,
+                                       ResultCallback callback) {
+        String msg = body.getMessage();
+
+        // ① 메시지 없으면 정상 업로드
+        if (msg == null) {
+            Log.i(TAG, "업로드 성공: " + image.getFilename());
+            callback.onResult(true, null);
 
-    // 실패 콜백 인터페이스
-    public interface FailureCallback {
-        void onFailure(String filename, Throwable throwable);
+            // ② '이미 등록된 이미지입니다.' 스킵
+        } else if (ALREADY_REGISTERED.equals(msg)) {
+            Log.i(TAG, "스킵(이미 등록): " + image.getFilename());
+            callback.onResult(true, null);
+
+            // ③ 그 외 오류는 실패 처리(세트에 추가하지 않음)
+        } else {
+            Log.w(TAG, "처리 오류: " + msg);
+            callback.onResult(false, new Exception(msg));
+        }
     }
 
-    // Completion 콜백
-    public interface CompletionCallback {
-        void onComplete();
+    // 단건 업로드 결과 콜백 (성공이면 error 는 null)
+    interface ResultCallback {
+        void onResult(boolean success, Throwable error);
     }
 }
@@ -60,10 +60,11 @@ public class IncrementalBackupWorker extends Worker {
                         .setConstraints(cons)
                         .build();
 
+        // REPLACE 로 넣으면 실행 중인 자기 자신이 취소(onStopped)되므로, 지금 실행이 끝난 뒤에 대기하도록 이어 붙임
         WorkManager.getInstance(ctx)
                 .enqueueUniqueWork(
                         UNIQUE_NAME,
-                        ExistingWorkPolicy.REPLACE,
+                        ExistingWorkPolicy.APPEND_OR_REPLACE,
                         next
                 );
 
@@ -75,9 +76,12 @@ public class IncrementalBackupWorker extends Worker {
         AtomicInteger totalHolder = new AtomicInteger();
         final NotificationCompat.Builder[] builder = new NotificationCompat.Builder[1];
 
+        BackupNetworkMonitor networkMonitor = BackupNetworkMonitor.register(ctx);
+
         // ─── ④ 실제 증분 백업 수행 & 알림 콜백 ───
         BackupManager.startBackup(
                 ctx,
+                /* incremental= */ true,
                 total -> {
                     // 업로드 시작
                     totalHolder.set(total);
@@ -119,13 +123,20 @@ public class IncrementalBackupWorker extends Worker {
                 }
         );
 
-        // ─── ⑤ 백업 완료 대기 ───
+        // ─── ⑤ 백업 완료 대기 (그동안 네트워크가 끊기면 일시정지, 다시 연결되면 재개) ───
         try {
             latch.await();
         } catch (InterruptedException e) {
             Log.e(TAG, "Interrupted while waiting for backup", e);
             Thread.currentThread().interrupt();
             return Result.failure();
+        } finally {
+            networkMonitor.close();
+        }
+
+        // 중지된 경우 남은 항목은 상태 DB 에 pending 으로 남아 있어 다음 증분 워크(①에서 예약)가 다시 올림
+        if (isStopped()) {
+            return Result.success();
         }
 
         // ─── ⑥ 워커 종료 후에도 알림이 남도록 일반 Notification으로 다시 띄우기 ───
@@ -143,6 +154,12 @@ public class IncrementalBackupWorker extends Worker {
         return Result.success();
     }
 
+    @Override
+    public void onStopped() {
+        // 새 인코딩을 멈추고 진행 중인 요청만 끝낸 뒤 latch 해제
+        BackupManager.stopBackup();
+    }
+
     private void createChannel(Context ctx) {
         if (Build.VERSION.SDK_INT < Build.VERSION_CODES.O) return;
         NotificationManager nm = ctx.getSystemService(NotificationManager.class);
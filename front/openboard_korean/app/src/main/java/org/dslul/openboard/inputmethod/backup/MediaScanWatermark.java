@@ -0,0 +1,83 @@
+package org.dslul.openboard.inputmethod.backup;
+
+import android.content.Context;
+import android.content.SharedPreferences;
+import android.os.Build;
+import android.provider.MediaStore;
+
+/**
+ * 마지막으로 스캔한 MediaStore 위치 (증분 스캔의 기준점)
+ * - API 30+: MediaStore 버전 + GENERATION_MODIFIED (기기 시계와 무관하게 단조 증가)
+ *   게시(IS_PENDING 해제)나 편집 때도 올라가므로 이미 올린 사진이 다시 조회될 수 있음 → UploadStateTracker 가 걸러냄
+ * - 그 이하: (DATE_ADDED, _ID) 쌍
+ * - MediaStore 버전이 바뀌면(초기화/볼륨 교체) generation 이 다시 시작하므로 기준점을 버리고 전체 스캔
+ */
+final class MediaScanWatermark {
+    private static final String PREF_NAME = "media_scan_state";
+    private static final String KEY_VERSION = "media_store_version";
+    private static final String KEY_GENERATION = "generation_modified";
+    // 예전 GENERATION_ADDED 기준점: 같은 카운터라 GENERATION_MODIFIED 의 하한으로 그대로 사용 가능
+    private static final String KEY_LEGACY_GENERATION = "generation_added";
+    private static final String KEY_DATE_ADDED = "date_added";
+    private static final String KEY_LAST_ID = "last_id";
+
+    final String mediaStoreVersion;
+    final long generation;
+    final long dateAdded;   // 초 단위 (MediaStore DATE_ADDED)
+    final long lastId;
+
+    MediaScanWatermark(String mediaStoreVersion, long generation, long dateAdded, long lastId) {
+        this.mediaStoreVersion = mediaStoreVersion;
+        this.generation = generation;
+        this.dateAdded = dateAdded;
+        this.lastId = lastId;
+    }
+
+    static boolean usesGeneration() {
+        return Build.VERSION.SDK_INT >= Build.VERSION_CODES.R;
+    }
+
+    static String currentVersion(Context context) {
+        return usesGeneration() ? MediaStore.getVersion(context) : "";
+    }
+
+    /** 저장된 기준점, 없거나 MediaStore 가 바뀌었으면 null (→ 전체 스캔) */
+    static MediaScanWatermark load(Context context) {
+        SharedPreferences prefs = getPrefs(context);
+        if (!prefs.contains(KEY_LAST_ID)) return null;
+
+        String version = prefs.getString(KEY_VERSION, "");
+        if (!version.equals(currentVersion(context))) return null;
+
+        return new MediaScanWatermark(
+                version,
+                prefs.getLong(KEY_GENERATION, prefs.getLong(KEY_LEGACY_GENERATION, 0)),
+                prefs.getLong(KEY_DATE_ADDED, 0),
+                prefs.getLong(KEY_LAST_ID, 0));
+    }
+
+    void save(Context context) {
+        getPrefs(context).edit()
+                .putString(KEY_VERSION, mediaStoreVersion)
+                .putLong(KEY_GENERATION, generation)
+                .remove(KEY_LEGACY_GENERATION)
+                .putLong(KEY_DATE_ADDED, dateAdded)
+                .putLong(KEY_LAST_ID, lastId)
+                .apply();
+    }
+
+    static void clear(Context context) {
+        getPrefs(context).edit().clear().apply();
+    }
+
+    private static SharedPreferences getPrefs(Context context) {
+        return context.getSharedPreferences(PREF_NAME, Context.MODE_PRIVATE);
+    }
+
+    @Override
+    public String toString() {
+        return usesGeneration()
+                ? "generation=" + generation
+                : "dateAdded=" + dateAdded + ", id=" + lastId;
+    }
+}
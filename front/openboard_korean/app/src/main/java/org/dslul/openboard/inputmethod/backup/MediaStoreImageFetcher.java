@@ -3,67 +3,123 @@ package org.dslul.openboard.inputmethod.backup;
 import android.content.Context;
 import android.database.Cursor;
 import android.net.Uri;
+import android.os.Build;
 import android.provider.MediaStore;
 import androidx.exifinterface.media.ExifInterface;
 import org.dslul.openboard.inputmethod.backup.model.GalleryImage;
+import java.io.Closeable;
 import java.io.InputStream;
 import java.util.ArrayList;
+import java.util.Iterator;
 import java.util.List;
+import java.util.NoSuchElementException;
 
+/**
+ * MediaStore 이미지 조회
+ * - 기준점(MediaScanWatermark) 이후에 추가/변경된 행만 조회 → 새 사진 한 장이면 한 행만 읽음
+ * - API 30+ 는 GENERATION_MODIFIED 기준: 스캔 당시 IS_PENDING 이라 빠졌던 행도 게시(IS_PENDING=0)될 때 값이 올라가 다음 스캔에 잡힘
+ *   (GENERATION_ADDED 는 삽입 시점 값이라, 저장 중이던 사진이 기준점보다 작아져 영영 빠짐)
+ * - 결과는 Cursor 를 감싼 Iterator 로 한 행씩 넘김 (전체 목록을 만들지 않음)
+ * - 위도/경도는 스캔 중에 파일을 열지 않음: API 28 이하는 LATITUDE/LONGITUDE 컬럼, 그 이상은 업로드 직전에 EXIF 로 읽음
+ */
 public class MediaStoreImageFetcher {
 
-    public static List<GalleryImage> getAllImages(Context context) {
-        List<GalleryImage> images = new ArrayList<>();
+    private static final boolean HAS_LOCATION_COLUMNS = Build.VERSION.SDK_INT < Build.VERSION_CODES.Q;
 
-        String[] projection = {
-                MediaStore.Images.Media._ID,
-                MediaStore.Images.Media.DISPLAY_NAME,
-                MediaStore.Images.Media.DATE_TAKEN,
-                MediaStore.Images.Media.MIME_TYPE
-        };
+    /**
+     * @param after null 이면 전체 스캔
+     */
+    public static ImageCursor query(Context context, MediaScanWatermark after) {
+        List<String> projection = new ArrayList<>();
+        projection.add(MediaStore.Images.Media._ID);
+        projection.add(MediaStore.Images.Media.DISPLAY_NAME);
+        projection.add(MediaStore.Images.Media.DATE_TAKEN);
+        projection.add(MediaStore.Images.Media.DATE_ADDED);
+        projection.add(MediaStore.Images.Media.MIME_TYPE);
+        if (MediaScanWatermark.usesGeneration()) {
+            projection.add(MediaStore.Images.Media.GENERATION_MODIFIED);
+        }
+        if (HAS_LOCATION_COLUMNS) {
+            projection.add(MediaStore.Images.Media.LATITUDE);
+            projection.add(MediaStore.Images.Media.LONGITUDE);
+        }
 
-        try (Cursor cursor = context.getContentResolver().query(
-                MediaStore.Images.Media.EXTERNAL_CONTENT_URI,
-                projection,
-                null, null,
-                MediaStore.Images.Media.DATE_TAKEN + " DESC"
-        )) {
-            if (cursor == null) return images;
-
-            int idCol       = cursor.getColumnIndexOrThrow(MediaStore.Images.Media._ID);
-            int nameCol     = cursor.getColumnIndexOrThrow(MediaStore.Images.Media.DISPLAY_NAME);
-            int dateCol     = cursor.getColumnIndexOrThrow(MediaStore.Images.Media.DATE_TAKEN);
-            int mimeCol     = cursor.getColumnIndexOrThrow(MediaStore.Images.Media.MIME_TYPE);
-
-            while (cursor.moveToNext()) {
-                String id      = cursor.getString(idCol);
-                String name    = cursor.getString(nameCol);
-                long dateTaken = cursor.getLong(dateCol);
-                String mime    = cursor.getString(mimeCol);
-
-                Uri contentUri = Uri.withAppendedPath(
-                        MediaStore.Images.Media.EXTERNAL_CONTENT_URI,
-                        id
-                );
-
-                // Exif에서 위도/경도 추출
-                double[] latLong = extractLatLong(context, contentUri);
-
-                images.add(new GalleryImage(
-                        contentUri,
-                        name,
-                        id,
-                        dateTaken,
-                        mime,
-                        latLong[0],
-                        latLong[1]
-                ));
+        String selection = null;
+        String[] args = null;
+        String sortOrder;
+        if (MediaScanWatermark.usesGeneration()) {
+            if (after != null) {
+                selection = MediaStore.Images.Media.GENERATION_MODIFIED + " > ?";
+                args = new String[]{String.valueOf(after.generation)};
             }
-        } catch (Exception e) {
-            e.printStackTrace();
+            sortOrder = MediaStore.Images.Media.GENERATION_MODIFIED + " ASC";
+        } else {
+            if (after != null) {
+                // 같은 초에 여러 장이 추가될 수 있으므로 _ID 로 순서를 끊음
+                selection = MediaStore.Images.Media.DATE_ADDED + " > ? OR ("
+                        + MediaStore.Images.Media.DATE_ADDED + " = ? AND "
+                        + MediaStore.Images.Media._ID + " > ?)";
+                args = new String[]{
+                        String.valueOf(after.dateAdded),
+                        String.valueOf(after.dateAdded),
+                        String.valueOf(after.lastId)
+                };
+            }
+            sortOrder = MediaStore.Images.Media.DATE_ADDED + " ASC, " + MediaStore.Images.Media._ID + " ASC";
         }
 
-        return images;
+        Cursor cursor = context.getContentResolver().query(
+                MediaStore.Images.Media.EXTERNAL_CONTENT_URI,
+                projection.toArray(new String[0]),
+                selection, args,
+                sortOrder
+        );
+        return new ImageCursor(cursor, after, MediaScanWatermark.currentVersion(context));
+    }
+
+    /**
+     * 지정한 _ID 의 이미지만 조회 (증분 백업에서 이전 실행이 끝내지 못한 항목을 다시 읽을 때)
+     * - 그 사이 삭제된 사진은 결과에 없음, 기준점은 쓰지 않음
+     */
+    public static ImageCursor queryByIds(Context context, List<Long> ids) {
+        List<String> projection = new ArrayList<>();
+        projection.add(MediaStore.Images.Media._ID);
+        projection.add(MediaStore.Images.Media.DISPLAY_NAME);
+        projection.add(MediaStore.Images.Media.DATE_TAKEN);
+        projection.add(MediaStore.Images.Media.DATE_ADDED);
+        projection.add(MediaStore.Images.Media.MIME_TYPE);
+        if (MediaScanWatermark.usesGeneration()) {
+            projection.add(MediaStore.Images.Media.GENERATION_MODIFIED);
+        }
+        if (HAS_LOCATION_COLUMNS) {
+            projection.add(MediaStore.Images.Media.LATITUDE);
+            projection.add(MediaStore.Images.Media.LONGITUDE);
+        }
+
+        StringBuilder selection = new StringBuilder(MediaStore.Images.Media._ID).append(" IN (");
+        String[] args = new String[ids.size()];
+        for (int i = 0; i < ids.size(); i++) {
+            selection.append(i == 0 ? "?" : ",?");
+            args[i] = String.valueOf(ids.get(i));
+        }
+        selection.append(')');
+
+        Cursor cursor = context.getContentResolver().query(
+                MediaStore.Images.Media.EXTERNAL_CONTENT_URI,
+                projection.toArray(new String[0]),
+                selection.toString(), args,
+                MediaStore.Images.Media._ID + " ASC"
+        );
+        return new ImageCursor(cursor, null, MediaScanWatermark.currentVersion(context));
+    }
+
+    /**
+     * 업로드 직전에 EXIF 에서 위도/경도를 읽어 채움 (이미 있으면 그대로 반환)
+     */
+    public static GalleryImage withLocation(Context context, GalleryImage image) {
+        if (image.hasLocation()) return image;
+        double[] latLong = extractLatLong(context, image.getUri());
+        return image.withLocation(latLong[0], latLong[1]);
     }
 
     private static double[] extractLatLong(Context ctx, Uri uri) {
@@ -78,4 +134,108 @@ public class MediaStoreImageFetcher {
         } catch (Exception ignored) { }
         return new double[]{lat, lon};
     }
+
+    /**
+     * Cursor 기반 이미지 Iterator, 다 읽은 뒤 watermark() 로 다음 기준점을 얻음
+     */
+    public static final class ImageCursor implements Iterator<GalleryImage>, Closeable {
+        private final Cursor cursor;
+        private final String mediaStoreVersion;
+        private final int idCol, nameCol, dateTakenCol, dateAddedCol, mimeCol, generationCol, latCol, lonCol;
+
+        private boolean hasNextRow;
+        private int count;
+        private long maxGeneration, maxDateAdded, maxId;
+
+        private ImageCursor(Cursor cursor, MediaScanWatermark after, String mediaStoreVersion) {
+            this.cursor = cursor;
+            this.mediaStoreVersion = mediaStoreVersion;
+            if (after != null) {
+                maxGeneration = after.generation;
+                maxDateAdded = after.dateAdded;
+                maxId = after.lastId;
+            }
+            if (cursor == null) {
+                idCol = nameCol = dateTakenCol = dateAddedCol = mimeCol = generationCol = latCol = lonCol = -1;
+                return;
+            }
+            idCol        = cursor.getColumnIndexOrThrow(MediaStore.Images.Media._ID);
+            nameCol      = cursor.getColumnIndexOrThrow(MediaStore.Images.Media.DISPLAY_NAME);
+            dateTakenCol = cursor.getColumnIndexOrThrow(MediaStore.Images.Media.DATE_TAKEN);
+            dateAddedCol = cursor.getColumnIndexOrThrow(MediaStore.Images.Media.DATE_ADDED);
+            mimeCol      = cursor.getColumnIndexOrThrow(MediaStore.Images.Media.MIME_TYPE);
+            generationCol = MediaScanWatermark.usesGeneration()
+                    ? cursor.getColumnIndexOrThrow(MediaStore.Images.Media.GENERATION_MODIFIED) : -1;
+            latCol = HAS_LOCATION_COLUMNS ? cursor.getColumnIndex(MediaStore.Images.Media.LATITUDE) : -1;
+            lonCol = HAS_LOCATION_COLUMNS ? cursor.getColumnIndex(MediaStore.Images.Media.LONGITUDE) : -1;
+            hasNextRow = cursor.moveToFirst();
+        }
+
+        @Override
+        public boolean hasNext() {
+            return hasNextRow;
+        }
+
+        @Override
+        public GalleryImage next() {
+            if (!hasNextRow) throw new NoSuchElementException();
+
+            long id        = cursor.getLong(idCol);
+            String name    = cursor.getString(nameCol);
+            long dateAdded = cursor.getLong(dateAddedCol);
+            long dateTaken = cursor.isNull(dateTakenCol) ? 0 : cursor.getLong(dateTakenCol);
+            String mime    = cursor.getString(mimeCol);
+
+            // 위치 컬럼이 없으면 NaN → 업로드 단계에서 EXIF 로 채움
+            double lat = Double.NaN, lon = Double.NaN;
+            if (latCol >= 0 && lonCol >= 0) {
+                lat = cursor.getDouble(latCol);
+                lon = cursor.getDouble(lonCol);
+            }
+
+            if (generationCol >= 0) {
+                maxGeneration = Math.max(maxGeneration, cursor.getLong(generationCol));
+            }
+            if (dateAdded > maxDateAdded || (dateAdded == maxDateAdded && id > maxId)) {
+                maxDateAdded = dateAdded;
+                maxId = id;
+            }
+            count++;
+            hasNextRow = cursor.moveToNext();
+
+            Uri contentUri = Uri.withAppendedPath(
+                    MediaStore.Images.Media.EXTERNAL_CONTENT_URI,
+                    String.valueOf(id)
+            );
+            return new GalleryImage(
+                    contentUri,
+                    name,
+                    String.valueOf(id),
+                    dateTaken > 0 ? dateTaken : dateAdded * 1000L, // DATE_TAKEN 이 없으면 DATE_ADDED
+                    mime,
+                    lat,
+                    lon
+            );
+        }
+
+        /** ContentResolver 가 Cursor 를 돌려주지 못했는지 (결과가 비어 있는 것과 구분) */
+        boolean failed() {
+            return cursor == null;
+        }
+
+        /** 지금까지 읽은 행 수 */
+        public int getCount() {
+            return count;
+        }
+
+        /** 지금까지 읽은 행 기준의 다음 기준점 */
+        MediaScanWatermark watermark() {
+            return new MediaScanWatermark(mediaStoreVersion, maxGeneration, maxDateAdded, maxId);
+        }
+
+        @Override
+        public void close() {
+            if (cursor != null) cursor.close();
+        }
+    }
 }
@@ -0,0 +1,136 @@
+package org.dslul.openboard.inputmethod.backup;
+
+import android.util.Log;
+
+import com.google.gson.Gson;
+
+import org.dslul.openboard.inputmethod.backup.model.GalleryImage;
+import org.dslul.openboard.inputmethod.backup.model.UploadImageKeywordResponse;
+import org.dslul.openboard.inputmethod.backup.model.UploadSessionResponse;
+import org.dslul.openboard.inputmethod.latin.network.ImageUploadApi;
+
+import java.io.IOException;
+import java.io.Reader;
+
+import okhttp3.ResponseBody;
+import retrofit2.Response;
+
+/**
+ * 큰 압축본을 CHUNK_SIZE 조각으로 나눠 올리는 이어 올리기 업로더 (서버: rag/app/api/image_upload_resumable.py)
+ * - 서버는 저장을 끝낸 offset 을 응답 → 연결이 끊기면 세션 조회로 offset 을 다시 받아 그 지점부터 보냄
+ * - upload_id 는 서버가 (user_id, access_id, content_hash) 로 정함 → 앱이 죽었다 살아나도 같은 압축본이면 이어 올림
+ * - 동기(execute) 호출이므로 OkHttp 콜백 스레드가 아닌 별도 스레드에서 실행
+ */
+final class ResumableUploader {
+    private static final String TAG = "Backup - ResumableUploader";
+
+    static final int CHUNK_SIZE = 256 * 1024;
+    private static final int MAX_RETRIES = 4;          // 진척 없이 연속으로 실패해도 되는 횟수
+    private static final long BASE_BACKOFF_MS = 500;   // 500ms → 1s → 2s → 4s
+
+    private final ImageUploadApi api;
+    private final Gson gson = new Gson();
+
+    ResumableUploader(ImageUploadApi api) {
+        this.api = api;
+    }
+
+    /**
+     * 세션 생성(또는 이어가기) → 남은 조각 전송 → complete 응답 반환
+     * @throws IOException 재시도 횟수를 넘겼거나 재시도해도 소용없는 응답(404, 413, 422 등)
+     */
+    UploadImageKeywordResponse upload(GalleryImage image, EncodedImage encoded, String userId, String imageTime)
+            throws IOException, InterruptedException {
+        long total = encoded.length();
+        String uploadId = null;
+        long offset = 0;
+        boolean resync = false;
+        int failures = 0;
+
+        while (true) {
+            try {
+                if (uploadId == null) {
+                    UploadSessionResponse session = body(api.createUploadSession(
+                            userId,
+                            image.getContentId(),
+                            imageTime,
+                            String.valueOf(image.getLatitude()),
+                            String.valueOf(image.getLongitude()),
+                            encoded.getContentHash(),
+                            total
+                    ).execute());
+                    uploadId = session.getUploadId();
+                    offset = session.getOffset();
+                    if (offset > 0) {
+                        Log.i(TAG, "🔁 이어 올리기: " + image.getFilename() + " " + offset + "/" + total);
+                    }
+                } else if (resync) {
+                    offset = body(api.getUploadSession(uploadId).execute()).getOffset();
+                }
+                resync = false;
+
+                if (offset < total) {
+                    long acked = sendChunk(uploadId, encoded, offset, total);
+                    if (acked > offset) failures = 0;
+                    offset = acked;
+                    continue;
+                }
+                return body(api.completeUploadSession(uploadId).execute());
+
+            } catch (IOException e) {
+                if (!isRetryable(e) || ++failures > MAX_RETRIES) throw e;
+                Log.w(TAG, "⚠ 전송 실패, offset 확인 후 재시도 (" + failures + "/" + MAX_RETRIES + "): "
+                        + image.getFilename() + " - " + e);
+                Thread.sleep(BASE_BACKOFF_MS << (failures - 1));
+                resync = true;
+            }
+        }
+    }
+
+    /** offset 부터 한 조각 전송 후 서버가 확인한 offset 반환 (409 면 서버 offset 으로 맞춤) */
+    private long sendChunk(String uploadId, EncodedImage encoded, long offset, long total) throws IOException {
+        int length = (int) Math.min(CHUNK_SIZE, total - offset);
+        Response<UploadSessionResponse> resp =
+                api.putUploadChunk(uploadId, offset, encoded.chunk(offset, length)).execute();
+        if (resp.code() == 409) {
+            UploadSessionResponse server = parseError(resp.errorBody());
+            if (server != null) {
+                Log.i(TAG, "↩ offset 맞춤 " + offset + " → " + server.getOffset());
+                return server.getOffset();
+            }
+        }
+        return body(resp).getOffset();
+    }
+
+    private static <T> T body(Response<T> resp) throws IOException {
+        if (!resp.isSuccessful() || resp.body() == null) {
+            throw new HttpStatusException(resp.code());
+        }
+        return resp.body();
+    }
+
+    private UploadSessionResponse parseError(ResponseBody errorBody) {
+        if (errorBody == null) return null;
+        try (Reader reader = errorBody.charStream()) {
+            return gson.fromJson(reader, UploadSessionResponse.class);
+        } catch (Exception e) {
+            return null;
+        }
+    }
+
+    /** 끊김/타임아웃, 5xx, 409(조각 도중 어긋남)만 재시도 */
+    private static boolean isRetryable(IOException e) {
+        if (!(e instanceof HttpStatusException)) return true;
+        int code = ((HttpStatusException) e).code;
+        return code >= 500 || code == 409 || code == 408 || code == 429;
+    }
+
+    static final class HttpStatusException extends IOException {
+        final int code;
+
+        HttpStatusException(int code) {
+            super("HTTP " + code);
+            this.code = code;
+        }
+    }
+}
@@ -0,0 +1,276 @@
+package org.dslul.openboard.inputmethod.backup;
+
+import android.content.Context;
+import android.util.Log;
+
+import org.dslul.openboard.inputmethod.backup.model.GalleryImage;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 업로드 파이프라인: 인코딩 → 네트워크 → 상태 저장 3단계, 단계마다 동시 실행 수가 제한됨
+ * - 인코딩: ENCODE_THREADS 개 스레드. 전체 진행 중인 항목 수(window)가 다 차면 서버 응답이 올 때까지 다음 디코딩을 시작하지 않음
+ *   → 5,000장이어도 메모리의 압축본 버퍼는 최대 window 개 (ImageEncoder 풀에서 재사용, 임시 파일 없음)
+ *   → 압축본 SHA-256 이 이미 업로드된 것과 같으면(같은 사진의 사본 등) 네트워크 단계로 넘기지 않고 완료 처리
+ *   → 지난번에 실패해 UploadSpool 에 남은 압축본은 다시 인코딩하지 않고 그대로 사용
+ * - 네트워크: AdaptiveConcurrencyLimit 가 응답 지연을 보고 1~MAX_NETWORK 사이에서 동시 요청 수를 조절
+ * - 상태 저장: 단일 스레드가 결과(성공/실패+오류)를 COMMIT_BATCH 개씩 모아 한 트랜잭션으로 기록 (중간에 멈춰도 완료분은 남음)
+ * - pause(): 새 인코딩만 멈추고 진행 중인 요청은 마저 끝냄 / stop(): 남은 항목을 버리고 진행 중인 요청만 끝낸 뒤 종료
+ */
+final class UploadPipeline {
+    private static final String TAG = "Backup - UploadPipeline";
+
+    private static final int ENCODE_THREADS =
+            Math.max(1, Math.min(2, Runtime.getRuntime().availableProcessors() - 1));
+    private static final int INITIAL_NETWORK = 2;
+    private static final int MAX_NETWORK = 8;      // 전용 Dispatcher 의 호스트당 16개 안쪽
+    private static final int ENCODE_AHEAD = 2;     // 네트워크 창 외에 미리 인코딩해 둘 개수
+    private static final int COMMIT_BATCH = 50;
+
+    interface Listener {
+        /** 항목 하나가 (성공이든 실패든) 끝날 때마다 호출, done 은 누적 개수 */
+        void onProgress(long done);
+
+        /** 모든 항목 처리가 끝나거나 stop() 이후 진행 중인 요청이 모두 끝나면 한 번 호출 */
+        void onFinished(int uploaded, int failed, boolean stopped);
+    }
+
+    // 인코딩이 끝나 네트워크 단계로 넘어갈 항목
+    private static final class Encoded {
+        final GalleryImage image;
+        final EncodedImage data;
+
+        Encoded(GalleryImage image, EncodedImage data) {
+            this.image = image;
+            this.data = data;
+        }
+    }
+
+    private static final Encoded END = new Encoded(null, null);
+
+    private final Context context;
+    private final String userId;
+    private final List<GalleryImage> images;
+    private final Listener listener;
+    private final ImageEncoder.Format format;
+
+    private final ExecutorService encodeExecutor = Executors.newFixedThreadPool(ENCODE_THREADS);
+    private final ExecutorService commitExecutor = Executors.newSingleThreadExecutor();
+    private final LinkedBlockingQueue<Encoded> encoded = new LinkedBlockingQueue<>();
+    private final Semaphore window = new Semaphore(MAX_NETWORK + ENCODE_AHEAD);
+    private final AdaptiveConcurrencyLimit networkLimit =
+            new AdaptiveConcurrencyLimit(INITIAL_NETWORK, 1, MAX_NETWORK);
+
+    private final AtomicInteger submitted = new AtomicInteger();
+    private final AtomicInteger done = new AtomicInteger();
+    private final AtomicInteger uploaded = new AtomicInteger();
+    private final AtomicInteger failed = new AtomicInteger();
+    private final AtomicBoolean finished = new AtomicBoolean();
+    // commitExecutor 에서만 접근
+    private final Map<String, String> pendingUploaded = new HashMap<>(); // contentId → 압축본 해시
+    private final Map<String, String> pendingFailed = new HashMap<>();
+
+    private final Object pauseLock = new Object();
+    private boolean paused;
+    private volatile boolean stopped;
+    private volatile boolean feedDone;
+
+    private Thread feeder;
+    private Thread dispatcher;
+
+    UploadPipeline(Context context, String userId, List<GalleryImage> images, Listener listener) {
+        this.context = context;
+        this.userId = userId;
+        this.images = images;
+        this.listener = listener;
+        this.format = ImageEncoder.getFormat(context);
+    }
+
+    void start() {
+        feeder = new Thread(this::feed, "BackupEncodeFeeder");
+        dispatcher = new Thread(this::dispatch, "BackupNetworkDispatcher");
+        dispatcher.start();
+        feeder.start();
+    }
+
+    void pause() {
+        synchronized (pauseLock) {
+            paused = true;
+        }
+        Log.i(TAG, "⏸ 업로드 일시정지 (진행 중 " + (submitted.get() - done.get()) + "건은 마저 처리)");
+    }
+
+    void resume() {
+        synchronized (pauseLock) {
+            paused = false;
+            pauseLock.notifyAll();
+        }
+        Log.i(TAG, "▶ 업로드 재개");
+    }
+
+    void stop() {
+        stopped = true;
+        synchronized (pauseLock) {
+            pauseLock.notifyAll();
+        }
+        if (feeder != null) {
+            feeder.interrupt();
+        }
+    }
+
+    /* ───────── 1단계: 인코딩 ───────── */
+
+    private void feed() {
+        UploadSpool.cleanUp(context);
+        try {
+            for (GalleryImage image : images) {
+                awaitResumed();
+                if (stopped) break;
+                window.acquire(); // 서버 응답(ack)이 와야 반환됨
+                if (stopped) {
+                    window.release();
+                    break;
+                }
+                submitted.incrementAndGet();
+                encodeExecutor.execute(() -> encode(image));
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            feedDone = true;
+            finishIfDrained();
+        }
+    }
+
+    private void encode(GalleryImage image) {
+        if (stopped) {
+            complete(image, null, false, null, false);
+            return;
+        }
+        EncodedImage data = null;
+        try {
+            // 스캔 때 미뤄 둔 EXIF 위치는 실제로 올릴 항목만 여기서 읽음
+            GalleryImage located = MediaStoreImageFetcher.withLocation(context, image);
+            data = UploadSpool.take(context, image.getContentId());
+            if (data == null) {
+                data = ImageEncoder.encode(context, image.getUri(), format);
+            }
+            String hash = data.getContentHash();
+            String sameAs = UploadStateTracker.findUploadedByHash(context, hash);
+            if (sameAs != null) {
+                data.release();
+                Log.i(TAG, "스킵(이미 올린 " + sameAs + " 와 같은 내용): " + image.getFilename());
+                complete(image, hash, true, null, true);
+                return;
+            }
+            encoded.add(new Encoded(located, data));
+        } catch (Exception e) {
+            if (data != null) data.release();
+            Log.e(TAG, "인코딩 실패: " + image.getFilename(), e);
+            complete(image, null, false, e, true);
+        }
+    }
+
+    /* ───────── 2단계: 네트워크 ───────── */
+
+    private void dispatch() {
+        try {
+            while (true) {
+                Encoded item = encoded.take();
+                if (item == END) return;
+                if (stopped) {
+                    item.data.release();
+                    complete(item.image, null, false, null, false);
+                    continue;
+                }
+                networkLimit.acquire();
+                long startNanos = System.nanoTime();
+                ImageUploader.send(context, item.image, item.data, userId, (success, error) -> {
+                    networkLimit.release(System.nanoTime() - startNanos, success);
+                    if (!success) {
+                        // 다음 시도 때 다시 디코딩/압축하지 않도록 실패분만 디스크에 보관
+                        UploadSpool.save(context, item.image.getContentId(), item.data);
+                    }
+                    item.data.release();
+                    complete(item.image, item.data.getContentHash(), success, error, true);
+                });
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /* ───────── 3단계: 상태 저장 ───────── */
+
+    private void complete(GalleryImage image, String contentHash, boolean success, Throwable error, boolean counted) {
+        if (success) {
+            uploaded.incrementAndGet();
+            commitExecutor.execute(() -> {
+                pendingUploaded.put(image.getContentId(), contentHash);
+                flushCommitsIfFull();
+            });
+        } else if (counted) {
+            failed.incrementAndGet();
+            Log.e(TAG, "업로드 실패: " + image.getFilename(), error);
+            String message = error == null ? null : String.valueOf(error.getMessage());
+            commitExecutor.execute(() -> {
+                pendingFailed.put(image.getContentId(), message);
+                flushCommitsIfFull();
+            });
+        }
+
+        window.release();
+        listener.onProgress(done.incrementAndGet());
+        finishIfDrained();
+    }
+
+    private void flushCommitsIfFull() {
+        if (pendingUploaded.size() + pendingFailed.size() >= COMMIT_BATCH) {
+            flushCommits();
+        }
+    }
+
+    private void flushCommits() {
+        if (pendingUploaded.isEmpty() && pendingFailed.isEmpty()) return;
+        try {
+            UploadStateTracker.recordResults(context, pendingUploaded, pendingFailed);
+        } catch (RuntimeException e) {
+            // 기록 실패 시 다음 실행에서 다시 업로드됨 (서버는 중복을 스킵)
+            Log.e(TAG, "업로드 상태 기록 실패", e);
+        }
+        pendingUploaded.clear();
+        pendingFailed.clear();
+    }
+
+    private void finishIfDrained() {
+        if (!feedDone || done.get() != submitted.get() || !finished.compareAndSet(false, true)) {
+            return;
+        }
+        encoded.add(END);
+        encodeExecutor.shutdown();
+        commitExecutor.execute(() -> {
+            flushCommits();
+            ImageEncoder.trimPools();
+            Log.i(TAG, "🏁 업로드 종료 - 성공=" + uploaded.get() + ", 실패=" + failed.get()
+                    + (stopped ? " (중단됨)" : "") + ", 마지막 동시 요청 수=" + networkLimit.getLimit());
+            listener.onFinished(uploaded.get(), failed.get(), stopped);
+        });
+        commitExecutor.shutdown();
+    }
+
+    private void awaitResumed() throws InterruptedException {
+        synchronized (pauseLock) {
+            while (paused && !stopped) {
+                pauseLock.wait();
+            }
+        }
+    }
+}
@@ -0,0 +1,135 @@
+package org.dslul.openboard.inputmethod.backup;
+
+import android.content.Context;
+import android.util.Log;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Arrays;
+import java.util.Comparator;
+
+/**
+ * 업로드에 실패한 압축본을 보관하는 디스크 스풀 (cacheDir/upload_spool, 전체 MAX_BYTES 이하)
+ * - 다음 시도에서 디코딩/압축 없이 같은 바이트(= 같은 content_hash)로 올리므로 서버의 이어 올리기 세션도 그대로 이어짐
+ * - 정상 경로는 디스크를 쓰지 않고, 실패한 항목만 여기에 씀
+ * - 한도를 넘으면 오래된 파일부터 삭제, 예전 방식의 cacheDir/upload_*.jpg 임시 파일도 여기서 정리
+ */
+final class UploadSpool {
+    private static final String TAG = "Backup - UploadSpool";
+    private static final String DIR_NAME = "upload_spool";
+    private static final long MAX_BYTES = 32L * 1024 * 1024;
+
+    private UploadSpool() {
+    }
+
+    /** 실패한 압축본 보관 (같은 contentId 가 있으면 덮어씀) */
+    static synchronized void save(Context context, String contentId, EncodedImage image) {
+        File dir = dir(context);
+        if (!dir.isDirectory() && !dir.mkdirs()) return;
+
+        ImageEncoder.Format format = formatOf(image.getMimeType());
+        File tmp = new File(dir, contentId + ".tmp");
+        File target = new File(dir, contentId + "." + format.extension);
+        try (FileOutputStream out = new FileOutputStream(tmp)) {
+            image.writeTo(out);
+        } catch (IOException e) {
+            Log.w(TAG, "스풀 저장 실패: " + contentId, e);
+            tmp.delete();
+            return;
+        }
+        deleteSpooled(dir, contentId);
+        if (!tmp.renameTo(target)) {
+            tmp.delete();
+            return;
+        }
+        trim(dir);
+    }
+
+    /** 보관된 압축본을 꺼내고 파일은 지움, 없으면 null (다시 실패하면 save 로 다시 들어옴) */
+    static synchronized EncodedImage take(Context context, String contentId) {
+        File dir = dir(context);
+        for (ImageEncoder.Format format : ImageEncoder.Format.values()) {
+            File file = new File(dir, contentId + "." + format.extension);
+            if (!file.isFile()) continue;
+
+            ImageEncoder.PooledBuffer buffer = ImageEncoder.obtainBuffer();
+            try (InputStream in = new FileInputStream(file)) {
+                byte[] chunk = new byte[16 * 1024];
+                int n;
+                while ((n = in.read(chunk)) != -1) {
+                    buffer.write(chunk, 0, n);
+                }
+            } catch (IOException e) {
+                Log.w(TAG, "스풀 읽기 실패, 다시 인코딩: " + contentId, e);
+                ImageEncoder.releaseBuffer(buffer);
+                file.delete();
+                return null;
+            }
+            file.delete();
+            return new EncodedImage(buffer, format.mimeType);
+        }
+        return null;
+    }
+
+    /** 백업 시작 시 정리: 예전 임시 파일 삭제 + 한도 적용 */
+    static synchronized void cleanUp(Context context) {
+        File[] legacy = context.getCacheDir().listFiles(
+                (d, name) -> name.startsWith("upload_") && name.endsWith(".jpg"));
+        if (legacy != null && legacy.length > 0) {
+            for (File f : legacy) {
+                f.delete();
+            }
+            Log.i(TAG, "🧹 남아 있던 업로드 임시 파일 " + legacy.length + "개 삭제");
+        }
+        File dir = dir(context);
+        if (dir.isDirectory()) {
+            trim(dir);
+        }
+    }
+
+    static synchronized void clear(Context context) {
+        File[] files = dir(context).listFiles();
+        if (files == null) return;
+        for (File f : files) {
+            f.delete();
+        }
+    }
+
+    private static File dir(Context context) {
+        return new File(context.getCacheDir(), DIR_NAME);
+    }
+
+    private static ImageEncoder.Format formatOf(String mimeType) {
+        for (ImageEncoder.Format format : ImageEncoder.Format.values()) {
+            if (format.mimeType.equals(mimeType)) return format;
+        }
+        return ImageEncoder.Format.JPEG;
+    }
+
+    private static void deleteSpooled(File dir, String contentId) {
+        for (ImageEncoder.Format format : ImageEncoder.Format.values()) {
+            new File(dir, contentId + "." + format.extension).delete();
+        }
+    }
+
+    // 오래된 파일부터 지워 MAX_BYTES 이하로
+    private static void trim(File dir) {
+        File[] files = dir.listFiles();
+        if (files == null) return;
+        long total = 0;
+        for (File f : files) {
+            total += f.length();
+        }
+        if (total <= MAX_BYTES) return;
+
+        Arrays.sort(files, Comparator.comparingLong(File::lastModified));
+        for (File f : files) {
+            if (total <= MAX_BYTES) break;
+            total -= f.length();
+            f.delete();
+        }
+    }
+}
@@ -3,53 +3,273 @@ package org.dslul.openboard.inputmethod.backup;
 
 import android.content.Context;
 import android.content.SharedPreferences;
+import android.database.Cursor;
+import android.database.sqlite.SQLiteDatabase;
+import android.database.sqlite.SQLiteStatement;
+import android.util.Log;
 
+import org.dslul.openboard.inputmethod.backup.model.GalleryImage;
+
+import java.util.ArrayList;
 import java.util.Collections;
-import java.util.HashSet;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
 import java.util.Set;
-import java.util.concurrent.TimeUnit;
 
 /**
- * 마지막 업로드된 이미지의 timestamp를 저장/조회하는 클래스
+ * 이미지별 업로드 상태(pending / uploaded / failed, 시도 횟수, 마지막 오류)를 저장/조회하는 클래스
+ * - SQLite(BackupStateDbHelper) 에 MediaStore _ID 한 행씩 저장 → 배치마다 전체를 다시 쓰지 않음
+ * - 예전 SharedPreferences StringSet 은 처음 접근할 때 한 번 옮기고 지움
+ * - 업로드 완료 행에는 압축본 SHA-256 도 남겨, 같은 내용의 다른 사진은 업로드 전에 걸러냄
  */
 public class UploadStateTracker {
+    private static final String TAG = "Backup - UploadStateTracker";
     private static final String PREF_NAME = "upload_state";
     private static final String KEY_BACKED_UP_IDS = "backed_up_content_ids";
 
-    private static SharedPreferences getPrefs(Context context) {
-        return context.getSharedPreferences(PREF_NAME, Context.MODE_PRIVATE);
+    private static final String SQL_IS_UPLOADED =
+            "SELECT count(*) FROM " + BackupStateDbHelper.TABLE
+                    + " WHERE " + BackupStateDbHelper.COL_CONTENT_ID + " = ?"
+                    + " AND " + BackupStateDbHelper.COL_STATE + " = " + BackupStateDbHelper.STATE_UPLOADED;
+    private static final String SQL_INSERT_IF_ABSENT =
+            "INSERT OR IGNORE INTO " + BackupStateDbHelper.TABLE + " ("
+                    + BackupStateDbHelper.COL_CONTENT_ID + ", " + BackupStateDbHelper.COL_STATE + ", "
+                    + BackupStateDbHelper.COL_UPDATED_AT + ") VALUES (?, ?, ?)";
+    private static final String SQL_MARK_UPLOADED =
+            "UPDATE " + BackupStateDbHelper.TABLE + " SET "
+                    + BackupStateDbHelper.COL_STATE + " = " + BackupStateDbHelper.STATE_UPLOADED + ", "
+                    + BackupStateDbHelper.COL_ATTEMPTS + " = " + BackupStateDbHelper.COL_ATTEMPTS + " + 1, "
+                    + BackupStateDbHelper.COL_LAST_ERROR + " = NULL, "
+                    + BackupStateDbHelper.COL_CONTENT_HASH + " = COALESCE(?, " + BackupStateDbHelper.COL_CONTENT_HASH + "), "
+                    + BackupStateDbHelper.COL_UPDATED_AT + " = ? WHERE " + BackupStateDbHelper.COL_CONTENT_ID + " = ?";
+    private static final String SQL_MARK_FAILED =
+            "UPDATE " + BackupStateDbHelper.TABLE + " SET "
+                    + BackupStateDbHelper.COL_STATE + " = " + BackupStateDbHelper.STATE_FAILED + ", "
+                    + BackupStateDbHelper.COL_ATTEMPTS + " = " + BackupStateDbHelper.COL_ATTEMPTS + " + 1, "
+                    + BackupStateDbHelper.COL_LAST_ERROR + " = ?, "
+                    + BackupStateDbHelper.COL_UPDATED_AT + " = ? WHERE " + BackupStateDbHelper.COL_CONTENT_ID + " = ?";
+    // idx_upload_state_not_uploaded(부분 인덱스)만 읽음
+    private static final String SQL_FIND_NOT_UPLOADED =
+            "SELECT " + BackupStateDbHelper.COL_CONTENT_ID + " FROM " + BackupStateDbHelper.TABLE
+                    + " WHERE " + BackupStateDbHelper.COL_STATE + " != " + BackupStateDbHelper.STATE_UPLOADED;
+    private static final String SQL_FIND_UPLOADED_BY_HASH =
+            "SELECT " + BackupStateDbHelper.COL_CONTENT_ID + " FROM " + BackupStateDbHelper.TABLE
+                    + " WHERE " + BackupStateDbHelper.COL_CONTENT_HASH + " = ?"
+                    + " AND " + BackupStateDbHelper.COL_STATE + " = " + BackupStateDbHelper.STATE_UPLOADED
+                    + " LIMIT 1";
+
+    private static final String SQL_DELETE_NOT_UPLOADED =
+            "DELETE FROM " + BackupStateDbHelper.TABLE
+                    + " WHERE " + BackupStateDbHelper.COL_CONTENT_ID + " = ?"
+                    + " AND " + BackupStateDbHelper.COL_STATE + " != " + BackupStateDbHelper.STATE_UPLOADED;
+
+    private static volatile boolean migrated;
+
+    private static SQLiteDatabase getDb(Context context) {
+        SQLiteDatabase db = BackupStateDbHelper.getInstance(context).getWritableDatabase();
+        if (!migrated) {
+            migrateLegacyPrefs(context, db);
+        }
+        return db;
+    }
+
+    /** 업로드 완료로 기록된 이미지인지 (content_id PK 조회) */
+    public static boolean isBackedUp(Context context, String contentId) {
+        Long id = parseId(contentId);
+        if (id == null) return false;
+        try (SQLiteStatement stmt = getDb(context).compileStatement(SQL_IS_UPLOADED)) {
+            stmt.bindLong(1, id);
+            return stmt.simpleQueryForLong() > 0;
+        }
+    }
+
+    /** 아직 업로드 완료가 아닌 이미지만 골라 반환 (문장 하나를 재사용하며 건마다 PK 조회) */
+    public static List<GalleryImage> filterNotBackedUp(Context context, Iterator<GalleryImage> images) {
+        List<GalleryImage> result = new ArrayList<>();
+        SQLiteDatabase db = getDb(context);
+        db.beginTransactionNonExclusive();
+        try (SQLiteStatement stmt = db.compileStatement(SQL_IS_UPLOADED)) {
+            while (images.hasNext()) {
+                GalleryImage image = images.next();
+                Long id = parseId(image.getContentId());
+                if (id == null) continue;
+                stmt.bindLong(1, id);
+                if (stmt.simpleQueryForLong() == 0) {
+                    result.add(image);
+                }
+            }
+            db.setTransactionSuccessful();
+        } finally {
+            db.endTransaction();
+        }
+        return result;
+    }
+
+    /** 아직 업로드 완료가 아닌(pending / failed) 이미지의 contentId */
+    public static List<Long> findNotUploadedIds(Context context) {
+        List<Long> ids = new ArrayList<>();
+        try (Cursor c = getDb(context).rawQuery(SQL_FIND_NOT_UPLOADED, null)) {
+            while (c.moveToNext()) {
+                ids.add(c.getLong(0));
+            }
+        }
+        return ids;
+    }
+
+    /** 업로드 완료가 아닌 행 중 MediaStore 에서 사라진 사진의 행을 지움 (다시 조회하지 않도록) */
+    public static void forgetNotUploaded(Context context, List<Long> contentIds) {
+        if (contentIds.isEmpty()) return;
+        SQLiteDatabase db = getDb(context);
+        db.beginTransaction();
+        try (SQLiteStatement delete = db.compileStatement(SQL_DELETE_NOT_UPLOADED)) {
+            for (Long id : contentIds) {
+                delete.bindLong(1, id);
+                delete.executeUpdateDelete();
+            }
+            db.setTransactionSuccessful();
+        } finally {
+            db.endTransaction();
+        }
     }
 
-    /** 기존에 백업된 ID집합을 반환 */
-    public static Set<String> getBackedUpContentIds(Context context) {
-        return new HashSet<>(
-                getPrefs(context).getStringSet(KEY_BACKED_UP_IDS, Collections.emptySet())
-        );
+    /** 같은 압축본(SHA-256)으로 이미 업로드된 이미지의 contentId, 없으면 null (부분 인덱스 조회) */
+    public static String findUploadedByHash(Context context, String contentHash) {
+        try (Cursor c = getDb(context).rawQuery(SQL_FIND_UPLOADED_BY_HASH, new String[]{contentHash})) {
+            return c.moveToFirst() ? String.valueOf(c.getLong(0)) : null;
+        }
     }
 
-    /** 전체 교체(기존 코드) */
-    public static void setBackedUpContentIds(Context context, Set<String> ids) {
-        getPrefs(context)
-                .edit()
-                .putStringSet(KEY_BACKED_UP_IDS, new HashSet<>(ids))
-                .apply();
+    /** 업로드 대상으로 잡힌 이미지를 pending 으로 등록 (이미 행이 있으면 그대로 둠) */
+    public static void markPending(Context context, List<GalleryImage> images) {
+        SQLiteDatabase db = getDb(context);
+        long now = System.currentTimeMillis();
+        db.beginTransaction();
+        try (SQLiteStatement insert = db.compileStatement(SQL_INSERT_IF_ABSENT)) {
+            for (GalleryImage image : images) {
+                Long id = parseId(image.getContentId());
+                if (id == null) continue;
+                insert.bindLong(1, id);
+                insert.bindLong(2, BackupStateDbHelper.STATE_PENDING);
+                insert.bindLong(3, now);
+                insert.executeInsert();
+            }
+            db.setTransactionSuccessful();
+        } finally {
+            db.endTransaction();
+        }
+    }
+
+    /**
+     * 업로드 결과를 한 트랜잭션으로 기록
+     * @param uploaded 업로드(또는 서버에 이미 존재) 완료된 contentId → 압축본 SHA-256 (모르면 null)
+     * @param failures 실패한 contentId → 오류 메시지
+     */
+    public static void recordResults(Context context, Map<String, String> uploaded, Map<String, String> failures) {
+        SQLiteDatabase db = getDb(context);
+        long now = System.currentTimeMillis();
+        db.beginTransaction();
+        try (SQLiteStatement insert = db.compileStatement(SQL_INSERT_IF_ABSENT);
+             SQLiteStatement markUploaded = db.compileStatement(SQL_MARK_UPLOADED);
+             SQLiteStatement failed = db.compileStatement(SQL_MARK_FAILED)) {
+            for (Map.Entry<String, String> e : uploaded.entrySet()) {
+                Long id = parseId(e.getKey());
+                if (id == null) continue;
+                ensureRow(insert, id, now);
+                if (e.getValue() == null) {
+                    markUploaded.bindNull(1);
+                } else {
+                    markUploaded.bindString(1, e.getValue());
+                }
+                markUploaded.bindLong(2, now);
+                markUploaded.bindLong(3, id);
+                markUploaded.executeUpdateDelete();
+            }
+            for (Map.Entry<String, String> e : failures.entrySet()) {
+                Long id = parseId(e.getKey());
+                if (id == null) continue;
+                ensureRow(insert, id, now);
+                if (e.getValue() == null) {
+                    failed.bindNull(1);
+                } else {
+                    failed.bindString(1, e.getValue());
+                }
+                failed.bindLong(2, now);
+                failed.bindLong(3, id);
+                failed.executeUpdateDelete();
+            }
+            db.setTransactionSuccessful();
+        } finally {
+            db.endTransaction();
+        }
     }
 
     /** ✅ 새로 업로드된 ID만 추가하는 메서드 */
     public static void addBackedUpContentIds(Context context, Set<String> newIds) {
-        SharedPreferences prefs = getPrefs(context);
-        // 1) 기존에 저장된 ID들 불러와서
-        Set<String> all = new HashSet<>(prefs.getStringSet(KEY_BACKED_UP_IDS, Collections.emptySet()));
-        // 2) 새로 업로드된 ID들 추가
-        all.addAll(newIds);
-        // 3) 합친 결과를 저장
-        prefs.edit()
-                .putStringSet(KEY_BACKED_UP_IDS, all)
-                .apply();
+        Map<String, String> uploaded = new HashMap<>();
+        for (String contentId : newIds) {
+            uploaded.put(contentId, null);
+        }
+        recordResults(context, uploaded, Collections.emptyMap());
     }
 
     /** 초기화 */
     public static void clear(Context context) {
+        getDb(context).delete(BackupStateDbHelper.TABLE, null, null);
         getPrefs(context).edit().clear().apply();
+        MediaScanWatermark.clear(context); // 다음 백업은 전체 스캔
+        UploadSpool.clear(context);
+    }
+
+    private static void ensureRow(SQLiteStatement insert, long id, long now) {
+        insert.bindLong(1, id);
+        insert.bindLong(2, BackupStateDbHelper.STATE_PENDING);
+        insert.bindLong(3, now);
+        insert.executeInsert();
+    }
+
+    private static SharedPreferences getPrefs(Context context) {
+        return context.getSharedPreferences(PREF_NAME, Context.MODE_PRIVATE);
+    }
+
+    /**
+     * 예전 StringSet 을 uploaded 상태로 옮긴 뒤 키 삭제 (INSERT OR IGNORE 라 중간에 죽어도 다시 실행하면 됨)
+     */
+    private static synchronized void migrateLegacyPrefs(Context context, SQLiteDatabase db) {
+        if (migrated) return;
+        SharedPreferences prefs = getPrefs(context);
+        Set<String> legacy = prefs.getStringSet(KEY_BACKED_UP_IDS, null);
+        if (legacy != null && !legacy.isEmpty()) {
+            long now = System.currentTimeMillis();
+            db.beginTransaction();
+            try (SQLiteStatement insert = db.compileStatement(SQL_INSERT_IF_ABSENT)) {
+                for (String contentId : legacy) {
+                    Long id = parseId(contentId);
+                    if (id == null) continue;
+                    insert.bindLong(1, id);
+                    insert.bindLong(2, BackupStateDbHelper.STATE_UPLOADED);
+                    insert.bindLong(3, now);
+                    insert.executeInsert();
+                }
+                db.setTransactionSuccessful();
+            } finally {
+                db.endTransaction();
+            }
+            Log.i(TAG, "✅ 기존 백업 기록 " + legacy.size() + "건을 DB로 이전");
+        }
+        if (legacy != null) {
+            prefs.edit().remove(KEY_BACKED_UP_IDS).commit();
+        }
+        migrated = true;
+    }
+
+    private static Long parseId(String contentId) {
+        try {
+            return Long.parseLong(contentId);
+        } catch (NumberFormatException e) {
+            Log.w(TAG, "숫자가 아닌 contentId 무시: " + contentId);
+            return null;
+        }
     }
 }
@@ -8,8 +8,8 @@ public class GalleryImage {
     private final String contentId;    // MediaStore._ID
     private final long timestamp;      // DATE_TAKEN 또는 DATE_ADDED
     private final String mimeType;     // MIME_TYPE
-    private final double latitude;     // 위도
-    private final double longitude;    // 경도
+    private final double latitude;     // 위도 (NaN 이면 아직 읽지 않음)
+    private final double longitude;    // 경도 (NaN 이면 아직 읽지 않음)
 
     public GalleryImage(
             Uri uri,
@@ -37,6 +37,13 @@ public class GalleryImage {
     public double getLatitude() { return latitude; }
     public double getLongitude() { return longitude; }
 
+    /** 위치를 읽었는지 (스캔 시점에는 읽지 않고 업로드 직전에 EXIF 에서 채움) */
+    public boolean hasLocation() { return !Double.isNaN(latitude) && !Double.isNaN(longitude); }
+
+    public GalleryImage withLocation(double latitude, double longitude) {
+        return new GalleryImage(uri, filename, contentId, timestamp, mimeType, latitude, longitude);
+    }
+
     @Override
     public String toString() {
         return "GalleryImage{" +
@@ -0,0 +1,12 @@
+package org.dslul.openboard.inputmethod.backup.model;
+
+import com.google.gson.annotations.SerializedName;
+
+/** 업로드 전 중복 확인 결과 (같은 access_id 또는 같은 압축본이 서버에 있으면 exists) */
+public class UploadPrecheckResponse {
+    private boolean exists;
+    @SerializedName("access_id")    private String accessId;   // 이미 등록된 쪽의 access_id
+
+    public boolean exists()     { return exists;   }
+    public String getAccessId() { return accessId; }
+}
@@ -0,0 +1,14 @@
+package org.dslul.openboard.inputmethod.backup.model;
+
+import com.google.gson.annotations.SerializedName;
+
+/** 이어 올리기 세션 상태 (서버가 저장을 끝낸 바이트 수 = offset) */
+public class UploadSessionResponse {
+    @SerializedName("upload_id")    private String uploadId;
+    private long offset;
+    @SerializedName("total_size")   private long totalSize;
+
+    public String getUploadId() { return uploadId; }
+    public long getOffset()     { return offset;   }
+    public long getTotalSize()  { return totalSize;}
+}
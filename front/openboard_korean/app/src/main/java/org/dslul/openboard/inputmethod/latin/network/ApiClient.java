@@ -198,8 +198,9 @@ public final class ApiClient {
             }
         };
 
+        // BODY 면 이미지 본문을 로그용으로 한 번 더 버퍼에 복사하므로 업로드 전용은 헤더까지만
         HttpLoggingInterceptor logger = new HttpLoggingInterceptor()
-                .setLevel(HttpLoggingInterceptor.Level.BODY);
+                .setLevel(HttpLoggingInterceptor.Level.HEADERS);
 
         /* ③ 업로드 전용 OkHttpClient */
         OkHttpClient uploadClient = new OkHttpClient.Builder()
@@ -2,6 +2,8 @@ package org.dslul.openboard.inputmethod.latin.network;
 
 
 import org.dslul.openboard.inputmethod.backup.model.UploadImageKeywordResponse;
+import org.dslul.openboard.inputmethod.backup.model.UploadPrecheckResponse;
+import org.dslul.openboard.inputmethod.backup.model.UploadSessionResponse;
 
 import okhttp3.MultipartBody;
 import okhttp3.RequestBody;
@@ -18,6 +20,44 @@ public interface ImageUploadApi {
             @Part("image_time")    RequestBody imageTime,
             @Part("latitude")      RequestBody latitude,
             @Part("longitude")     RequestBody longitude,
-            @Part MultipartBody.Part file
+            @Part MultipartBody.Part file,
+            @Part("content_hash")  RequestBody contentHash   // null 이면 전송 안 함
     );
+
+    /* ───────── 업로드 전 중복 확인 / 이어 올리기 (image_upload_resumable.py) ───────── */
+
+    @FormUrlEncoded
+    @POST("rag/upload-image-keyword/check")
+    Call<UploadPrecheckResponse> checkImageExists(
+            @Field("user_id")      String userId,
+            @Field("access_id")    String accessId,
+            @Field("content_hash") String contentHash
+    );
+
+    /** 세션 생성 (같은 user/access/hash 세션이 있으면 지금까지 받은 offset 반환) */
+    @FormUrlEncoded
+    @POST("rag/upload-image-keyword/sessions")
+    Call<UploadSessionResponse> createUploadSession(
+            @Field("user_id")      String userId,
+            @Field("access_id")    String accessId,
+            @Field("image_time")   String imageTime,
+            @Field("latitude")     String latitude,
+            @Field("longitude")    String longitude,
+            @Field("content_hash") String contentHash,
+            @Field("total_size")   long totalSize
+    );
+
+    @GET("rag/upload-image-keyword/sessions/{uploadId}")
+    Call<UploadSessionResponse> getUploadSession(@Path("uploadId") String uploadId);
+
+    /** offset 이 서버 기록과 다르면 409 + 서버 offset */
+    @PUT("rag/upload-image-keyword/sessions/{uploadId}")
+    Call<UploadSessionResponse> putUploadChunk(
+            @Path("uploadId")            String uploadId,
+            @Header("Upload-Offset")     long offset,
+            @Body                        RequestBody chunk
+    );
+
+    @POST("rag/upload-image-keyword/sessions/{uploadId}/complete")
+    Call<UploadImageKeywordResponse> completeUploadSession(@Path("uploadId") String uploadId);
 }
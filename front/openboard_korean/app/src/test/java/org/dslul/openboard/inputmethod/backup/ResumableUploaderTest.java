@@ -0,0 +1,212 @@
+package org.dslul.openboard.inputmethod.backup;
+
+import org.dslul.openboard.inputmethod.backup.model.GalleryImage;
+import org.dslul.openboard.inputmethod.backup.model.UploadImageKeywordResponse;
+import org.dslul.openboard.inputmethod.latin.network.ImageUploadApi;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import okhttp3.OkHttpClient;
+import okhttp3.mockwebserver.Dispatcher;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import okhttp3.mockwebserver.RecordedRequest;
+import okhttp3.mockwebserver.SocketPolicy;
+import retrofit2.Retrofit;
+import retrofit2.converter.gson.GsonConverterFactory;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * ResumableUploader ↔ 이어 올리기 서버(rag/app/api/image_upload_resumable.py) 프로토콜 테스트
+ * - FakeServer 가 세션/offset/409 동작을 흉내 내고, 연결 끊김은 MockWebServer SocketPolicy 로 만듦
+ */
+public class ResumableUploaderTest {
+    private static final int SIZE = ResumableUploader.CHUNK_SIZE * 4 + 12_345;
+
+    private final byte[] data = new byte[SIZE];
+    private final GalleryImage image = new GalleryImage(null, "a.jpg", "42", 0, "image/jpeg", 37.5, 127.0);
+    private final FakeServer server = new FakeServer();
+    private MockWebServer web;
+    private EncodedImage encoded;
+
+    @Before
+    public void setUp() throws Exception {
+        new Random(7).nextBytes(data);
+        ImageEncoder.PooledBuffer buffer = ImageEncoder.obtainBuffer();
+        buffer.write(data, 0, data.length);
+        encoded = new EncodedImage(buffer, "image/jpeg");
+        web = new MockWebServer();
+    }
+
+    @After
+    public void tearDown() throws Exception {
+        encoded.release();
+        web.shutdown();
+    }
+
+    @Test
+    public void 조각_응답이_유실되면_서버_offset_을_조회해_보낸_조각을_다시_보내지_않는다() throws Exception {
+        server.dropAckOnPut = 2; // 서버에는 저장됐지만 응답이 오지 않음
+        web.setDispatcher(server);
+
+        UploadImageKeywordResponse response = upload();
+
+        assertEquals("success", response.getStatus());
+        assertArrayEquals(data, server.stored.toByteArray());
+        assertTrue(server.log.toString(), server.log.contains("GET"));
+        assertEquals(SIZE, server.bytesReceived);
+    }
+
+    @Test
+    public void offset_이_어긋나면_409_응답의_서버_offset_부터_보낸다() throws Exception {
+        web.setDispatcher(new Dispatcher() {
+            @Override
+            public MockResponse dispatch(RecordedRequest request) {
+                MockResponse response = server.dispatch(request);
+                if (request.getMethod().equals("POST") && request.getPath().endsWith("/sessions")) {
+                    // 세션 생성 응답 직후 다른 시도가 한 조각을 먼저 올린 상황
+                    server.stored.write(data, 0, ResumableUploader.CHUNK_SIZE);
+                }
+                return response;
+            }
+        });
+
+        UploadImageKeywordResponse response = upload();
+
+        assertEquals("success", response.getStatus());
+        assertArrayEquals(data, server.stored.toByteArray());
+        assertTrue(server.log.toString(), server.log.contains("PUT 409"));
+    }
+
+    @Test
+    public void 조각_전송_도중_연결이_끊기면_세션을_조회해_그_지점부터_보낸다() throws Exception {
+        AtomicInteger disconnects = new AtomicInteger();
+        web.setDispatcher(new Dispatcher() {
+            // 두 번째 조각은 본문을 받다가 끊음 (저장 안 됨, dispatch 까지 오지 않음)
+            // peek() 은 요청 하나에 여러 번 불리므로 다음 요청이 dispatch 될 때 해제
+            private volatile boolean armed;
+
+            @Override
+            public MockResponse dispatch(RecordedRequest request) {
+                if (armed) {
+                    armed = false;
+                    disconnects.incrementAndGet();
+                }
+                MockResponse response = server.dispatch(request);
+                if (request.getMethod().equals("PUT") && server.puts.get() == 1) {
+                    armed = true;
+                }
+                return response;
+            }
+
+            @Override
+            public MockResponse peek() {
+                return armed
+                        ? new MockResponse().setSocketPolicy(SocketPolicy.DISCONNECT_DURING_REQUEST_BODY)
+                        : super.peek();
+            }
+        });
+
+        UploadImageKeywordResponse response = upload();
+
+        assertEquals("success", response.getStatus());
+        assertEquals(1, disconnects.get());
+        assertArrayEquals(data, server.stored.toByteArray());
+        assertTrue(server.log.toString(), server.log.contains("GET"));
+    }
+
+    @Test
+    public void 서버에_저장된_offset_부터_이어_올린다() throws Exception {
+        int saved = ResumableUploader.CHUNK_SIZE * 2;
+        server.stored.write(data, 0, saved); // 앱이 죽기 전에 두 조각까지 올라간 세션
+        web.setDispatcher(server);
+
+        UploadImageKeywordResponse response = upload();
+
+        assertEquals("success", response.getStatus());
+        assertArrayEquals(data, server.stored.toByteArray());
+        assertEquals(SIZE - saved, server.bytesReceived);
+    }
+
+    private UploadImageKeywordResponse upload() throws Exception {
+        web.start();
+        // OkHttp 자체 재전송을 끄고 ResumableUploader 의 복구만 확인
+        OkHttpClient client = new OkHttpClient.Builder()
+                .readTimeout(5, TimeUnit.SECONDS)
+                .retryOnConnectionFailure(false)
+                .build();
+        ImageUploadApi api = new Retrofit.Builder()
+                .baseUrl(web.url("/"))
+                .client(client)
+                .addConverterFactory(GsonConverterFactory.create())
+                .build()
+                .create(ImageUploadApi.class);
+        return new ResumableUploader(api).upload(image, encoded, "user", "2024-01-01T00:00:00");
+    }
+
+    // 세션 생성/조회, offset 검사(409), complete 만 흉내 내는 서버
+    private static final class FakeServer extends Dispatcher {
+        final ByteArrayOutputStream stored = new ByteArrayOutputStream();
+        final AtomicInteger puts = new AtomicInteger();
+        final List<String> log = Collections.synchronizedList(new ArrayList<>());
+        long total;
+        long bytesReceived;
+        int dropAckOnPut = -1;
+
+        @Override
+        public synchronized MockResponse dispatch(RecordedRequest request) {
+            String path = request.getPath();
+            String method = request.getMethod();
+            if (method.equals("POST") && path.endsWith("/sessions")) {
+                for (String field : request.getBody().readUtf8().split("&")) {
+                    String[] kv = field.split("=");
+                    if (kv[0].equals("total_size")) total = Long.parseLong(kv[1]);
+                }
+                return session(200);
+            }
+            if (path.endsWith("/complete")) {
+                return stored.size() == total
+                        ? new MockResponse().setBody("{\"status\":\"success\"}")
+                        : session(409);
+            }
+            if (method.equals("GET")) {
+                log.add("GET");
+                return session(200);
+            }
+
+            int n = puts.incrementAndGet();
+            long offset = Long.parseLong(request.getHeader("Upload-Offset"));
+            byte[] chunk = request.getBody().readByteArray();
+            bytesReceived += chunk.length;
+            if (offset != stored.size()) {
+                log.add("PUT 409");
+                return session(409);
+            }
+            stored.write(chunk, 0, chunk.length);
+            log.add("PUT 200");
+            MockResponse response = session(200);
+            if (n == dropAckOnPut) {
+                response.setSocketPolicy(SocketPolicy.DISCONNECT_AFTER_REQUEST);
+            }
+            return response;
+        }
+
+        private MockResponse session(int code) {
+            return new MockResponse().setResponseCode(code).setBody(
+                    "{\"upload_id\":\"0123456789abcdef0123456789abcdef\",\"offset\":" + stored.size()
+                            + ",\"total_size\":" + total + "}");
+        }
+    }
+}